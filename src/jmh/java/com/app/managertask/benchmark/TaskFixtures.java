@@ -0,0 +1,55 @@
+package com.app.managertask.benchmark;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.domain.model.Task;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.bson.types.ObjectId;
+
+/**
+ * Datos de prueba de los benchmarks. La mitad de las tareas están vencidas para recorrer las dos
+ * ramas del cálculo del estado.
+ */
+final class TaskFixtures {
+
+  private static final String[][] TAGS = {
+      {"meeting", "team"}, {"release"}, {"bug", "urgent", "backend"}, {}
+  };
+
+  private TaskFixtures() {
+  }
+
+  static List<Task> tasks(int size) {
+    LocalDateTime now = LocalDateTime.now();
+    return IntStream.range(0, size)
+        .mapToObj(i -> Task.builder()
+            .id(new ObjectId().toHexString())
+            .title("Task " + i)
+            .description("Prepare agenda and send meeting invites for the team meeting " + i)
+            .dueDate(dueDate(now, i))
+            .tags(TAGS[i % TAGS.length])
+            .build())
+        .toList();
+  }
+
+  static List<CreateTaskRequest> createTaskRequests(int size) {
+    LocalDateTime now = LocalDateTime.now();
+    return IntStream.range(0, size)
+        .mapToObj(i -> {
+          CreateTaskRequest request = new CreateTaskRequest();
+          request.setTitle("Task " + i);
+          request.setDescription("Prepare agenda and send meeting invites for the team meeting "
+              + i);
+          request.setDueDate(now.plusDays(1 + i % 30).withNano(0));
+          request.setTags(TAGS[i % TAGS.length]);
+          return request;
+        })
+        .toList();
+  }
+
+  private static LocalDateTime dueDate(LocalDateTime now, int i) {
+    int days = 1 + i % 30;
+    return (i % 2 == 0 ? now.plusDays(days) : now.minusDays(days)).withNano(0);
+  }
+}
@@ -0,0 +1,85 @@
+package com.app.managertask.benchmark;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.mapper.TaskMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Coste de serializar y deserializar con Jackson los DTOs de tareas, incluido el formateo de
+ * {@code dueDate} con el patrón {@code dd/MM/yyyy HH:mm:ss}.
+ * <p>
+ * {@link GetTaskResponse} solo se serializa: es un DTO de respuesta inmutable sin constructor
+ * para Jackson, por lo que la aplicación nunca lo deserializa.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+
+  @Param({"1", "1000", "100000"})
+  int size;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private ObjectWriter taskResponsesWriter;
+  private ObjectWriter createTaskRequestsWriter;
+  private ObjectReader createTaskRequestsReader;
+
+  private List<GetTaskResponse> taskResponses;
+  private List<CreateTaskRequest> createTaskRequests;
+  private byte[] createTaskRequestsJson;
+
+  @Setup
+  public void setUp() throws IOException {
+    TypeReference<List<CreateTaskRequest>> createTaskRequestList = new TypeReference<>() {
+    };
+    taskResponsesWriter = objectMapper.writerFor(new TypeReference<List<GetTaskResponse>>() {
+    });
+    createTaskRequestsWriter = objectMapper.writerFor(createTaskRequestList);
+    createTaskRequestsReader = objectMapper.readerFor(createTaskRequestList);
+
+    taskResponses = TaskFixtures.tasks(size).stream()
+        .map(TaskMapper.INSTANCE::mapToTaskResponseWithStatus)
+        .toList();
+    createTaskRequests = TaskFixtures.createTaskRequests(size);
+    createTaskRequestsJson = createTaskRequestsWriter.writeValueAsBytes(createTaskRequests);
+  }
+
+  @Benchmark
+  public byte[] serializeTaskResponses() throws IOException {
+    return taskResponsesWriter.writeValueAsBytes(taskResponses);
+  }
+
+  @Benchmark
+  public byte[] serializeCreateTaskRequests() throws IOException {
+    return createTaskRequestsWriter.writeValueAsBytes(createTaskRequests);
+  }
+
+  @Benchmark
+  public List<CreateTaskRequest> deserializeCreateTaskRequests() throws IOException {
+    return createTaskRequestsReader.readValue(createTaskRequestsJson);
+  }
+}
@@ -0,0 +1,67 @@
+package com.app.managertask.benchmark;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.mapper.TaskMapper;
+import com.app.managertask.domain.model.Task;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Coste por listado de los mapeos de {@link TaskMapper} y del cálculo de
+ * {@link Task#getStatus()}, que se ejecutan una vez por tarea en los endpoints de listado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+  @Param({"1", "1000", "100000"})
+  int size;
+
+  private final TaskMapper taskMapper = TaskMapper.INSTANCE;
+
+  private List<CreateTaskRequest> createTaskRequests;
+  private List<Task> tasks;
+
+  @Setup
+  public void setUp() {
+    createTaskRequests = TaskFixtures.createTaskRequests(size);
+    tasks = TaskFixtures.tasks(size);
+  }
+
+  @Benchmark
+  public void mapToTaskEntity(Blackhole blackhole) {
+    for (CreateTaskRequest createTaskRequest : createTaskRequests) {
+      blackhole.consume(taskMapper.mapToTaskEntity(createTaskRequest));
+    }
+  }
+
+  @Benchmark
+  public void mapToTaskResponseWithStatus(Blackhole blackhole) {
+    for (Task task : tasks) {
+      blackhole.consume(taskMapper.mapToTaskResponseWithStatus(task));
+    }
+  }
+
+  @Benchmark
+  public void getStatus(Blackhole blackhole) {
+    for (Task task : tasks) {
+      blackhole.consume(task.getStatus());
+    }
+  }
+}
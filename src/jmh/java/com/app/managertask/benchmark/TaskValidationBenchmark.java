@@ -0,0 +1,73 @@
+package com.app.managertask.benchmark;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.validation.ValidDateValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Coste de validar las solicitudes de creación: {@link ValidDateValidator} por separado y la
+ * validación completa del DTO con Bean Validation, como en cada alta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskValidationBenchmark {
+
+  @Param({"1", "1000", "100000"})
+  int size;
+
+  private final ValidDateValidator validDateValidator = new ValidDateValidator();
+
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+  private List<CreateTaskRequest> createTaskRequests;
+
+  @Setup
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+    createTaskRequests = TaskFixtures.createTaskRequests(size);
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  /**
+   * Las fechas son futuras, por lo que el validador no utiliza el contexto.
+   */
+  @Benchmark
+  public void validDateValidator(Blackhole blackhole) {
+    for (CreateTaskRequest createTaskRequest : createTaskRequests) {
+      blackhole.consume(validDateValidator.isValid(createTaskRequest.getDueDate(), null));
+    }
+  }
+
+  @Benchmark
+  public void validateCreateTaskRequest(Blackhole blackhole) {
+    for (CreateTaskRequest createTaskRequest : createTaskRequests) {
+      blackhole.consume(validator.validate(createTaskRequest));
+    }
+  }
+}
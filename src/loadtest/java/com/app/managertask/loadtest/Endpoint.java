@@ -0,0 +1,26 @@
+package com.app.managertask.loadtest;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoints que se ejercitan en las pruebas de carga.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Endpoint {
+  CREATE("create", "POST /api/tasks"),
+  LIST("list", "GET /api/tasks"),
+  GET("get", "GET /api/tasks/{id}");
+
+  private final String key;
+  private final String description;
+
+  static Endpoint fromKey(String key) {
+    return Arrays.stream(values())
+        .filter(endpoint -> endpoint.key.equals(key))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint: " + key));
+  }
+}
@@ -0,0 +1,173 @@
+package com.app.managertask.loadtest;
+
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.domain.model.TaskPageQuery;
+import com.app.managertask.domain.model.TaskSortField;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Almacén de tareas en memoria que sustituye a MongoDB en las pruebas de carga, de modo que las
+ * latencias medidas corresponden a la aplicación y no a la base de datos.
+ * <p>
+ * Las tareas se guardan ordenadas por ID; los IDs se generan como ObjectId, igual que en MongoDB.
+ * </p>
+ */
+@Component
+@Primary
+@Profile("loadtest")
+public class InMemoryTaskRepository implements TaskRepositoryPort {
+
+  private static final Comparator<Task> BY_DUE_DATE = Comparator
+      .comparing(Task::getDueDate)
+      .thenComparing(Task::getId);
+
+  private final ConcurrentNavigableMap<String, Task> tasks = new ConcurrentSkipListMap<>();
+
+  @Override
+  public Optional<Task> findById(String id) {
+    return Optional.ofNullable(tasks.get(id));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return List.copyOf(tasks.values());
+  }
+
+  @Override
+  public List<Task> findAllSummaries() {
+    return tasks.values().stream()
+        .map(task -> Task.builder()
+            .id(task.getId())
+            .title(task.getTitle())
+            .dueDate(task.getDueDate())
+            .build())
+        .toList();
+  }
+
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    return ids.stream()
+        .map(tasks::get)
+        .filter(Objects::nonNull)
+        .sorted(Comparator.comparing(Task::getId))
+        .toList();
+  }
+
+  @Override
+  public List<Task> findByTags(Collection<String> tags, TagMatch match) {
+    return tasks.values().stream()
+        .filter(task -> task.getTags() != null)
+        .filter(task -> {
+          List<String> taskTags = Arrays.asList(task.getTags());
+          return match == TagMatch.ALL
+              ? taskTags.containsAll(tags)
+              : tags.stream().anyMatch(taskTags::contains);
+        })
+        .toList();
+  }
+
+  @Override
+  public Stream<Task> streamAll() {
+    return tasks.values().stream();
+  }
+
+  @Override
+  public Stream<String> streamAllIds() {
+    return tasks.keySet().stream();
+  }
+
+  @Override
+  public Stream<String> streamIdsCreatedSince(Instant createdFrom) {
+    return tasks.keySet().stream()
+        .filter(id -> !new ObjectId(id).getDate().toInstant().isBefore(createdFrom));
+  }
+
+  @Override
+  public Stream<Task> streamDueDates(DueDateRange dueDateRange) {
+    return tasks.values().stream().filter(task -> isInRange(task.getDueDate(), dueDateRange));
+  }
+
+  @Override
+  public List<Task> findPage(TaskPageQuery query) {
+    return findPageByDueDate(DueDateRange.of(null, null), query);
+  }
+
+  @Override
+  public List<Task> findPageByDueDate(DueDateRange dueDateRange, TaskPageQuery query) {
+    Predicate<Task> inRange = task -> isInRange(task.getDueDate(), dueDateRange);
+
+    if (query.getSortBy() != TaskSortField.DUE_DATE) {
+      ConcurrentNavigableMap<String, Task> after = query.getAfterId() != null
+          ? tasks.tailMap(query.getAfterId(), false)
+          : tasks;
+      return after.values().stream()
+          .filter(inRange)
+          .limit(query.getLimit())
+          .toList();
+    }
+
+    Task afterKey = query.getAfterId() != null
+        ? Task.builder().id(query.getAfterId()).dueDate(query.getAfterDueDate()).build()
+        : null;
+    return tasks.values().stream()
+        .filter(inRange)
+        .filter(task -> afterKey == null || BY_DUE_DATE.compare(task, afterKey) > 0)
+        .sorted(BY_DUE_DATE)
+        .limit(query.getLimit())
+        .toList();
+  }
+
+  @Override
+  public TaskListVersion findListVersion(LocalDateTime now) {
+    return TaskListVersion.of(tasks.size(), tasks.isEmpty() ? null : tasks.lastKey(),
+        tasks.values().stream()
+            .map(Task::getDueDate)
+            .filter(dueDate -> dueDate != null && dueDate.isBefore(now))
+            .max(Comparator.naturalOrder())
+            .orElse(null));
+  }
+
+  @Override
+  public Task save(Task task) {
+    Task saved = task.getId() != null ? task : Task.builder()
+        .id(new ObjectId().toHexString())
+        .title(task.getTitle())
+        .description(task.getDescription())
+        .dueDate(task.getDueDate())
+        .tags(task.getTags())
+        .build();
+    tasks.put(saved.getId(), saved);
+    return saved;
+  }
+
+  @Override
+  public List<Task> saveAll(List<Task> tasksToSave) {
+    return tasksToSave.stream()
+        .map(this::save)
+        .toList();
+  }
+
+  private static boolean isInRange(LocalDateTime dueDate, DueDateRange range) {
+    return (range.getFrom() == null || !dueDate.isBefore(range.getFrom()))
+        && (range.getTo() == null || dueDate.isBefore(range.getTo()));
+  }
+}
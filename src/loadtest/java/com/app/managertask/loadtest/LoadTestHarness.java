@@ -0,0 +1,312 @@
+package com.app.managertask.loadtest;
+
+import com.app.managertask.ManagerTaskApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Prueba de carga de extremo a extremo de la API de tareas.
+ * <p>
+ * Arranca {@link ManagerTaskApplication} con el perfil {@code loadtest}, que sustituye MongoDB por
+ * {@link InMemoryTaskRepository}, y lanza peticiones a una tasa fija (modelo abierto): cada
+ * petición tiene un instante de inicio previsto y su latencia se mide desde ese instante, de modo
+ * que las esperas por respuestas lentas no ocultan latencia (omisión coordinada).
+ * </p>
+ * <p>
+ * Por cada endpoint informa del rendimiento y de los percentiles p50, p99 y p99.9, escribe el
+ * histograma completo en formato HdrHistogram ({@code <endpoint>.hgrm}) y los resultados en
+ * {@code results.properties}, que se puede copiar como nueva línea base. Si la línea base existe
+ * y algún percentil la supera en más de la tolerancia, el proceso termina con código 1.
+ * </p>
+ */
+public final class LoadTestHarness {
+
+  private static final DateTimeFormatter DATE_FORMAT =
+      DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private static final int PRELOAD_BATCH_SIZE = 1000;
+  private static final double[] PERCENTILES = {50.0, 99.0, 99.9};
+
+  private final LoadTestSettings settings;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final URI baseUri;
+
+  private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+  private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+  private final List<String> taskIds = new ArrayList<>();
+  private final AtomicInteger sequence = new AtomicInteger();
+
+  private LoadTestHarness(LoadTestSettings settings, HttpClient httpClient, int port) {
+    this.settings = settings;
+    this.httpClient = httpClient;
+    this.baseUri = URI.create("http://localhost:" + port + "/api/tasks");
+    for (Endpoint endpoint : Endpoint.values()) {
+      recorders.put(endpoint, new Recorder(3));
+      errors.put(endpoint, new LongAdder());
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = LoadTestSettings.parse(args);
+
+    // DevTools relanzaría main en otro hilo sin los argumentos
+    System.setProperty("spring.devtools.restart.enabled", "false");
+    SpringApplication application = new SpringApplication(ManagerTaskApplication.class);
+    application.setAdditionalProfiles("loadtest");
+
+    int exitCode;
+    ExecutorService clientExecutor = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors());
+    try (ConfigurableApplicationContext context = application.run()) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      HttpClient httpClient = HttpClient.newBuilder()
+          .executor(clientExecutor)
+          .version(HttpClient.Version.HTTP_1_1)
+          .build();
+
+      exitCode = new LoadTestHarness(settings, httpClient, port).run();
+    } finally {
+      clientExecutor.shutdownNow();
+    }
+    System.exit(exitCode);
+  }
+
+  private int run() throws IOException, InterruptedException {
+    preload();
+
+    System.out.printf(Locale.ROOT, "Warming up for %s at %d req/s%n", settings.getWarmup(),
+        settings.getRate());
+    drive(settings.getWarmup().toNanos());
+    recorders.values().forEach(Recorder::reset);
+    errors.values().forEach(LongAdder::reset);
+
+    System.out.printf(Locale.ROOT, "Measuring for %s at %d req/s with mix %s%n",
+        settings.getDuration(), settings.getRate(), settings.getMix());
+    drive(settings.getDuration().toNanos());
+    TimeUnit.SECONDS.sleep(2);
+
+    Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+    recorders.forEach((endpoint, recorder) ->
+        histograms.put(endpoint, recorder.getIntervalHistogram()));
+
+    Properties results = report(histograms);
+    return compareWithBaseline(results);
+  }
+
+  /**
+   * Crea las tareas iniciales a través del endpoint de lotes, de modo que pasan por las cachés y
+   * los índices como cualquier alta.
+   */
+  private void preload() throws IOException, InterruptedException {
+    for (int created = 0; created < settings.getPreload(); created += PRELOAD_BATCH_SIZE) {
+      int size = Math.min(PRELOAD_BATCH_SIZE, settings.getPreload() - created);
+      StringBuilder body = new StringBuilder("[");
+      for (int i = 0; i < size; i++) {
+        body.append(i == 0 ? "" : ",").append(createTaskBody());
+      }
+      body.append(']');
+
+      HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("tasks/batch"))
+          .header("Content-Type", "application/json")
+          .POST(BodyPublishers.ofString(body.toString()))
+          .build();
+      JsonNode response = objectMapper.readTree(
+          httpClient.send(request, BodyHandlers.ofString()).body());
+      response.get("results").forEach(result -> {
+        if (result.hasNonNull("id")) {
+          taskIds.add(result.get("id").asText());
+        }
+      });
+    }
+    System.out.printf(Locale.ROOT, "Preloaded %d tasks%n", taskIds.size());
+  }
+
+  /**
+   * Lanza peticiones a la tasa configurada durante el tiempo indicado, sin esperar a las
+   * respuestas.
+   */
+  private void drive(long durationNanos) {
+    long interval = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+    long start = System.nanoTime();
+    int[] weights = cumulativeWeights();
+
+    for (long sent = 0; ; sent++) {
+      long intendedStart = start + sent * interval;
+      if (intendedStart - start >= durationNanos) {
+        return;
+      }
+
+      long wait = intendedStart - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      send(pick(weights), intendedStart);
+    }
+  }
+
+  private void send(Endpoint endpoint, long intendedStart) {
+    HttpRequest request = switch (endpoint) {
+      case CREATE -> HttpRequest.newBuilder(baseUri)
+          .header("Content-Type", "application/json")
+          .POST(BodyPublishers.ofString(createTaskBody()))
+          .build();
+      case LIST -> HttpRequest.newBuilder(baseUri).GET().build();
+      case GET -> HttpRequest.newBuilder(baseUri.resolve("tasks/" + randomTaskId())).GET().build();
+    };
+
+    httpClient.sendAsync(request, BodyHandlers.discarding())
+        .whenComplete((response, failure) -> {
+          recorders.get(endpoint).recordValue(Math.max(1, System.nanoTime() - intendedStart));
+          if (failure != null || response.statusCode() >= 400) {
+            errors.get(endpoint).increment();
+          }
+        });
+  }
+
+  private Properties report(Map<Endpoint, Histogram> histograms) throws IOException {
+    Files.createDirectories(settings.getOutputDirectory());
+    Properties results = new Properties();
+    double seconds = settings.getDuration().toMillis() / 1000.0;
+
+    System.out.printf(Locale.ROOT, "%n%-22s %9s %7s %10s %10s %10s %10s %10s%n", "Endpoint",
+        "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+      Endpoint endpoint = entry.getKey();
+      Histogram histogram = entry.getValue();
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+
+      System.out.printf(Locale.ROOT, "%-22s %9d %7d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+          endpoint.getDescription(), histogram.getTotalCount(), errors.get(endpoint).sum(),
+          histogram.getTotalCount() / seconds, millis(histogram, 50.0), millis(histogram, 99.0),
+          millis(histogram, 99.9), histogram.getMaxValue() / NANOS_PER_MILLI);
+
+      for (double percentile : PERCENTILES) {
+        results.setProperty(endpoint.getKey() + ".p" + format(percentile),
+            String.format(Locale.ROOT, "%.3f", millis(histogram, percentile)));
+      }
+      results.setProperty(endpoint.getKey() + ".throughput",
+          String.format(Locale.ROOT, "%.1f", histogram.getTotalCount() / seconds));
+
+      Path hgrm = settings.getOutputDirectory().resolve(endpoint.getKey() + ".hgrm");
+      try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+        histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+      }
+    }
+
+    try (Writer writer = Files.newBufferedWriter(
+        settings.getOutputDirectory().resolve("results.properties"))) {
+      results.store(writer, "Latencies in milliseconds at " + settings.getRate() + " req/s");
+    }
+    System.out.printf(Locale.ROOT, "%nHistograms written to %s%n", settings.getOutputDirectory());
+    return results;
+  }
+
+  private int compareWithBaseline(Properties results) throws IOException {
+    if (!Files.exists(settings.getBaseline())) {
+      System.out.printf(Locale.ROOT, "No baseline at %s, skipping comparison%n",
+          settings.getBaseline());
+      return 0;
+    }
+
+    Properties baseline = new Properties();
+    try (Reader reader = Files.newBufferedReader(settings.getBaseline())) {
+      baseline.load(reader);
+    }
+
+    boolean regressed = false;
+    System.out.printf(Locale.ROOT, "%n%-16s %12s %12s %8s%n", "Metric", "Baseline ms",
+        "Current ms", "Ratio");
+    for (String key : new java.util.TreeSet<>(results.stringPropertyNames())) {
+      if (key.endsWith(".throughput") || baseline.getProperty(key) == null) {
+        continue;
+      }
+      double expected = Double.parseDouble(baseline.getProperty(key));
+      double current = Double.parseDouble(results.getProperty(key));
+      double ratio = current / expected;
+      boolean worse = ratio > settings.getTolerance();
+      regressed |= worse;
+
+      System.out.printf(Locale.ROOT, "%-16s %12.3f %12.3f %8.2f%s%n", key, expected, current,
+          ratio, worse ? "  REGRESSION" : "");
+    }
+
+    return regressed ? 1 : 0;
+  }
+
+  private int[] cumulativeWeights() {
+    int[] weights = new int[Endpoint.values().length];
+    int total = 0;
+    for (Endpoint endpoint : Endpoint.values()) {
+      total += settings.getMix().getOrDefault(endpoint, 0);
+      weights[endpoint.ordinal()] = total;
+    }
+    return weights;
+  }
+
+  private static Endpoint pick(int[] weights) {
+    int value = ThreadLocalRandom.current().nextInt(weights[weights.length - 1]);
+    for (Endpoint endpoint : Endpoint.values()) {
+      if (value < weights[endpoint.ordinal()]) {
+        return endpoint;
+      }
+    }
+    throw new IllegalStateException("Invalid endpoint mix");
+  }
+
+  private String randomTaskId() {
+    return taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+  }
+
+  private String createTaskBody() {
+    int number = sequence.incrementAndGet();
+    String dueDate = LocalDateTime.now().plusDays(1 + number % 30).format(DATE_FORMAT);
+    return "{\"title\":\"Load test task " + number + "\","
+        + "\"description\":\"Created by the load test harness\","
+        + "\"dueDate\":\"" + dueDate + "\","
+        + "\"tags\":[\"loadtest\",\"tag" + number % 10 + "\"]}";
+  }
+
+  private static double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+  }
+
+  private static String format(double percentile) {
+    return percentile == Math.rint(percentile)
+        ? String.valueOf((int) percentile)
+        : String.valueOf(percentile);
+  }
+}
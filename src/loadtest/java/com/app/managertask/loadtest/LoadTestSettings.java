@@ -0,0 +1,74 @@
+package com.app.managertask.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Value;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Parámetros de una prueba de carga, leídos de argumentos {@code --clave=valor}.
+ */
+@Value
+class LoadTestSettings {
+
+  /**
+   * Peticiones por segundo que se lanzan, independientemente de lo que tarden las respuestas.
+   */
+  int rate;
+  Duration warmup;
+  Duration duration;
+
+  /**
+   * Peso relativo de cada endpoint en la mezcla de peticiones.
+   */
+  Map<Endpoint, Integer> mix;
+
+  /**
+   * Número de tareas que se crean antes de empezar.
+   */
+  int preload;
+
+  /**
+   * Fichero con la línea base; si no existe, solo se informa de los resultados.
+   */
+  Path baseline;
+
+  /**
+   * Factor máximo respecto a la línea base antes de considerar que una latencia ha empeorado.
+   */
+  double tolerance;
+  Path outputDirectory;
+
+  static LoadTestSettings parse(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+      }
+      int separator = arg.indexOf('=');
+      options.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+
+    return new LoadTestSettings(
+        Integer.parseInt(options.getOrDefault("rate", "200")),
+        DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+        DurationStyle.detectAndParse(options.getOrDefault("duration", "30s")),
+        parseMix(options.getOrDefault("mix", "create=10,list=5,get=85")),
+        Integer.parseInt(options.getOrDefault("preload", "1000")),
+        Path.of(options.getOrDefault("baseline", "src/loadtest/resources/baseline.properties")),
+        Double.parseDouble(options.getOrDefault("tolerance", "1.25")),
+        Path.of(options.getOrDefault("output", "target/loadtest")));
+  }
+
+  private static Map<Endpoint, Integer> parseMix(String mix) {
+    Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split("=");
+      weights.put(Endpoint.fromKey(parts[0]), Integer.parseInt(parts[1]));
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,107 @@
+package com.app.managertask.application.cache;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.bson.types.ObjectId;
+
+/**
+ * Filtro de Bloom de los IDs de tareas existentes.
+ * <p>
+ * Se dimensiona a partir del número de IDs esperado y la tasa de falsos positivos admitida. Los
+ * bits se guardan en un {@link AtomicLongArray}, por lo que admite altas y consultas concurrentes
+ * sin bloqueos. Mientras no se haya cargado con todos los IDs existentes no descarta ningún ID, y
+ * después solo descarta IDs con formato de ObjectId cuya fecha de creación es anterior al instante
+ * hasta el que está completo.
+ * </p>
+ */
+public class BloomTaskIdFilter implements TaskIdFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashFunctions;
+
+  /**
+   * Segundos desde epoch hasta los que el filtro contiene todos los IDs creados.
+   */
+  private volatile long completeUntilSeconds = Long.MIN_VALUE;
+
+  /**
+   * Crea un filtro vacío.
+   *
+   * @param expectedIds       número de IDs esperado
+   * @param falsePositiveRate tasa de falsos positivos admitida con {@code expectedIds} IDs
+   */
+  public BloomTaskIdFilter(long expectedIds, double falsePositiveRate) {
+    if (expectedIds <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException(
+          "Expected IDs must be positive and the false positive rate between 0 and 1");
+    }
+
+    long optimalBits = (long) Math.ceil(
+        -expectedIds * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bits = new AtomicLongArray(Math.toIntExact((optimalBits + 63) / 64));
+    this.bitCount = (long) bits.length() * 64;
+    this.hashFunctions = Math.max(1,
+        (int) Math.round((double) bitCount / expectedIds * Math.log(2)));
+  }
+
+  @Override
+  public boolean mightContain(String id) {
+    if (!ObjectId.isValid(id)
+        || Integer.toUnsignedLong(new ObjectId(id).getTimestamp()) >= completeUntilSeconds) {
+      return true;
+    }
+
+    long hash1 = hash(id);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+    for (int i = 0; i < hashFunctions; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void add(String id) {
+    long hash1 = hash(id);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+    for (int i = 0; i < hashFunctions; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+
+      long current = bits.get(word);
+      while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+        current = bits.get(word);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void markLoaded(Instant completeUntil) {
+    completeUntilSeconds = Math.max(completeUntilSeconds, completeUntil.getEpochSecond());
+  }
+
+  /**
+   * FNV-1a de 64 bits sobre los caracteres del ID, con la mezcla final de MurmurHash3.
+   */
+  private static long hash(String id) {
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0; i < id.length(); i++) {
+      hash ^= id.charAt(i);
+      hash *= 0x100000001B3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xFF51AFD7ED558CCDL;
+    value ^= value >>> 33;
+    value *= 0xC4CEB9FE1A85EC53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
@@ -0,0 +1,25 @@
+package com.app.managertask.application.cache;
+
+import java.time.Instant;
+
+/**
+ * Filtro que considera posible cualquier ID, de modo que todas las búsquedas llegan a la base de
+ * datos.
+ */
+public class NoOpTaskIdFilter implements TaskIdFilter {
+
+  @Override
+  public boolean mightContain(String id) {
+    return true;
+  }
+
+  @Override
+  public void add(String id) {
+    // No se registra ningún ID
+  }
+
+  @Override
+  public void markLoaded(Instant completeUntil) {
+    // No requiere carga
+  }
+}
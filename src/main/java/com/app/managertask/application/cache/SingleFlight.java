@@ -0,0 +1,84 @@
+package com.app.managertask.application.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa las cargas concurrentes de una misma clave en una sola ejecución.
+ * <p>
+ * La primera petición de una clave ejecuta la carga; las que llegan mientras está en curso esperan
+ * a su resultado (o a su excepción) en lugar de repetirla. Cuando la carga termina, la siguiente
+ * petición de la clave vuelve a ejecutarla.
+ * </p>
+ *
+ * @param <K> tipo de la clave
+ * @param <V> tipo del valor cargado
+ */
+public final class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder coalescedLoads = new LongAdder();
+
+  /**
+   * Obtiene el valor de la clave ejecutando el {@code loader}, o esperando a la carga en curso de
+   * la misma clave si existe.
+   *
+   * @param key    clave a cargar
+   * @param loader función de carga
+   * @return valor cargado
+   */
+  public V load(K key, Supplier<V> loader) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+    if (existing != null) {
+      coalescedLoads.increment();
+      return await(existing);
+    }
+
+    loads.increment();
+    try {
+      V value = loader.get();
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      flight.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  /**
+   * @return número de cargas ejecutadas
+   */
+  public long getLoads() {
+    return loads.sum();
+  }
+
+  /**
+   * @return número de peticiones que han reutilizado una carga en curso
+   */
+  public long getCoalescedLoads() {
+    return coalescedLoads.sum();
+  }
+
+  private static <V> V await(CompletableFuture<V> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.app.managertask.application.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador aproximado de accesos por ID de tarea, con el que se eligen las tareas más usadas.
+ * <p>
+ * Solo se cuentan como mucho {@code capacity} IDs distintos: cuando se alcanza ese número, los
+ * accesos a IDs nuevos se ignoran hasta que {@link #hottest(int)} libere espacio. Cada llamada a
+ * {@link #hottest(int)} reduce los contadores a la mitad y descarta los que llegan a cero, de modo
+ * que los accesos recientes pesan más que los antiguos. Los incrementos concurrentes con esa
+ * reducción pueden perderse, lo que solo afecta a la precisión.
+ * </p>
+ */
+public class TaskAccessCounter {
+
+  private final int capacity;
+  private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+  /**
+   * @param capacity número máximo de IDs contados; con 0 no se cuenta ningún acceso
+   */
+  public TaskAccessCounter(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Registra un acceso a una tarea.
+   *
+   * @param id ID de la tarea
+   */
+  public void record(String id) {
+    AtomicLong count = counts.get(id);
+    if (count == null) {
+      if (counts.size() >= capacity) {
+        return;
+      }
+      count = counts.computeIfAbsent(id, key -> new AtomicLong());
+    }
+    count.incrementAndGet();
+  }
+
+  /**
+   * Devuelve los IDs con más accesos, de más a menos, y reduce los contadores a la mitad.
+   *
+   * @param limit número máximo de IDs
+   * @return IDs más usados
+   */
+  public List<String> hottest(int limit) {
+    PriorityQueue<Map.Entry<String, Long>> top = new PriorityQueue<>(
+        Map.Entry.comparingByValue());
+    for (Map.Entry<String, AtomicLong> entry : counts.entrySet()) {
+      long count = entry.getValue().getAndUpdate(value -> value / 2);
+      if (count <= 1) {
+        counts.remove(entry.getKey(), entry.getValue());
+      }
+      if (count == 0 || limit < 1) {
+        continue;
+      }
+      if (top.size() < limit) {
+        top.add(Map.entry(entry.getKey(), count));
+      } else if (top.peek().getValue() < count) {
+        top.poll();
+        top.add(Map.entry(entry.getKey(), count));
+      }
+    }
+
+    List<Map.Entry<String, Long>> sorted = new ArrayList<>(top);
+    sorted.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+    return sorted.stream().map(Map.Entry::getKey).toList();
+  }
+
+  /**
+   * Número de IDs contados.
+   *
+   * @return IDs contados
+   */
+  public int size() {
+    return counts.size();
+  }
+}
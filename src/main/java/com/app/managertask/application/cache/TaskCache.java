@@ -0,0 +1,321 @@
+package com.app.managertask.application.cache;
+
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.infrastructure.exception.TaskRepositoryUnavailableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Acceso a las cachés de tareas.
+ * <p>
+ * {@value #TASKS_CACHE} guarda un {@link TaskListIndex} con el listado completo de tareas, que se
+ * construye una vez desde la base de datos y después se mantiene de forma incremental al crear
+ * tareas, en lugar de invalidarse. {@value #TASK_CACHE} guarda cada tarea por su ID.
+ * </p>
+ * <p>
+ * Los fallos de caché concurrentes de una misma clave se agrupan con {@link SingleFlight}, de modo
+ * que solo uno de ellos consulta la base de datos y el resto reutiliza su resultado.
+ * </p>
+ * <p>
+ * Las búsquedas de IDs inexistentes se resuelven sin consultar la base de datos cuando el
+ * {@link TaskIdFilter} descarta el ID, o cuando el ID se buscó recientemente sin éxito y sigue en
+ * {@value #MISSING_TASK_CACHE}.
+ * </p>
+ * <p>
+ * El índice solo incluye las altas hechas desde esta instancia. Las creadas desde otras instancias
+ * se incorporan al reconstruirlo, cuando la caché lo expulsa o cuando se pide un listado con más
+ * tareas de las que contiene ({@link #getAllTasks(long, Supplier)}).
+ * </p>
+ * <p>
+ * {@value #STALE_TASK_CACHE} guarda, sin caducidad, el último valor conocido de cada tarea cargada
+ * o creada. Si la base de datos no está disponible al cargar una tarea, se devuelve ese valor
+ * marcado como obsoleto en lugar de fallar.
+ * </p>
+ * <p>
+ * Los accesos a tareas existentes por su ID se cuentan en un {@link TaskAccessCounter}, con el que
+ * se guardan periódicamente las tareas más usadas para precargarlas al arrancar.
+ * </p>
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class TaskCache {
+
+  public static final String TASKS_CACHE = "tasksCache";
+  public static final String TASK_CACHE = "taskCache";
+  public static final String MISSING_TASK_CACHE = "missingTaskCache";
+  public static final String STALE_TASK_CACHE = "staleTaskCache";
+
+  static final String ALL_TASKS_KEY = "all";
+
+  private final Cache tasksCache;
+  private final Cache taskCache;
+  private final Cache missingTaskCache;
+  private final Cache staleTaskCache;
+  private final TaskIdFilter taskIdFilter;
+  private final TaskAccessCounter accessCounter;
+
+  /**
+   * Número de tareas creadas. Permite detectar escrituras concurrentes con la reconstrucción del
+   * índice, que podrían no quedar reflejadas en él.
+   */
+  private final AtomicLong createdTasks = new AtomicLong();
+
+  private final SingleFlight<String, TaskListIndex> taskListLoads = new SingleFlight<>();
+  private final SingleFlight<String, Optional<GetTaskResponse>> taskLoads = new SingleFlight<>();
+
+  public TaskCache(CacheManager cacheManager, TaskIdFilter taskIdFilter,
+      TaskAccessCounter accessCounter) {
+    this.tasksCache = Objects.requireNonNull(cacheManager.getCache(TASKS_CACHE));
+    this.taskCache = Objects.requireNonNull(cacheManager.getCache(TASK_CACHE));
+    this.missingTaskCache = Objects.requireNonNull(cacheManager.getCache(MISSING_TASK_CACHE));
+    this.staleTaskCache = Objects.requireNonNull(cacheManager.getCache(STALE_TASK_CACHE));
+    this.taskIdFilter = taskIdFilter;
+    this.accessCounter = accessCounter;
+  }
+
+  /**
+   * Devuelve el listado completo de tareas desde el índice cacheado, construyéndolo con el
+   * {@code loader} si no existe.
+   * <p>
+   * Si se crea alguna tarea mientras se ejecuta el {@code loader}, el índice construido se descarta
+   * tras devolverlo, ya que podría no incluir esa tarea.
+   * </p>
+   *
+   * @param loader función que obtiene todas las tareas de la base de datos
+   * @return vista inmutable del listado de tareas
+   */
+  public List<GetTaskResponse> getAllTasks(Supplier<List<GetTaskResponse>> loader) {
+    TaskListIndex index = tasksCache.get(ALL_TASKS_KEY, TaskListIndex.class);
+    if (index == null) {
+      index = taskListLoads.load(ALL_TASKS_KEY, () -> loadTaskListIndex(loader));
+    }
+    return index.snapshot();
+  }
+
+  /**
+   * Devuelve el listado completo de tareas con al menos {@code minSize} tareas. Si el índice
+   * cacheado tiene menos, porque se han creado tareas desde otras instancias, se descarta y se
+   * reconstruye con el {@code loader}.
+   *
+   * @param minSize número de tareas que debe incluir el listado
+   * @param loader  función que obtiene el listado completo de la base de datos
+   * @return vista inmutable del listado de tareas
+   */
+  public List<GetTaskResponse> getAllTasks(long minSize, Supplier<List<GetTaskResponse>> loader) {
+    TaskListIndex cached = tasksCache.get(ALL_TASKS_KEY, TaskListIndex.class);
+    if (cached != null && cached.size() < minSize) {
+      log.debug("Task list index has {} of {} tasks, rebuilding it", cached.size(), minSize);
+      tasksCache.evict(ALL_TASKS_KEY);
+    }
+    return getAllTasks(loader);
+  }
+
+  /**
+   * Devuelve el listado completo de tareas si el índice está cacheado, sin construirlo.
+   *
+   * @return vista inmutable del listado de tareas, o vacío si el índice no está cacheado
+   */
+  public Optional<List<GetTaskResponse>> getCachedTasks() {
+    return Optional.ofNullable(tasksCache.get(ALL_TASKS_KEY, TaskListIndex.class))
+        .map(TaskListIndex::snapshot);
+  }
+
+  /**
+   * Devuelve una tarea desde la caché, cargándola con el {@code loader} si no está cacheada.
+   * <p>
+   * Si el ID está descartado por el filtro o se buscó recientemente sin éxito, se devuelve vacío
+   * sin ejecutar el {@code loader}. Si el {@code loader} no encuentra la tarea, el ID se registra
+   * como inexistente. Si la base de datos no está disponible, se devuelve el último valor conocido
+   * de la tarea marcado como obsoleto.
+   * </p>
+   *
+   * @param id     ID de la tarea
+   * @param loader función que obtiene la tarea de la base de datos
+   * @return DTO de la tarea, o vacío si no existe
+   * @throws TaskRepositoryUnavailableException si la base de datos no está disponible y no se
+   *                                            conoce ningún valor de la tarea
+   */
+  public Optional<GetTaskResponse> getTask(String id,
+      Supplier<Optional<GetTaskResponse>> loader) {
+    GetTaskResponse task = taskCache.get(id, GetTaskResponse.class);
+    if (task != null) {
+      accessCounter.record(id);
+      return Optional.of(task);
+    }
+    if (isKnownMissing(id)) {
+      return Optional.empty();
+    }
+
+    Optional<GetTaskResponse> result;
+    try {
+      result = taskLoads.load(id, () -> {
+        GetTaskResponse cached = taskCache.get(id, GetTaskResponse.class);
+        if (cached != null) {
+          return Optional.of(cached);
+        }
+
+        Optional<GetTaskResponse> loaded = loader.get();
+        loaded.ifPresentOrElse(
+            this::put,
+            () -> missingTaskCache.put(id, Boolean.TRUE));
+        return loaded;
+      });
+    } catch (TaskRepositoryUnavailableException ex) {
+      GetTaskResponse stale = staleTaskCache.get(id, GetTaskResponse.class);
+      if (stale == null) {
+        throw ex;
+      }
+      log.debug("Serving stale task {}: {}", id, ex.getMessage());
+      return Optional.of(stale.toBuilder().stale(true).build());
+    }
+    if (result.isPresent()) {
+      accessCounter.record(id);
+    }
+    return result;
+  }
+
+  /**
+   * Devuelve varias tareas desde la caché, cargando todas las que no están cacheadas con una única
+   * llamada al {@code loader}.
+   * <p>
+   * Los IDs descartados por el filtro o buscados recientemente sin éxito no se cargan. Las tareas
+   * cargadas se guardan en la caché y los IDs que el {@code loader} no encuentra se registran como
+   * inexistentes. A diferencia de {@link #getTask}, las cargas no se agrupan con las de otras
+   * peticiones.
+   * </p>
+   *
+   * @param ids    IDs de las tareas, sin repetir
+   * @param loader función que obtiene de la base de datos las tareas con los IDs indicados
+   * @return DTOs de las tareas encontradas por su ID
+   */
+  public Map<String, GetTaskResponse> getTasks(Collection<String> ids,
+      Function<List<String>, List<GetTaskResponse>> loader) {
+    Map<String, GetTaskResponse> found = new HashMap<>();
+    List<String> misses = new ArrayList<>();
+    for (String id : ids) {
+      GetTaskResponse task = taskCache.get(id, GetTaskResponse.class);
+      if (task != null) {
+        found.put(id, task);
+      } else if (!isKnownMissing(id)) {
+        misses.add(id);
+      }
+    }
+    if (!misses.isEmpty()) {
+      for (GetTaskResponse task : loader.apply(misses)) {
+        put(task);
+        found.put(task.getId(), task);
+      }
+      misses.stream()
+          .filter(id -> !found.containsKey(id))
+          .forEach(id -> missingTaskCache.put(id, Boolean.TRUE));
+    }
+    found.keySet().forEach(accessCounter::record);
+    return found;
+  }
+
+  /**
+   * Refleja en las cachés una tarea recién creada: se guarda por su ID y se añade al índice del
+   * listado si está cacheado.
+   *
+   * @param task DTO de la tarea creada
+   */
+  public void onTaskCreated(GetTaskResponse task) {
+    onTasksCreated(List.of(task));
+  }
+
+  /**
+   * Refleja en las cachés un lote de tareas recién creadas. El índice del listado se consulta una
+   * única vez para todo el lote.
+   *
+   * @param tasks DTOs de las tareas creadas
+   */
+  public void onTasksCreated(List<GetTaskResponse> tasks) {
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    createdTasks.addAndGet(tasks.size());
+    for (GetTaskResponse task : tasks) {
+      taskIdFilter.add(task.getId());
+      missingTaskCache.evict(task.getId());
+      put(task);
+    }
+
+    TaskListIndex index = tasksCache.get(ALL_TASKS_KEY, TaskListIndex.class);
+    if (index != null) {
+      tasks.forEach(index::append);
+    }
+  }
+
+  /**
+   * Número de cargas desde la base de datos ejecutadas para la caché indicada.
+   *
+   * @param cacheName nombre de la caché
+   * @return número de cargas, o 0 si la caché no tiene cargas agrupadas
+   */
+  public long getLoads(String cacheName) {
+    SingleFlight<String, ?> loads = loadsOf(cacheName);
+    return loads != null ? loads.getLoads() : 0;
+  }
+
+  /**
+   * Número de fallos de caché que han reutilizado una carga en curso en lugar de consultar la base
+   * de datos.
+   *
+   * @param cacheName nombre de la caché
+   * @return número de cargas agrupadas, o 0 si la caché no tiene cargas agrupadas
+   */
+  public long getCoalescedLoads(String cacheName) {
+    SingleFlight<String, ?> loads = loadsOf(cacheName);
+    return loads != null ? loads.getCoalescedLoads() : 0;
+  }
+
+  private SingleFlight<String, ?> loadsOf(String cacheName) {
+    return switch (cacheName) {
+      case TASKS_CACHE -> taskListLoads;
+      case TASK_CACHE -> taskLoads;
+      default -> null;
+    };
+  }
+
+  private void put(GetTaskResponse task) {
+    taskCache.put(task.getId(), task);
+    staleTaskCache.put(task.getId(), task);
+  }
+
+  private boolean isKnownMissing(String id) {
+    return !taskIdFilter.mightContain(id) || missingTaskCache.get(id) != null;
+  }
+
+  private TaskListIndex loadTaskListIndex(Supplier<List<GetTaskResponse>> loader) {
+    TaskListIndex cached = tasksCache.get(ALL_TASKS_KEY, TaskListIndex.class);
+    if (cached != null) {
+      return cached;
+    }
+
+    long createdBefore = createdTasks.get();
+    TaskListIndex index = TaskListIndex.of(loader.get());
+    tasksCache.put(ALL_TASKS_KEY, index);
+
+    if (createdTasks.get() != createdBefore) {
+      log.debug("Task created while rebuilding the task list index, discarding it");
+      tasksCache.evict(ALL_TASKS_KEY);
+    }
+
+    return index;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.app.managertask.application.cache;
+
+import com.app.managertask.application.mapper.TaskMapper;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Precarga de las cachés de tareas al arrancar a partir de una instantánea de las tareas más
+ * usadas.
+ * <p>
+ * Cada {@code snapshotInterval}, y al detener la aplicación, guarda en {@code snapshotFile} los IDs
+ * más usados según el {@link TaskAccessCounter}, uno por línea y de más a menos usado. Si en el
+ * intervalo no se ha accedido a ninguna tarea, la instantánea anterior se conserva. El fichero se
+ * escribe en uno temporal que después lo sustituye, para que un reinicio nunca lea una instantánea
+ * a medias.
+ * </p>
+ * <p>
+ * Al arrancar, si existe una instantánea, construye el listado completo de tareas (si
+ * {@code warmTaskList} está activo) y carga las tareas de la instantánea en lotes de
+ * {@code batchSize} IDs con una consulta {@code $in} cada uno, ejecutando {@code concurrency}
+ * consultas a la vez. La precarga se ejecuta durante {@link ApplicationReadyEvent}, antes de que la
+ * aplicación pase a aceptar tráfico, y como mucho durante {@code timeBudget}: pasado ese tiempo, o
+ * si una consulta falla, la aplicación arranca con las tareas ya cargadas y el resto se carga bajo
+ * demanda. Las tareas precargadas cuentan como un acceso, de modo que la siguiente instantánea las
+ * conserva mientras no haya otras más usadas.
+ * </p>
+ */
+@Slf4j
+public class TaskCacheWarmer implements SmartLifecycle {
+
+  private final TaskCache taskCache;
+  private final TaskRepositoryPort taskRepositoryPort;
+  private final TaskAccessCounter accessCounter;
+  private final TaskExecutor loadExecutor;
+  private final boolean enabled;
+  private final Path snapshotFile;
+  private final Duration snapshotInterval;
+  private final int maxKeys;
+  private final int batchSize;
+  private final int concurrency;
+  private final Duration timeBudget;
+  private final boolean warmTaskList;
+  private final TaskMapper taskMapper = TaskMapper.INSTANCE;
+
+  private volatile ScheduledExecutorService snapshotter;
+
+  public TaskCacheWarmer(TaskCache taskCache, TaskRepositoryPort taskRepositoryPort,
+      TaskAccessCounter accessCounter, TaskExecutor loadExecutor, boolean enabled,
+      Path snapshotFile, Duration snapshotInterval, int maxKeys, int batchSize, int concurrency,
+      Duration timeBudget, boolean warmTaskList) {
+    this.taskCache = taskCache;
+    this.taskRepositoryPort = taskRepositoryPort;
+    this.accessCounter = accessCounter;
+    this.loadExecutor = loadExecutor;
+    this.enabled = enabled;
+    this.snapshotFile = snapshotFile;
+    this.snapshotInterval = snapshotInterval;
+    this.maxKeys = maxKeys;
+    this.batchSize = batchSize;
+    this.concurrency = concurrency;
+    this.timeBudget = timeBudget;
+    this.warmTaskList = warmTaskList;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUpOnStartup() {
+    if (enabled) {
+      warmUp();
+    }
+  }
+
+  /**
+   * Precarga las cachés con las tareas de la instantánea, esperando como mucho
+   * {@code timeBudget}.
+   *
+   * @return número de tareas precargadas
+   */
+  int warmUp() {
+    List<String> ids = readSnapshot();
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    log.info("Warming up task caches with {} hot task IDs", ids.size());
+    long startedAt = System.nanoTime();
+    long deadline = startedAt + timeBudget.toNanos();
+
+    Queue<Runnable> loads = new ConcurrentLinkedQueue<>();
+    AtomicInteger warmed = new AtomicInteger();
+    if (warmTaskList) {
+      loads.add(() -> taskCache.getAllTasks(() -> taskRepositoryPort.findAll().stream()
+          .map(taskMapper::mapToTaskResponse)
+          .toList()));
+    }
+    for (int from = 0; from < ids.size(); from += batchSize) {
+      List<String> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+      loads.add(() -> warmed.addAndGet(taskCache.getTasks(batch, misses -> taskRepositoryPort
+          .findAllById(misses).stream()
+          .map(taskMapper::mapToTaskResponse)
+          .toList()).size()));
+    }
+
+    int workers = Math.min(concurrency, loads.size());
+    CountDownLatch finished = new CountDownLatch(workers);
+    AtomicBoolean failed = new AtomicBoolean();
+    for (int i = 0; i < workers; i++) {
+      loadExecutor.execute(() -> {
+        try {
+          Runnable load;
+          while (!failed.get() && System.nanoTime() < deadline
+              && (load = loads.poll()) != null) {
+            load.run();
+          }
+        } catch (RuntimeException ex) {
+          failed.set(true);
+          log.warn("Could not warm up task caches, remaining tasks will be loaded on demand", ex);
+        } finally {
+          finished.countDown();
+        }
+      });
+    }
+
+    try {
+      if (!finished.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        log.warn("Task cache warm-up exceeded its time budget of {}, {} tasks loaded so far",
+            timeBudget, warmed.get());
+        return warmed.get();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return warmed.get();
+    }
+
+    log.info("Warmed up task caches with {} tasks in {} ms", warmed.get(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    return warmed.get();
+  }
+
+  /**
+   * Guarda en el fichero de la instantánea los IDs de las tareas más usadas desde la anterior.
+   */
+  void snapshot() {
+    List<String> ids = accessCounter.hottest(maxKeys);
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    try {
+      Path directory = snapshotFile.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temporary = Files.createTempFile(directory, snapshotFile.getFileName().toString(),
+          ".tmp");
+      try {
+        Files.write(temporary, ids, StandardCharsets.UTF_8);
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+      log.debug("Saved {} hot task IDs to {}", ids.size(), snapshotFile);
+    } catch (IOException ex) {
+      log.warn("Could not save hot task IDs to {}", snapshotFile, ex);
+    }
+  }
+
+  private List<String> readSnapshot() {
+    try {
+      return Files.readAllLines(snapshotFile, StandardCharsets.UTF_8).stream()
+          .map(String::strip)
+          .filter(id -> !id.isEmpty())
+          .distinct()
+          .limit(maxKeys)
+          .toList();
+    } catch (NoSuchFileException ex) {
+      log.info("No hot task snapshot found at {}, starting with cold caches", snapshotFile);
+      return List.of();
+    } catch (IOException ex) {
+      log.warn("Could not read hot task IDs from {}, starting with cold caches", snapshotFile, ex);
+      return List.of();
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!enabled || snapshotter != null) {
+      return;
+    }
+
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "task-cache-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long intervalMillis = snapshotInterval.toMillis();
+    executor.scheduleWithFixedDelay(this::snapshot, intervalMillis, intervalMillis,
+        TimeUnit.MILLISECONDS);
+    snapshotter = executor;
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService executor = snapshotter;
+    if (executor == null) {
+      return;
+    }
+
+    executor.shutdownNow();
+    snapshotter = null;
+    snapshot();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return snapshotter != null;
+  }
+
+  @Override
+  public boolean isAutoStartup() {
+    return enabled;
+  }
+}
@@ -0,0 +1,40 @@
+package com.app.managertask.application.cache;
+
+import java.time.Instant;
+
+/**
+ * Filtro de pertenencia de los IDs de tareas existentes.
+ * <p>
+ * Permite descartar en memoria las búsquedas de IDs que no existen sin consultar la base de datos.
+ * El filtro solo es completo para las tareas creadas antes del instante con el que se marcó como
+ * cargado por última vez; los IDs cuyo ObjectId indica una creación posterior, como los de las
+ * tareas creadas desde otras instancias, no se descartan nunca. Un filtro puede dar falsos
+ * positivos, pero nunca falsos negativos: si {@link #mightContain} devuelve {@code false}, la tarea
+ * no existe.
+ * </p>
+ */
+public interface TaskIdFilter {
+
+  /**
+   * Indica si el ID puede pertenecer a una tarea existente.
+   *
+   * @param id ID de la tarea
+   * @return {@code false} solo si se sabe con certeza que la tarea no existe
+   */
+  boolean mightContain(String id);
+
+  /**
+   * Registra el ID de una tarea existente.
+   *
+   * @param id ID de la tarea
+   */
+  void add(String id);
+
+  /**
+   * Indica que el filtro contiene ya los IDs de todas las tareas creadas antes de
+   * {@code completeUntil}. Hasta la primera llamada el filtro no descarta ningún ID.
+   *
+   * @param completeUntil instante de creación hasta el que el filtro está completo
+   */
+  void markLoaded(Instant completeUntil);
+}
@@ -0,0 +1,110 @@
+package com.app.managertask.application.cache;
+
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Mantiene el {@link TaskIdFilter} al día con los IDs de las tareas existentes.
+ * <p>
+ * Al arrancar carga en segundo plano los IDs de todas las tareas y después, cada
+ * {@code refreshInterval}, añade los de las tareas creadas desde la carga anterior, incluidas las
+ * creadas desde otras instancias o directamente en la base de datos. Las cargas incrementales son
+ * una consulta de rango sobre {@code _id}, ya que los ObjectId empiezan por su fecha de creación.
+ * </p>
+ * <p>
+ * Tras cada carga el filtro se marca como completo hasta su inicio menos
+ * {@value #CLOCK_SKEW_SECONDS} segundos, para admitir IDs generados por instancias con el reloj
+ * algo atrasado. Hasta la primera carga el filtro no descarta ningún ID; si una carga falla, los
+ * IDs creados desde la anterior siguen llegando a la base de datos y se reintenta en la siguiente.
+ * Las tareas insertadas con IDs generados mucho antes de su inserción no se detectan hasta el
+ * siguiente arranque, por lo que en ese caso debe usarse el filtro {@code none}.
+ * </p>
+ */
+@Slf4j
+public class TaskIdFilterLoader implements SmartLifecycle {
+
+  static final long CLOCK_SKEW_SECONDS = 60;
+
+  private final TaskRepositoryPort taskRepositoryPort;
+  private final TaskIdFilter taskIdFilter;
+  private final Duration refreshInterval;
+
+  private volatile ScheduledExecutorService refresher;
+  private Instant completeUntil;
+
+  public TaskIdFilterLoader(TaskRepositoryPort taskRepositoryPort, TaskIdFilter taskIdFilter,
+      Duration refreshInterval) {
+    this.taskRepositoryPort = taskRepositoryPort;
+    this.taskIdFilter = taskIdFilter;
+    this.refreshInterval = refreshInterval;
+  }
+
+  /**
+   * Carga en el filtro los IDs de todas las tareas o, si ya se ha cargado, los de las tareas
+   * creadas desde la última carga, y avanza el instante hasta el que está completo.
+   */
+  synchronized void load() {
+    Instant startedAt = Instant.now();
+    boolean full = completeUntil == null;
+    log.debug("Loading task ID filter {}", full ? "from scratch" : "since " + completeUntil);
+
+    try (Stream<String> ids = full
+        ? taskRepositoryPort.streamAllIds()
+        : taskRepositoryPort.streamIdsCreatedSince(completeUntil)) {
+      LongAdder loaded = new LongAdder();
+      ids.forEach(id -> {
+        taskIdFilter.add(id);
+        loaded.increment();
+      });
+      completeUntil = startedAt.minusSeconds(CLOCK_SKEW_SECONDS);
+      taskIdFilter.markLoaded(completeUntil);
+
+      if (full) {
+        log.info("Task ID filter loaded with {} IDs", loaded.sum());
+      } else {
+        log.debug("Task ID filter refreshed with {} new IDs", loaded.sum());
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Could not load task ID filter, new IDs will not be filtered until the next load",
+          ex);
+    }
+  }
+
+  @Override
+  public void start() {
+    if (taskIdFilter instanceof NoOpTaskIdFilter || refresher != null) {
+      return;
+    }
+
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "task-id-filter-loader");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::load, 0, refreshInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+    refresher = executor;
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService executor = refresher;
+    if (executor != null) {
+      executor.shutdownNow();
+      refresher = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return refresher != null;
+  }
+}
@@ -0,0 +1,117 @@
+package com.app.managertask.application.cache;
+
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice en memoria del listado completo de tareas, mantenido de forma incremental.
+ * <p>
+ * Las tareas se almacenan en segmentos de tamaño fijo que nunca se copian ni se modifican una vez
+ * escritos, por lo que añadir una tarea cuesta O(1) y las lecturas obtienen una vista inmutable
+ * del listado en O(1), sin copiarlo. Las escrituras se serializan con un cerrojo; las lecturas no
+ * se bloquean.
+ * </p>
+ */
+public final class TaskListIndex {
+
+  private static final int SEGMENT_SHIFT = 10;
+  private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+  private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+  private final Set<String> ids = ConcurrentHashMap.newKeySet();
+  private final ReentrantLock appendLock = new ReentrantLock();
+
+  private volatile GetTaskResponse[][] segments = new GetTaskResponse[1][];
+  private volatile int size;
+
+  /**
+   * Crea un índice con las tareas indicadas, en el mismo orden.
+   *
+   * @param tasks tareas iniciales
+   * @return TaskListIndex
+   */
+  public static TaskListIndex of(List<GetTaskResponse> tasks) {
+    TaskListIndex index = new TaskListIndex();
+    tasks.forEach(index::append);
+    return index;
+  }
+
+  /**
+   * Añade una tarea al final del índice si no estaba ya incluida.
+   *
+   * @param task tarea a añadir
+   * @return {@code true} si se ha añadido, {@code false} si ya existía una tarea con el mismo ID
+   */
+  public boolean append(GetTaskResponse task) {
+    appendLock.lock();
+    try {
+      if (!ids.add(task.getId())) {
+        return false;
+      }
+
+      int position = size;
+      int segment = position >>> SEGMENT_SHIFT;
+      GetTaskResponse[][] current = segments;
+
+      if (segment == current.length) {
+        current = Arrays.copyOf(current, current.length * 2);
+      }
+      if (current[segment] == null) {
+        current[segment] = new GetTaskResponse[SEGMENT_SIZE];
+      }
+      current[segment][position & SEGMENT_MASK] = task;
+
+      segments = current;
+      size = position + 1;
+      return true;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  /**
+   * Devuelve una vista inmutable de las tareas indexadas en este momento. Las tareas que se añadan
+   * después no aparecen en la vista.
+   *
+   * @return lista de tareas
+   */
+  public List<GetTaskResponse> snapshot() {
+    int snapshotSize = size;
+    return new Snapshot(segments, snapshotSize);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private static final class Snapshot extends AbstractList<GetTaskResponse>
+      implements RandomAccess {
+
+    private final GetTaskResponse[][] segments;
+    private final int size;
+
+    private Snapshot(GetTaskResponse[][] segments, int size) {
+      this.segments = segments;
+      this.size = size;
+    }
+
+    @Override
+    public GetTaskResponse get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      return segments[index >>> SEGMENT_SHIFT][index & SEGMENT_MASK];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.app.managertask.application.dto.request;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TaskPageRequest {
+
+  /**
+   * Campo de ordenación: {@code id} o {@code dueDate}.
+   */
+  String sort;
+
+  /**
+   * Token de continuación devuelto en la página anterior, o nulo para la primera página.
+   */
+  String cursor;
+
+  /**
+   * Número máximo de tareas de la página, o nulo para el tamaño por defecto.
+   */
+  Integer limit;
+
+  /**
+   * Estado de las tareas: {@code Active} o {@code Expired}, o nulo para no filtrar.
+   */
+  String status;
+
+  /**
+   * Fecha de vencimiento mínima (incluida), o nulo para no acotar.
+   */
+  LocalDateTime dueFrom;
+
+  /**
+   * Fecha de vencimiento máxima (excluida), o nulo para no acotar.
+   */
+  LocalDateTime dueTo;
+}
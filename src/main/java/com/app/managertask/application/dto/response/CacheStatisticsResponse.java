@@ -0,0 +1,40 @@
+package com.app.managertask.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CacheStatisticsResponse {
+
+  @Schema(description = "Name of the cache", example = "taskCache")
+  String name;
+
+  @Schema(description = "Number of lookups", example = "1200")
+  long gets;
+
+  @Schema(description = "Number of lookups served from the cache", example = "1100")
+  long hits;
+
+  @Schema(description = "Number of lookups not found in the cache", example = "100")
+  long misses;
+
+  @Schema(description = "Percentage of lookups served from the cache", example = "91.67")
+  float hitPercentage;
+
+  @Schema(description = "Number of entries written", example = "100")
+  long puts;
+
+  @Schema(description = "Number of entries explicitly removed", example = "3")
+  long removals;
+
+  @Schema(description = "Number of entries evicted because the cache was full", example = "0")
+  long evictions;
+
+  @Schema(description = "Number of database loads executed on cache misses", example = "95")
+  long loads;
+
+  @Schema(description = "Number of cache misses that reused an in-flight load", example = "5")
+  long coalescedLoads;
+}
@@ -0,0 +1,27 @@
+package com.app.managertask.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CreateTaskBatchItemResponse {
+
+  @Schema(description = "Position of the task in the request", example = "0")
+  int index;
+
+  @Schema(description = "Unique identifier of the task, absent if it was not created",
+      example = "66b34f1a2c1d4e0001a5b2c3")
+  String id;
+
+  @Schema(description = "Message indicating the result of the task creation",
+      example = "Task created successfully")
+  String message;
+
+  @Schema(description = "Validation errors by field, absent if the task is valid")
+  Map<String, String> errors;
+}
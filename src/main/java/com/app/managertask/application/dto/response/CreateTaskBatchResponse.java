@@ -0,0 +1,20 @@
+package com.app.managertask.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CreateTaskBatchResponse {
+
+  @Schema(description = "Number of tasks created", example = "998")
+  int created;
+
+  @Schema(description = "Number of tasks rejected or not saved", example = "2")
+  int failed;
+
+  @Schema(description = "Result of each task, in the same order as the request")
+  List<CreateTaskBatchItemResponse> results;
+}
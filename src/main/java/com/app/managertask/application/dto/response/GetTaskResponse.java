@@ -1,13 +1,26 @@
 package com.app.managertask.application.dto.response;
 
+import com.app.managertask.application.mapper.TaskMapper;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Value;
 
+/**
+ * DTO de respuesta de una tarea.
+ * <p>
+ * Las cachés guardan este DTO sin {@code status}, que depende del instante en que se consulta; el
+ * estado se añade al construir cada respuesta con {@link TaskMapper#withStatus}.
+ * </p>
+ * <p>
+ * {@code stale} marca las tareas servidas desde su último valor conocido porque la base de datos
+ * no está disponible. No forma parte del JSON: el controlador la traduce en una cabecera.
+ * </p>
+ */
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class GetTaskResponse {
 
   @Schema(description = "Unique identifier of the task", example = "12345")
@@ -28,4 +41,8 @@ public class GetTaskResponse {
 
   @Schema(description = "Current status of the task", example = "Active")
   String status;
+
+  @JsonIgnore
+  @Schema(hidden = true)
+  boolean stale;
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.app.managertask.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TaskLookupResponse {
+
+  @Schema(description = "Tasks found, in the order of the requested IDs")
+  List<GetTaskResponse> tasks;
+
+  @Schema(description = "Requested IDs that do not match any task",
+      example = "[\"66b34f1a2c1d4e0001a5b2c3\"]")
+  List<String> missingIds;
+}
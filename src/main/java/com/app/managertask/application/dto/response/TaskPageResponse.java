@@ -0,0 +1,18 @@
+package com.app.managertask.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TaskPageResponse {
+
+  @Schema(description = "Tasks of the requested page")
+  List<GetTaskResponse> tasks;
+
+  @Schema(description = "Opaque token to request the next page, absent on the last page",
+      example = "djF8SUR8fDY2YjM0ZjFhMmMxZDRlMDAwMWE1YjJjMw")
+  String nextCursor;
+}
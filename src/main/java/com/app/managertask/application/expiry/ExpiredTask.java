@@ -0,0 +1,14 @@
+package com.app.managertask.application.expiry;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * Tarea que ha vencido, con su fecha de vencimiento.
+ */
+@Value
+public class ExpiredTask {
+
+  String id;
+  LocalDateTime dueDate;
+}
@@ -0,0 +1,23 @@
+package com.app.managertask.application.expiry;
+
+import java.util.List;
+
+/**
+ * Receptor de los vencimientos de tareas detectados por el {@link TaskExpiryScheduler}.
+ * <p>
+ * Los vencimientos se entregan por lotes desde el hilo del planificador, por lo que las
+ * implementaciones deben ser rápidas y delegar en otro hilo el trabajo costoso. Un mismo
+ * vencimiento puede entregarse más de una vez, así que las implementaciones deben tolerar
+ * duplicados.
+ * </p>
+ */
+@FunctionalInterface
+public interface TaskExpiryListener {
+
+  /**
+   * Notifica las tareas que acaban de vencer.
+   *
+   * @param expiredTasks tareas vencidas, nunca vacío
+   */
+  void onTasksExpired(List<ExpiredTask> expiredTasks);
+}
@@ -0,0 +1,285 @@
+package com.app.managertask.application.expiry;
+
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Planificador que notifica el vencimiento de las tareas sin consultar periódicamente la base de
+ * datos.
+ * <p>
+ * Las tareas pendientes de vencer se guardan en una {@link TimingWheel} que un hilo avanza en
+ * cada tick, entregando las tareas vencidas a los {@link TaskExpiryListener} registrados. La
+ * rueda solo contiene las tareas que vencen dentro de una ventana de {@code horizon}: la ventana
+ * se carga de la base de datos con una consulta de rango sobre {@code dueDate} al arrancar, y se
+ * amplía con la siguiente cuando ha transcurrido la mitad, de modo que la memoria depende del
+ * número de vencimientos de la ventana y no del tamaño de la colección. Las tareas creadas que
+ * vencen dentro de la ventana ya cargada se añaden a la rueda directamente; las que vencen más
+ * tarde se cargarán con su ventana.
+ * </p>
+ * <p>
+ * La entrega es al menos una vez: una tarea creada mientras se carga su ventana puede añadirse
+ * dos veces. Si la carga de una ventana falla, se reintenta pasados
+ * {@link #LOAD_RETRY_DELAY}, y las tareas que han vencido mientras tanto se notifican al
+ * cargarla. Los vencimientos anteriores al arranque no se notifican.
+ * </p>
+ */
+@Slf4j
+public class TaskExpiryScheduler implements SmartLifecycle {
+
+  static final Duration LOAD_RETRY_DELAY = Duration.ofMinutes(1);
+
+  private static final int LOAD_CHUNK_SIZE = 1000;
+
+  private final TaskRepositoryPort taskRepositoryPort;
+  private final List<TaskExpiryListener> listeners;
+  private final TaskExecutor loadExecutor;
+  private final boolean enabled;
+  private final Duration tick;
+  private final long horizonMillis;
+  private final ZoneId zone = ZoneId.systemDefault();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final TimingWheel<String> wheel;
+  private final AtomicBoolean loading = new AtomicBoolean();
+
+  /**
+   * Límite superior, excluido, de los vencimientos cargados en la rueda. Se modifica con el
+   * bloqueo adquirido.
+   */
+  private volatile long loadedUntil = Long.MIN_VALUE;
+  private volatile long nextLoadAttempt = Long.MIN_VALUE;
+  private volatile ScheduledExecutorService ticker;
+
+  public TaskExpiryScheduler(TaskRepositoryPort taskRepositoryPort,
+      List<TaskExpiryListener> listeners, TaskExecutor loadExecutor, boolean enabled,
+      Duration tick, Duration horizon) {
+    this.taskRepositoryPort = taskRepositoryPort;
+    this.listeners = List.copyOf(listeners);
+    this.loadExecutor = loadExecutor;
+    this.enabled = enabled;
+    this.tick = tick;
+    this.horizonMillis = horizon.toMillis();
+    this.wheel = new TimingWheel<>(tick.toMillis(), System.currentTimeMillis());
+  }
+
+  /**
+   * Programa el vencimiento de una tarea recién guardada.
+   *
+   * @param task tarea guardada
+   */
+  public void schedule(Task task) {
+    schedule(List.of(task));
+  }
+
+  /**
+   * Programa el vencimiento de las tareas recién guardadas que vencen dentro de la ventana ya
+   * cargada. Las tareas ya vencidas se descartan.
+   *
+   * @param tasks tareas guardadas
+   */
+  public void schedule(Collection<Task> tasks) {
+    add(tasks);
+  }
+
+  /**
+   * Número de vencimientos pendientes en la rueda.
+   *
+   * @return vencimientos pendientes
+   */
+  public int getPendingCount() {
+    lock.lock();
+    try {
+      return wheel.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!enabled || ticker != null) {
+      return;
+    }
+
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "task-expiry-wheel");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long tickMillis = tick.toMillis();
+    executor.scheduleAtFixedRate(this::tick, 0, tickMillis, TimeUnit.MILLISECONDS);
+    ticker = executor;
+    log.info("Task expiry scheduler started with tick {} and horizon {}", tick,
+        Duration.ofMillis(horizonMillis));
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService executor = ticker;
+    if (executor == null) {
+      return;
+    }
+
+    executor.shutdownNow();
+    ticker = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return ticker != null;
+  }
+
+  @Override
+  public boolean isAutoStartup() {
+    return enabled;
+  }
+
+  private void tick() {
+    try {
+      advanceTo(System.currentTimeMillis());
+    } catch (RuntimeException ex) {
+      log.warn("Task expiry tick failed", ex);
+    }
+  }
+
+  /**
+   * Avanza la rueda hasta el instante indicado, notifica las tareas vencidas y, si ha pasado la
+   * mitad de la ventana cargada, carga la siguiente en segundo plano.
+   *
+   * @param nowMillis instante actual en milisegundos
+   */
+  void advanceTo(long nowMillis) {
+    List<TimingWheel.Expired<String>> expired;
+    lock.lock();
+    try {
+      expired = wheel.advance(nowMillis);
+    } finally {
+      lock.unlock();
+    }
+    publish(expired);
+
+    if (nowMillis + horizonMillis / 2 >= loadedUntil && nowMillis >= nextLoadAttempt
+        && loading.compareAndSet(false, true)) {
+      try {
+        loadExecutor.execute(() -> load(nowMillis));
+      } catch (RuntimeException ex) {
+        loading.set(false);
+        throw ex;
+      }
+    }
+  }
+
+  /**
+   * Carga de la base de datos las tareas que vencen entre el final de la ventana anterior y
+   * {@code horizon} después del instante indicado. El límite de la ventana se amplía antes de
+   * consultar, para que las tareas creadas durante la carga se añadan directamente.
+   */
+  void load(long nowMillis) {
+    long previous;
+    long from;
+    long until;
+    lock.lock();
+    try {
+      previous = loadedUntil;
+      from = previous == Long.MIN_VALUE ? nowMillis : previous;
+      until = Math.max(previous, nowMillis + horizonMillis);
+      loadedUntil = until;
+    } finally {
+      lock.unlock();
+    }
+
+    log.info("Loading task due dates in [{}, {})", toDateTime(from), toDateTime(until));
+
+    try (Stream<Task> tasks = taskRepositoryPort.streamDueDates(
+        DueDateRange.of(toDateTime(from), toDateTime(until)))) {
+      long loaded = 0;
+      List<Task> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+      for (Iterator<Task> iterator = tasks.iterator(); iterator.hasNext(); ) {
+        chunk.add(iterator.next());
+        if (chunk.size() == LOAD_CHUNK_SIZE || !iterator.hasNext()) {
+          loaded += chunk.size();
+          publish(add(chunk));
+          chunk.clear();
+        }
+      }
+
+      log.info("Loaded {} task due dates, {} pending expirations", loaded, getPendingCount());
+    } catch (RuntimeException ex) {
+      lock.lock();
+      try {
+        if (loadedUntil == until) {
+          loadedUntil = previous;
+        }
+      } finally {
+        lock.unlock();
+      }
+      nextLoadAttempt = System.currentTimeMillis() + LOAD_RETRY_DELAY.toMillis();
+      log.warn("Could not load task due dates, retrying in {}", LOAD_RETRY_DELAY, ex);
+    } finally {
+      loading.set(false);
+    }
+  }
+
+  /**
+   * Añade a la rueda las tareas que vencen dentro de la ventana cargada.
+   *
+   * @return tareas de la ventana que ya habían vencido
+   */
+  private List<TimingWheel.Expired<String>> add(Collection<Task> tasks) {
+    List<TimingWheel.Expired<String>> alreadyExpired = new ArrayList<>();
+    lock.lock();
+    try {
+      for (Task task : tasks) {
+        if (task.getDueDate() == null) {
+          continue;
+        }
+        long dueMillis = task.getDueDate().atZone(zone).toInstant().toEpochMilli();
+        if (dueMillis < loadedUntil && !wheel.add(task.getId(), dueMillis)) {
+          alreadyExpired.add(new TimingWheel.Expired<>(task.getId(), dueMillis));
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    return alreadyExpired;
+  }
+
+  private void publish(List<TimingWheel.Expired<String>> expired) {
+    if (expired.isEmpty()) {
+      return;
+    }
+
+    List<ExpiredTask> expiredTasks = expired.stream()
+        .map(entry -> new ExpiredTask(entry.item(), toDateTime(entry.deadlineMillis())))
+        .toList();
+    for (TaskExpiryListener listener : listeners) {
+      try {
+        listener.onTasksExpired(expiredTasks);
+      } catch (RuntimeException ex) {
+        log.warn("Task expiry listener {} failed", listener.getClass().getSimpleName(), ex);
+      }
+    }
+  }
+
+  private LocalDateTime toDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+  }
+}
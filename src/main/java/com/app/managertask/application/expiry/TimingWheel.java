@@ -0,0 +1,165 @@
+package com.app.managertask.application.expiry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rueda de temporización jerárquica.
+ * <p>
+ * Los vencimientos se expresan en milisegundos y se agrupan en ticks de {@code tickMillis}. Cada
+ * nivel tiene {@value #SLOTS} huecos y cubre {@value #SLOTS} veces el intervalo del nivel
+ * inferior, de modo que {@value #LEVELS} niveles abarcan {@code 64^6} ticks. Un elemento se
+ * coloca en el nivel más bajo cuyo hueco lo separa del tick actual, usando los dígitos en base
+ * {@value #SLOTS} de su tick de vencimiento: la inserción es O(1) y no depende del número de
+ * elementos. Al avanzar, cuando los dígitos inferiores del tick actual vuelven a cero, el hueco
+ * correspondiente de los niveles superiores se redistribuye en los inferiores, y los elementos
+ * del hueco del nivel 0 vencen.
+ * </p>
+ * <p>
+ * Un elemento vence en el primer tick posterior a su vencimiento, por lo que se notifica con un
+ * retraso de como máximo un tick. La rueda no es segura para hilos.
+ * </p>
+ *
+ * @param <T> tipo de los elementos
+ */
+final class TimingWheel<T> {
+
+  private static final int BITS = 6;
+  private static final int SLOTS = 1 << BITS;
+  private static final int MASK = SLOTS - 1;
+  private static final int LEVELS = 6;
+
+  private final long tickMillis;
+  private final Node<T>[][] slots;
+  private Node<T> overflow;
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  TimingWheel(long tickMillis, long startMillis) {
+    if (tickMillis < 1) {
+      throw new IllegalArgumentException("The tick must be at least one millisecond");
+    }
+    this.tickMillis = tickMillis;
+    this.slots = new Node[LEVELS][SLOTS];
+    this.currentTick = Math.floorDiv(startMillis, tickMillis);
+  }
+
+  /**
+   * Añade un elemento que vence en el instante indicado.
+   *
+   * @param item           elemento
+   * @param deadlineMillis instante de vencimiento en milisegundos
+   * @return {@code false} si el instante ya ha pasado y el elemento no se ha añadido
+   */
+  boolean add(T item, long deadlineMillis) {
+    long deadlineTick = Math.floorDiv(deadlineMillis, tickMillis) + 1;
+    if (deadlineTick <= currentTick) {
+      return false;
+    }
+    place(new Node<>(item, deadlineMillis, deadlineTick));
+    size++;
+    return true;
+  }
+
+  /**
+   * Avanza la rueda hasta el instante indicado y devuelve los elementos vencidos, en orden de
+   * vencimiento por ticks.
+   *
+   * @param nowMillis instante actual en milisegundos
+   * @return elementos vencidos con su instante de vencimiento
+   */
+  List<Expired<T>> advance(long nowMillis) {
+    long targetTick = Math.floorDiv(nowMillis, tickMillis);
+    List<Expired<T>> expired = new ArrayList<>();
+    if (size == 0) {
+      currentTick = Math.max(currentTick, targetTick);
+      return expired;
+    }
+
+    while (currentTick < targetTick && size > 0) {
+      currentTick++;
+      cascade();
+      Node<T> node = slots[0][(int) (currentTick & MASK)];
+      slots[0][(int) (currentTick & MASK)] = null;
+      while (node != null) {
+        expired.add(new Expired<>(node.item, node.deadlineMillis));
+        size--;
+        node = node.next;
+      }
+    }
+    currentTick = Math.max(currentTick, targetTick);
+    return expired;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Redistribuye los huecos de los niveles superiores que empiezan en el tick actual, de mayor a
+   * menor nivel para que los elementos bajen hasta el nivel 0 en el mismo tick.
+   */
+  private void cascade() {
+    if ((currentTick & ((1L << (BITS * LEVELS)) - 1)) == 0 && overflow != null) {
+      Node<T> node = overflow;
+      overflow = null;
+      replace(node);
+    }
+    for (int level = LEVELS - 1; level > 0; level--) {
+      if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) {
+        continue;
+      }
+      int index = (int) ((currentTick >>> (BITS * level)) & MASK);
+      Node<T> node = slots[level][index];
+      slots[level][index] = null;
+      replace(node);
+    }
+  }
+
+  private void replace(Node<T> node) {
+    while (node != null) {
+      Node<T> next = node.next;
+      place(node);
+      node = next;
+    }
+  }
+
+  /**
+   * Coloca un nodo en el nivel más bajo en el que su tick de vencimiento y el actual comparten
+   * todos los dígitos superiores, o en el desbordamiento si no lo comparten en ningún nivel.
+   */
+  private void place(Node<T> node) {
+    for (int level = 0; level < LEVELS; level++) {
+      int shift = BITS * (level + 1);
+      if ((node.deadlineTick >>> shift) == (currentTick >>> shift)) {
+        int index = (int) ((node.deadlineTick >>> (BITS * level)) & MASK);
+        node.next = slots[level][index];
+        slots[level][index] = node;
+        return;
+      }
+    }
+    node.next = overflow;
+    overflow = node;
+  }
+
+  /**
+   * Elemento vencido junto con su instante de vencimiento en milisegundos.
+   */
+  record Expired<T>(T item, long deadlineMillis) {
+  }
+
+  private static final class Node<T> {
+
+    private final T item;
+    private final long deadlineMillis;
+    private final long deadlineTick;
+    private Node<T> next;
+
+    private Node(T item, long deadlineMillis, long deadlineTick) {
+      this.item = item;
+      this.deadlineMillis = deadlineMillis;
+      this.deadlineTick = deadlineTick;
+    }
+  }
+}
@@ -0,0 +1,430 @@
+package com.app.managertask.application.ingest;
+
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.application.mapper.TaskMapper;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Cola de escritura diferida para la creación de tareas.
+ * <p>
+ * Las tareas, con su ID ya asignado, se encolan en una cola acotada en memoria y un hilo de
+ * escritura las guarda en la base de datos por lotes: un lote se escribe al alcanzar
+ * {@code batchSize} tareas o al pasar {@code maxLinger} desde la primera tarea del lote. Si la
+ * cola está llena, el encolado espera como máximo {@code offerTimeout} y después se rechaza, de
+ * modo que la presión se traslada a los clientes en lugar de crecer la memoria.
+ * </p>
+ * <p>
+ * Mientras no se han guardado, las tareas se pueden consultar por su ID. Si la base de datos no
+ * está disponible, el lote se reintenta sin límite de intentos, con una espera que se duplica
+ * hasta {@value #MAX_RETRY_DELAY_SECONDS} segundos; mientras tanto la cola se llena y las tareas
+ * nuevas se rechazan. Las tareas que la base de datos rechaza una a una se reintentan hasta
+ * {@value #MAX_WRITE_ATTEMPTS} veces y después se descartan registrando su contenido.
+ * </p>
+ * <p>
+ * Al detener la aplicación se deja de aceptar tareas y se vacía la cola antes de cerrar la
+ * conexión con la base de datos. Si no da tiempo en {@code shutdownTimeout}, las tareas pendientes
+ * se guardan en {@code spillFile}, una por línea en JSON, y se vuelven a encolar al arrancar. El
+ * fichero se conserva hasta que se han escrito todas sus tareas, de modo que una caída durante la
+ * recuperación no las pierde; volver a insertarlas es seguro porque conservan su ID.
+ * </p>
+ */
+@Slf4j
+public class TaskIngestQueue implements SmartLifecycle {
+
+  static final int MAX_WRITE_ATTEMPTS = 3;
+  static final long MAX_RETRY_DELAY_SECONDS = 5;
+
+  /**
+   * Fase de parada anterior a la de la base de datos y posterior a la del servidor web, para no
+   * recibir tareas nuevas mientras se vacía la cola.
+   */
+  private static final int PHASE = Integer.MAX_VALUE - 2048;
+
+  /**
+   * Tiempo que se espera a que termine el hilo de escritura tras interrumpirlo.
+   */
+  private static final Duration INTERRUPT_TIMEOUT = Duration.ofSeconds(1);
+
+  private final TaskRepositoryPort taskRepositoryPort;
+  private final TaskCache taskCache;
+  private final TaskExpiryScheduler taskExpiryScheduler;
+  private final TaskMapper taskMapper = TaskMapper.INSTANCE;
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private final boolean enabled;
+  private final int batchSize;
+  private final Duration maxLinger;
+  private final Duration offerTimeout;
+  private final Duration shutdownTimeout;
+  private final Path spillFile;
+
+  private final BlockingQueue<Task> queue;
+  private final Map<String, Task> pending = new ConcurrentHashMap<>();
+  private final Map<String, Integer> attempts = new HashMap<>();
+  private final List<Task> retries = new ArrayList<>();
+
+  /**
+   * IDs de las tareas recuperadas del fichero de desbordamiento que siguen pendientes. El fichero
+   * se elimina cuando se vacía.
+   */
+  private final Set<String> replaying = new HashSet<>();
+
+  /**
+   * Protege el paso de {@code accepting} a {@code false} frente a los encolados en curso, de modo
+   * que ninguna tarea entra en la cola después de que el hilo de escritura la haya vaciado.
+   */
+  private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+  private long retryDelayNanos;
+  private volatile boolean accepting;
+  private volatile Thread writer;
+
+  public TaskIngestQueue(TaskRepositoryPort taskRepositoryPort, TaskCache taskCache,
+      TaskExpiryScheduler taskExpiryScheduler, boolean enabled, int capacity, int batchSize,
+      Duration maxLinger, Duration offerTimeout, Duration shutdownTimeout, Path spillFile) {
+    this.taskRepositoryPort = taskRepositoryPort;
+    this.taskCache = taskCache;
+    this.taskExpiryScheduler = taskExpiryScheduler;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.maxLinger = maxLinger;
+    this.offerTimeout = offerTimeout;
+    this.shutdownTimeout = shutdownTimeout;
+    this.spillFile = spillFile;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.retryDelayNanos = maxLinger.toNanos();
+  }
+
+  /**
+   * Encola una tarea para guardarla en segundo plano.
+   *
+   * @param task tarea con su ID asignado
+   * @return {@code true} si se ha encolado, {@code false} si la cola sigue llena tras esperar o no
+   * se aceptan tareas
+   */
+  public boolean submit(Task task) {
+    acceptLock.readLock().lock();
+    try {
+      if (!accepting) {
+        return false;
+      }
+
+      pending.put(task.getId(), task);
+      try {
+        if (queue.offer(task, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+          return true;
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      pending.remove(task.getId());
+      return false;
+    } finally {
+      acceptLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Devuelve una tarea encolada que todavía no se ha guardado.
+   *
+   * @param id ID de la tarea
+   * @return la tarea, o vacío si no está pendiente
+   */
+  public Optional<Task> getPending(String id) {
+    return Optional.ofNullable(pending.get(id));
+  }
+
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void start() {
+    if (!enabled || writer != null) {
+      return;
+    }
+
+    List<Task> spilled = readSpillFile();
+    spilled.forEach(task -> {
+      pending.put(task.getId(), task);
+      replaying.add(task.getId());
+    });
+    retries.addAll(spilled);
+
+    accepting = true;
+    Thread thread = new Thread(this::run, "task-ingest-writer");
+    thread.start();
+    writer = thread;
+    log.info("Task ingest queue started with batch size {} and max linger {}", batchSize,
+        maxLinger);
+  }
+
+  @Override
+  public void stop() {
+    Thread thread = writer;
+    if (thread == null) {
+      return;
+    }
+
+    acceptLock.writeLock().lock();
+    try {
+      accepting = false;
+    } finally {
+      acceptLock.writeLock().unlock();
+    }
+
+    log.info("Stopping task ingest queue, flushing {} pending tasks", pending.size());
+    try {
+      thread.join(shutdownTimeout.toMillis());
+      if (thread.isAlive()) {
+        log.warn("Task ingest queue did not flush in {}, stopping the writer", shutdownTimeout);
+        thread.interrupt();
+        thread.join(INTERRUPT_TIMEOUT.toMillis());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    if (!pending.isEmpty()) {
+      writeSpillFile(List.copyOf(pending.values()));
+    }
+    writer = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return writer != null;
+  }
+
+  @Override
+  public boolean isAutoStartup() {
+    return enabled;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  private void run() {
+    try {
+      while (accepting || !queue.isEmpty() || !retries.isEmpty()) {
+        List<Task> batch = nextBatch();
+        if (!batch.isEmpty()) {
+          write(batch);
+        }
+        if (!retries.isEmpty()) {
+          TimeUnit.NANOSECONDS.sleep(retryDelayNanos);
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Espera a la primera tarea y reúne el lote hasta completar {@code batchSize} o agotar
+   * {@code maxLinger}. Las tareas pendientes de reintento encabezan el lote.
+   */
+  List<Task> nextBatch() throws InterruptedException {
+    List<Task> batch = new ArrayList<>(batchSize);
+    batch.addAll(retries);
+    retries.clear();
+
+    if (batch.isEmpty()) {
+      Task first = queue.poll(maxLinger.toNanos(), TimeUnit.NANOSECONDS);
+      if (first == null) {
+        return batch;
+      }
+      batch.add(first);
+    }
+
+    long deadline = System.nanoTime() + maxLinger.toNanos();
+    while (batch.size() < batchSize) {
+      if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+        continue;
+      }
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || !accepting) {
+        break;
+      }
+      Task next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    return batch;
+  }
+
+  /**
+   * Guarda un lote, refleja las tareas guardadas en las cachés y programa el reintento del resto.
+   * Si la escritura falla por completo, se reintenta el lote entero sin contar el intento.
+   */
+  void write(List<Task> batch) {
+    List<Task> saved;
+    try {
+      saved = taskRepositoryPort.saveAll(batch);
+      retryDelayNanos = maxLinger.toNanos();
+    } catch (RuntimeException ex) {
+      retryDelayNanos = Math.min(TimeUnit.SECONDS.toNanos(MAX_RETRY_DELAY_SECONDS),
+          Math.max(maxLinger.toNanos(), retryDelayNanos * 2));
+      log.warn("Could not write batch of {} tasks, retrying in {} ms: {}", batch.size(),
+          TimeUnit.NANOSECONDS.toMillis(retryDelayNanos), ex.getMessage());
+      retries.addAll(batch);
+      return;
+    }
+
+    taskCache.onTasksCreated(saved.stream()
+        .map(taskMapper::mapToTaskResponse)
+        .toList());
+    taskExpiryScheduler.schedule(saved);
+    Set<String> savedIds = new HashSet<>();
+    for (Task task : saved) {
+      savedIds.add(task.getId());
+      attempts.remove(task.getId());
+      pending.remove(task.getId());
+    }
+
+    for (Task task : batch) {
+      if (savedIds.contains(task.getId())) {
+        continue;
+      }
+      int taskAttempts = attempts.merge(task.getId(), 1, Integer::sum);
+      if (taskAttempts < MAX_WRITE_ATTEMPTS) {
+        retries.add(task);
+      } else {
+        log.error("Dropping task {} rejected by the database {} times: {}", task.getId(),
+            taskAttempts, task);
+        attempts.remove(task.getId());
+        pending.remove(task.getId());
+      }
+    }
+
+    if (!replaying.isEmpty()) {
+      replaying.removeIf(id -> !pending.containsKey(id));
+      if (replaying.isEmpty()) {
+        deleteSpillFile();
+      }
+    }
+  }
+
+  /**
+   * Guarda las tareas pendientes en el fichero de desbordamiento, escribiéndolo en uno temporal
+   * que después lo sustituye.
+   */
+  private void writeSpillFile(List<Task> tasks) {
+    try {
+      Path directory = spillFile.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temporary = Files.createTempFile(directory, spillFile.getFileName().toString(),
+          ".tmp");
+      try {
+        List<String> lines = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+          lines.add(objectMapper.writeValueAsString(SpilledTask.of(task)));
+        }
+        Files.write(temporary, lines, StandardCharsets.UTF_8);
+        Files.move(temporary, spillFile, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+      log.warn("Saved {} pending tasks to {}, they will be written on the next start",
+          tasks.size(), spillFile);
+    } catch (IOException ex) {
+      log.error("Could not save {} pending tasks to {}, they were not saved: {}", tasks.size(),
+          spillFile, tasks, ex);
+    }
+  }
+
+  /**
+   * Lee el fichero de desbordamiento, que se conserva hasta que se escriben sus tareas. Si no se
+   * puede leer, se conserva para recuperarlo manualmente.
+   *
+   * @return tareas pendientes de la ejecución anterior
+   */
+  private List<Task> readSpillFile() {
+    try {
+      List<Task> tasks = new ArrayList<>();
+      for (String line : Files.readAllLines(spillFile, StandardCharsets.UTF_8)) {
+        if (!line.isBlank()) {
+          tasks.add(objectMapper.readValue(line, SpilledTask.class).toTask());
+        }
+      }
+      if (tasks.isEmpty()) {
+        deleteSpillFile();
+      }
+      log.info("Requeued {} pending tasks from {}", tasks.size(), spillFile);
+      return tasks;
+    } catch (NoSuchFileException ex) {
+      return List.of();
+    } catch (IOException ex) {
+      log.error("Could not read pending tasks from {}", spillFile, ex);
+      return List.of();
+    }
+  }
+
+  private void deleteSpillFile() {
+    try {
+      if (Files.deleteIfExists(spillFile)) {
+        log.info("All pending tasks from {} were written, deleted it", spillFile);
+      }
+    } catch (IOException ex) {
+      log.warn("Could not delete {}, its tasks will be written again on the next start: {}",
+          spillFile, ex.getMessage());
+    }
+  }
+
+  /**
+   * Tarea pendiente tal como se guarda en el fichero de desbordamiento.
+   */
+  private record SpilledTask(String id, String title, String description,
+      LocalDateTime dueDate, String[] tags) {
+
+    private static SpilledTask of(Task task) {
+      return new SpilledTask(task.getId(), task.getTitle(), task.getDescription(),
+          task.getDueDate(), task.getTags());
+    }
+
+    private Task toTask() {
+      return Task.builder()
+          .id(id)
+          .title(title)
+          .description(description)
+          .dueDate(dueDate)
+          .tags(tags)
+          .build();
+    }
+  }
+}
@@ -2,12 +2,19 @@ package com.app.managertask.application.mapper;
 
 import com.app.managertask.application.dto.request.CreateTaskRequest;
 import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.dto.response.TaskSummaryResponse;
 import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
-@Mapper
+@Mapper(imports = TaskStatus.class)
 public interface TaskMapper {
 
   TaskMapper INSTANCE = Mappers.getMapper(TaskMapper.class);
@@ -20,6 +27,16 @@ public interface TaskMapper {
    */
   Task mapToTaskEntity(CreateTaskRequest createTaskRequest);
 
+  /**
+   * Mapeo de un DTO de solicitud de creación de una tarea a una entidad Task con el ID indicado.
+   *
+   * @param createTaskRequest DTO de la Tarea
+   * @param id                ID asignado a la tarea
+   * @return Task
+   */
+  @Mapping(target = "id", source = "id")
+  Task mapToTaskEntity(CreateTaskRequest createTaskRequest, String id);
+
   /**
    * Mapeo de una Task en un DTO de respuesta.
    *
@@ -27,6 +44,103 @@ public interface TaskMapper {
    * @return GetTaskResponse
    */
   @Mapping(target = "status", expression = "java(task.getStatus())")
+  @Mapping(target = "stale", ignore = true)
   GetTaskResponse mapToTaskResponseWithStatus(Task task);
 
+  /**
+   * Mapeo de una Task en un DTO de respuesta con el estado en el instante indicado, de modo que
+   * todas las tareas de una respuesta se evalúan con una única lectura del reloj.
+   *
+   * @param task Task
+   * @param now  instante de la petición
+   * @return GetTaskResponse
+   */
+  @Mapping(target = "status", expression = "java(TaskStatus.of(task.getDueDate(), now).getLabel())")
+  @Mapping(target = "stale", ignore = true)
+  GetTaskResponse mapToTaskResponseWithStatus(Task task, @Context LocalDateTime now);
+
+  /**
+   * Mapeo de una Task en un DTO de respuesta sin estado, apto para guardarse en caché porque no
+   * depende del instante en que se consulta.
+   *
+   * @param task Task
+   * @return GetTaskResponse sin estado
+   */
+  @Mapping(target = "status", ignore = true)
+  @Mapping(target = "stale", ignore = true)
+  GetTaskResponse mapToTaskResponse(Task task);
+
+  /**
+   * Mapeo de una Task, que puede estar proyectada con solo el ID, el título y la fecha de
+   * vencimiento, en un DTO de resumen con el estado en el instante indicado.
+   *
+   * @param task Task
+   * @param now  instante de la petición
+   * @return TaskSummaryResponse
+   */
+  @Mapping(target = "status", expression = "java(TaskStatus.of(task.getDueDate(), now).getLabel())")
+  TaskSummaryResponse mapToTaskSummaryResponse(Task task, @Context LocalDateTime now);
+
+  /**
+   * Mapeo de un DTO de respuesta cacheado en un DTO de resumen con el estado en el instante
+   * indicado.
+   *
+   * @param task DTO de la tarea
+   * @param now  instante de la petición
+   * @return TaskSummaryResponse
+   */
+  @Mapping(target = "status", expression = "java(TaskStatus.of(task.getDueDate(), now).getLabel())")
+  TaskSummaryResponse mapToTaskSummaryResponse(GetTaskResponse task, @Context LocalDateTime now);
+
+  /**
+   * Añade a un DTO de respuesta el estado de la tarea en el instante indicado.
+   *
+   * @param task DTO de la tarea
+   * @param now  instante de la petición
+   * @return copia del DTO con el estado
+   */
+  default GetTaskResponse withStatus(GetTaskResponse task, LocalDateTime now) {
+    return task.toBuilder()
+        .status(TaskStatus.of(task.getDueDate(), now).getLabel())
+        .build();
+  }
+
+  /**
+   * Añade a una lista de DTOs el estado de cada tarea en el instante indicado. La lista devuelta
+   * es una vista que calcula el estado de cada tarea al acceder a ella, sin copiar la lista.
+   *
+   * @param tasks DTOs de las tareas
+   * @param now   instante de la petición
+   * @return vista de la lista con el estado de cada tarea
+   */
+  default List<GetTaskResponse> withStatus(List<GetTaskResponse> tasks, LocalDateTime now) {
+    return new StatusView(tasks, now, this);
+  }
+
+  /**
+   * Vista de una lista de DTOs sin estado que añade el estado al acceder a cada elemento.
+   */
+  final class StatusView extends AbstractList<GetTaskResponse> implements RandomAccess {
+
+    private final List<GetTaskResponse> tasks;
+    private final LocalDateTime now;
+    private final TaskMapper mapper;
+
+    private StatusView(List<GetTaskResponse> tasks, LocalDateTime now, TaskMapper mapper) {
+      this.tasks = tasks;
+      this.now = now;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public GetTaskResponse get(int index) {
+      return mapper.withStatus(tasks.get(index), now);
+    }
+
+    @Override
+    public int size() {
+      return tasks.size();
+    }
+  }
+
 }
\ No newline at end of file
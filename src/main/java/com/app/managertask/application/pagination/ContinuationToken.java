@@ -0,0 +1,90 @@
+package com.app.managertask.application.pagination;
+
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskSortField;
+import com.app.managertask.infrastructure.exception.InvalidTaskQueryException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Posición dentro de un listado paginado de tareas.
+ * <p>
+ * Se intercambia con el cliente como un token opaco en Base64 URL-safe que contiene el orden
+ * utilizado y la clave de la última tarea devuelta. El cliente no debe interpretar su contenido.
+ * </p>
+ */
+@Value
+@Builder
+public class ContinuationToken {
+
+  private static final String VERSION = "v1";
+  private static final String SEPARATOR = "|";
+
+  TaskSortField sortBy;
+  String lastId;
+  LocalDateTime lastDueDate;
+
+  /**
+   * Crea el token que apunta a continuación de la tarea indicada.
+   *
+   * @param sortBy orden del listado
+   * @param task   última tarea de la página devuelta
+   * @return ContinuationToken
+   */
+  public static ContinuationToken after(TaskSortField sortBy, Task task) {
+    return ContinuationToken.builder()
+        .sortBy(sortBy)
+        .lastId(task.getId())
+        .lastDueDate(sortBy == TaskSortField.DUE_DATE ? task.getDueDate() : null)
+        .build();
+  }
+
+  /**
+   * Serializa el token en su forma opaca.
+   *
+   * @return token codificado
+   */
+  public String encode() {
+    String raw = String.join(SEPARATOR, VERSION, sortBy.name(),
+        lastDueDate != null ? lastDueDate.toString() : "", lastId);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica un token recibido del cliente y comprueba que corresponde al orden solicitado.
+   *
+   * @param token  token opaco
+   * @param sortBy orden del listado solicitado
+   * @return ContinuationToken
+   * @throws InvalidTaskQueryException si el token está mal formado o pertenece a otro orden
+   */
+  public static ContinuationToken decode(String token, TaskSortField sortBy) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + SEPARATOR, 4);
+
+      if (parts.length != 4 || !VERSION.equals(parts[0]) || parts[3].isEmpty()
+          || TaskSortField.valueOf(parts[1]) != sortBy) {
+        throw new InvalidTaskQueryException("Invalid continuation token");
+      }
+
+      LocalDateTime lastDueDate = parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]);
+      if (sortBy == TaskSortField.DUE_DATE && lastDueDate == null) {
+        throw new InvalidTaskQueryException("Invalid continuation token");
+      }
+
+      return ContinuationToken.builder()
+          .sortBy(sortBy)
+          .lastId(parts[3])
+          .lastDueDate(lastDueDate)
+          .build();
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new InvalidTaskQueryException("Invalid continuation token");
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.app.managertask.application.service;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.response.CreateTaskResponse;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.mapper.TaskMapper;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.input.ReactiveTaskManagementUseCase;
+import com.app.managertask.domain.port.output.ReactiveTaskRepositoryPort;
+import com.app.managertask.infrastructure.exception.TaskNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Servicio para la gestión de tareas en el modo reactivo ({@code reactive}).
+ * <p>
+ * Ofrece las mismas operaciones que {@link TaskService} sin bloquear el hilo que atiende la
+ * petición: las consultas a la base de datos se realizan con el driver reactivo y los resultados
+ * se devuelven como {@link Mono} o {@link Flux}.
+ * </p>
+ *
+ * @see ReactiveTaskRepositoryPort
+ * @see TaskMapper
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveTaskService implements ReactiveTaskManagementUseCase {
+
+  private final ReactiveTaskRepositoryPort reactiveTaskRepositoryPort;
+  private final TaskMapper taskMapper = TaskMapper.INSTANCE;
+
+  public ReactiveTaskService(ReactiveTaskRepositoryPort reactiveTaskRepositoryPort) {
+    this.reactiveTaskRepositoryPort = reactiveTaskRepositoryPort;
+  }
+
+  /**
+   * Crea una nueva tarea en la base de datos.
+   *
+   * @param createTaskRequest DTO con la información de la tarea
+   * @return Mono con el ID de la tarea creada y mensaje de respuesta
+   */
+  @Override
+  public Mono<CreateTaskResponse> createTask(CreateTaskRequest createTaskRequest) {
+    log.info("Creating task with title: {}", createTaskRequest.getTitle());
+
+    Task task = taskMapper.mapToTaskEntity(createTaskRequest);
+
+    return reactiveTaskRepositoryPort.save(task)
+        .doOnNext(savedTask -> log.info("Task created successfully with ID: {}",
+            savedTask.getId()))
+        .map(savedTask -> CreateTaskResponse.builder()
+            .id(savedTask.getId())
+            .message("Task created successfully")
+            .build());
+  }
+
+  /**
+   * Recorre todas las tareas de la base de datos.
+   * <p>
+   * Las tareas se mapean a {@link GetTaskResponse} a medida que se leen, respetando la demanda del
+   * suscriptor, por lo que el listado no se construye completo en memoria.
+   * </p>
+   *
+   * @return Flux de DTOs con la información de cada tarea
+   */
+  @Override
+  public Flux<GetTaskResponse> getAllTasks() {
+    log.info("Streaming all tasks");
+
+    return reactiveTaskRepositoryPort.findAll()
+        .map(taskMapper::mapToTaskResponseWithStatus);
+  }
+
+  /**
+   * Obtener una tarea por su ID.
+   *
+   * @param id ID de la tarea a obtener
+   * @return Mono con el DTO de la tarea, o con {@link TaskNotFoundException} si no existe
+   */
+  @Override
+  public Mono<GetTaskResponse> getTaskById(String id) {
+    log.info("Fetching task with ID: {}", id);
+
+    return reactiveTaskRepositoryPort.findById(id)
+        .map(taskMapper::mapToTaskResponseWithStatus)
+        .switchIfEmpty(Mono.error(() -> {
+          log.debug("Task not found with ID: {}", id);
+          return new TaskNotFoundException("Task not found with ID: " + id);
+        }));
+  }
+}
@@ -1,18 +1,49 @@
 package com.app.managertask.application.service;
 
+import com.app.managertask.application.cache.TaskCache;
 import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.application.ingest.TaskIngestQueue;
+import com.app.managertask.application.dto.request.TaskPageRequest;
+import com.app.managertask.application.dto.response.CreateTaskBatchItemResponse;
+import com.app.managertask.application.dto.response.CreateTaskBatchResponse;
 import com.app.managertask.application.dto.response.CreateTaskResponse;
 import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.dto.response.TaskLookupResponse;
+import com.app.managertask.application.dto.response.TaskPageResponse;
+import com.app.managertask.application.dto.response.TaskSummaryResponse;
 import com.app.managertask.application.mapper.TaskMapper;
+import com.app.managertask.application.pagination.ContinuationToken;
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
 import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.domain.model.TaskPageQuery;
+import com.app.managertask.domain.model.TaskSortField;
+import com.app.managertask.domain.model.TaskStatus;
 import com.app.managertask.domain.port.input.TaskManagementUseCase;
 import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.exception.InvalidTaskBatchException;
+import com.app.managertask.infrastructure.exception.InvalidTaskQueryException;
+import com.app.managertask.infrastructure.exception.TaskIngestDisabledException;
+import com.app.managertask.infrastructure.exception.TaskIngestRejectedException;
 import com.app.managertask.infrastructure.exception.TaskNotFoundException;
 import com.app.managertask.infrastructure.repository.MongoTaskRepositoryInterface;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 /**
@@ -22,39 +53,68 @@ import org.springframework.stereotype.Service;
  * tareas Obtención de una tarea por su ID. Utiliza {@link MongoTaskRepositoryInterface} para las
  * operaciones con la base de datos y {@link TaskMapper} para la conversión entre entidades y DTOs.
  * </p>
+ * <p>
+ * Cada caso de uso publica un temporizador {@value #USE_CASE_TIMER} y un contador de errores
+ * {@value #USE_CASE_ERRORS}, etiquetados con el nombre del método y, en los errores, con la
+ * excepción. En {@link #streamAllTasks()} el temporizador solo mide la apertura del cursor.
+ * </p>
  *
  * @see MongoTaskRepositoryInterface
  * @see TaskMapper
  */
 @Service
+@Profile("!reactive")
 @Slf4j
+@Timed(value = TaskService.USE_CASE_TIMER, histogram = true)
+@Counted(value = TaskService.USE_CASE_ERRORS, recordFailuresOnly = true)
 public class TaskService implements TaskManagementUseCase {
 
+  static final String USE_CASE_TIMER = "task.use.case";
+  static final String USE_CASE_ERRORS = "task.use.case.errors";
+
+  static final int DEFAULT_PAGE_SIZE = 50;
+  static final int MAX_PAGE_SIZE = 500;
+  static final int MAX_BATCH_SIZE = 10_000;
+  static final int MAX_LOOKUP_SIZE = 1000;
+
   private final TaskRepositoryPort taskRepositoryPort;
+  private final TaskCache taskCache;
+  private final Validator validator;
+  private final TaskIngestQueue taskIngestQueue;
+  private final TaskExpiryScheduler taskExpiryScheduler;
   private final TaskMapper taskMapper = TaskMapper.INSTANCE;
 
-  public TaskService(TaskRepositoryPort taskRepositoryPort) {
+  public TaskService(TaskRepositoryPort taskRepositoryPort, TaskCache taskCache,
+      Validator validator, TaskIngestQueue taskIngestQueue,
+      TaskExpiryScheduler taskExpiryScheduler) {
     this.taskRepositoryPort = taskRepositoryPort;
+    this.taskCache = taskCache;
+    this.validator = validator;
+    this.taskIngestQueue = taskIngestQueue;
+    this.taskExpiryScheduler = taskExpiryScheduler;
   }
 
   /**
    * Crea una nueva tarea en la base de datos.
    * <p>
    * Convierte el {@link CreateTaskRequest} en una entidad {@link Task}, la guarda en la base de
-   * datos y devuelve un {@link CreateTaskResponse} con la información de la tarea creada.
+   * datos y devuelve un {@link CreateTaskResponse} con la información de la tarea creada. La tarea
+   * se añade a las cachés de tareas en lugar de invalidarlas y su vencimiento al planificador de
+   * vencimientos.
    * </p>
    *
    * @param createTaskRequest DTO con la información de la tarea
    * @return DTO con el ID de la tarea creada y mensaje de respuesta
    */
   @Override
-  @CacheEvict(value = "tasksCache", allEntries = true)
   public CreateTaskResponse createTask(CreateTaskRequest createTaskRequest) {
     log.info("Creating task with title: {}", createTaskRequest.getTitle());
 
     Task task = taskMapper.mapToTaskEntity(createTaskRequest);
 
     Task savedTask = taskRepositoryPort.save(task);
+    taskCache.onTaskCreated(taskMapper.mapToTaskResponse(savedTask));
+    taskExpiryScheduler.schedule(savedTask);
 
     log.info("Task created successfully with ID: {}", savedTask.getId());
 
@@ -64,33 +124,317 @@ public class TaskService implements TaskManagementUseCase {
         .build();
   }
 
+  /**
+   * Acepta una nueva tarea para guardarla en segundo plano.
+   * <p>
+   * El ID se genera antes de guardar la tarea, que se encola en la cola de escritura diferida y se
+   * guarda por lotes. Hasta entonces, la tarea se puede consultar por su ID.
+   * </p>
+   *
+   * @param createTaskRequest DTO con la información de la tarea
+   * @return DTO con el ID de la tarea aceptada y mensaje de respuesta
+   * @throws TaskIngestDisabledException si la cola de escritura está deshabilitada
+   * @throws TaskIngestRejectedException si la cola de escritura está llena o detenida
+   */
+  @Override
+  public CreateTaskResponse createTaskAsync(CreateTaskRequest createTaskRequest) {
+    if (!taskIngestQueue.isEnabled()) {
+      throw new TaskIngestDisabledException(
+          "Asynchronous task creation is disabled, use POST /api/tasks instead");
+    }
+
+    Task task = taskMapper.mapToTaskEntity(createTaskRequest, new ObjectId().toHexString());
+    if (!taskIngestQueue.submit(task)) {
+      log.warn("Task ingest queue is full, rejecting task with title: {}", task.getTitle());
+      throw new TaskIngestRejectedException("Too many pending tasks, try again later");
+    }
+
+    log.info("Task accepted with ID: {}", task.getId());
+
+    return CreateTaskResponse.builder()
+        .id(task.getId())
+        .message("Task accepted")
+        .build();
+  }
+
+  /**
+   * Crea un lote de tareas en la base de datos.
+   * <p>
+   * Cada tarea se valida por separado, de modo que las tareas inválidas no impiden crear el resto.
+   * Los IDs se generan antes de guardar para poder relacionar cada resultado con su tarea, y las
+   * tareas válidas se insertan con escrituras bulk. Las cachés y el planificador de vencimientos
+   * se actualizan una sola vez por lote.
+   * </p>
+   *
+   * @param createTaskRequests DTOs con la información de las tareas
+   * @return DTO con el resultado de cada tarea, en el mismo orden que la solicitud
+   * @throws InvalidTaskBatchException si el lote está vacío o supera el tamaño máximo
+   */
+  @Override
+  public CreateTaskBatchResponse createTasks(List<CreateTaskRequest> createTaskRequests) {
+    if (createTaskRequests == null || createTaskRequests.isEmpty()
+        || createTaskRequests.size() > MAX_BATCH_SIZE) {
+      throw new InvalidTaskBatchException(
+          "The batch must contain between 1 and " + MAX_BATCH_SIZE + " tasks");
+    }
+
+    log.info("Creating batch of {} tasks", createTaskRequests.size());
+
+    CreateTaskBatchItemResponse[] results =
+        new CreateTaskBatchItemResponse[createTaskRequests.size()];
+    Map<String, Integer> positions = new HashMap<>();
+    List<Task> tasks = new ArrayList<>(createTaskRequests.size());
+
+    for (int i = 0; i < createTaskRequests.size(); i++) {
+      CreateTaskRequest createTaskRequest = createTaskRequests.get(i);
+      Map<String, String> errors = validate(createTaskRequest);
+      if (!errors.isEmpty()) {
+        results[i] = CreateTaskBatchItemResponse.builder()
+            .index(i)
+            .message("Invalid task")
+            .errors(errors)
+            .build();
+        continue;
+      }
+
+      String id = new ObjectId().toHexString();
+      positions.put(id, i);
+      tasks.add(taskMapper.mapToTaskEntity(createTaskRequest, id));
+    }
+
+    List<Task> savedTasks = tasks.isEmpty() ? List.of() : taskRepositoryPort.saveAll(tasks);
+    for (Task savedTask : savedTasks) {
+      int index = positions.remove(savedTask.getId());
+      results[index] = CreateTaskBatchItemResponse.builder()
+          .index(index)
+          .id(savedTask.getId())
+          .message("Task created successfully")
+          .build();
+    }
+    positions.values().forEach(index -> results[index] = CreateTaskBatchItemResponse.builder()
+        .index(index)
+        .message("Task could not be saved")
+        .build());
+
+    taskCache.onTasksCreated(savedTasks.stream()
+        .map(taskMapper::mapToTaskResponse)
+        .toList());
+    taskExpiryScheduler.schedule(savedTasks);
+
+    log.info("Batch created {} of {} tasks", savedTasks.size(), createTaskRequests.size());
+
+    return CreateTaskBatchResponse.builder()
+        .created(savedTasks.size())
+        .failed(createTaskRequests.size() - savedTasks.size())
+        .results(Arrays.asList(results))
+        .build();
+  }
+
   /**
    * Lista todas las tareas que existen en la base de datos.
    * <p>
-   * Obtiene todas las tareas y las mapea en una lista de DTOs {@link GetTaskResponse}.
+   * Obtiene todas las tareas y las mapea en una lista de DTOs {@link GetTaskResponse}. El listado
+   * se sirve desde el índice cacheado y solo se consulta la base de datos para construirlo. El
+   * índice guarda las tareas sin estado; el estado de todas ellas se calcula con una única lectura
+   * del reloj al recorrer la lista devuelta.
    * </p>
    *
    * @return lista de DTOs con la información de todas las tareas
    */
   @Override
-  @Cacheable(value = "tasksCache")
   public List<GetTaskResponse> getAllTasks() {
     log.info("Fetching all tasks");
+    LocalDateTime now = LocalDateTime.now();
 
-    return taskRepositoryPort.findAll().stream()
-        .map(taskMapper::mapToTaskResponseWithStatus)
-        .peek(task -> log.info("Mapped task with ID: {} and status: {}",
-            task.getId(),
-            task.getStatus()))
+    return taskMapper.withStatus(taskCache.getAllTasks(this::loadAllTasks), now);
+  }
+
+  /**
+   * Lista todas las tareas con al menos el contenido de la versión indicada.
+   * <p>
+   * Igual que {@link #getAllTasks()}, pero si el índice cacheado tiene menos tareas que la
+   * versión, porque se han creado tareas desde otras instancias, se reconstruye antes de
+   * devolverlo.
+   * </p>
+   *
+   * @param version versión del listado leída con {@link #getTasksVersion()}
+   * @return lista de DTOs con la información de todas las tareas
+   */
+  @Override
+  public List<GetTaskResponse> getAllTasks(TaskListVersion version) {
+    log.info("Fetching all tasks of version {}", version);
+    LocalDateTime now = LocalDateTime.now();
+
+    return taskMapper.withStatus(taskCache.getAllTasks(version.getCount(), this::loadAllTasks),
+        now);
+  }
+
+  /**
+   * Lista todas las tareas con solo su ID, su título, su fecha de vencimiento y su estado.
+   * <p>
+   * Si el listado completo está cacheado, el resumen se obtiene de él sin consultar la base de
+   * datos. En otro caso se consultan las tareas proyectando solo los campos del resumen, sin
+   * transferir la descripción ni las etiquetas, y el resultado no se cachea.
+   * </p>
+   *
+   * @return lista de DTOs con el resumen de todas las tareas
+   */
+  @Override
+  public List<TaskSummaryResponse> getTaskSummaries() {
+    log.info("Fetching task summaries");
+    LocalDateTime now = LocalDateTime.now();
+
+    Optional<List<GetTaskResponse>> cachedTasks = taskCache.getCachedTasks();
+    if (cachedTasks.isPresent()) {
+      return cachedTasks.get().stream()
+          .map(task -> taskMapper.mapToTaskSummaryResponse(task, now))
+          .toList();
+    }
+
+    return taskRepositoryPort.findAllSummaries().stream()
+        .map(task -> taskMapper.mapToTaskSummaryResponse(task, now))
         .toList();
   }
 
+  /**
+   * Devuelve la versión del listado de tareas, leída de la base de datos.
+   * <p>
+   * La versión cambia cada vez que se crean tareas, desde cualquier instancia, y cada vez que
+   * vence alguna, y es la misma en todas las instancias mientras el listado no cambia, por lo que
+   * sirve para validar copias del listado. Se obtiene sin recorrer la colección.
+   * </p>
+   *
+   * @return versión del listado
+   */
+  @Override
+  public TaskListVersion getTasksVersion() {
+    return taskRepositoryPort.findListVersion(LocalDateTime.now());
+  }
+
+  /**
+   * Recorre todas las tareas de la base de datos sin cargarlas en memoria.
+   * <p>
+   * A diferencia de {@link #getAllTasks()}, no construye ni cachea la lista completa: cada tarea
+   * se mapea a {@link GetTaskResponse} a medida que se lee del cursor. El {@link Stream} devuelto
+   * debe cerrarse para liberar el cursor.
+   * </p>
+   *
+   * @return Stream de DTOs con la información de cada tarea
+   */
+  @Override
+  public Stream<GetTaskResponse> streamAllTasks() {
+    log.info("Streaming all tasks");
+    LocalDateTime now = LocalDateTime.now();
+
+    return taskRepositoryPort.streamAll()
+        .map(task -> taskMapper.mapToTaskResponseWithStatus(task, now));
+  }
+
+  /**
+   * Lista las tareas que tienen todas o alguna de las etiquetas indicadas.
+   * <p>
+   * La búsqueda se resuelve en la base de datos con una única consulta ({@code $all} o
+   * {@code $in}) servida por el índice multiclave sobre {@code tags}, de modo que ve siempre las
+   * tareas creadas por cualquier instancia.
+   * </p>
+   *
+   * @param tags  etiquetas a buscar
+   * @param match {@code all} si la tarea debe tener todas las etiquetas o {@code any} si basta con
+   *              una; por defecto {@code all}
+   * @return lista de DTOs con la información de las tareas, ordenadas por ID
+   * @throws InvalidTaskQueryException si no hay etiquetas o el modo de combinación no es válido
+   */
+  @Override
+  public List<GetTaskResponse> getTasksByTags(List<String> tags, String match) {
+    List<String> searchTags = tags == null ? List.of() : tags.stream()
+        .filter(tag -> tag != null && !tag.isBlank())
+        .distinct()
+        .toList();
+    if (searchTags.isEmpty()) {
+      throw new InvalidTaskQueryException("At least one tag is required");
+    }
+    TagMatch tagMatch = parseTagMatch(match);
+
+    log.info("Fetching tasks with {} of tags {}", tagMatch, searchTags);
+
+    List<Task> tasks = taskRepositoryPort.findByTags(searchTags, tagMatch);
+
+    LocalDateTime now = LocalDateTime.now();
+    return tasks.stream()
+        .map(task -> taskMapper.mapToTaskResponseWithStatus(task, now))
+        .toList();
+  }
+
+  /**
+   * Obtiene una página del listado de tareas.
+   * <p>
+   * Utiliza paginación por clave: la posición se transporta en un token opaco con la clave de la
+   * última tarea devuelta, por lo que el coste de cada página es constante independientemente del
+   * tamaño de la colección. Se solicita una tarea más del tamaño de página para saber si existe
+   * una página siguiente sin necesidad de contar.
+   * </p>
+   * <p>
+   * El filtro por estado y por fechas de vencimiento se traduce en un único intervalo de
+   * {@code dueDate}, que se resuelve en la base de datos. Si se filtra y no se indica orden, se
+   * ordena por fecha de vencimiento para recorrer el mismo índice.
+   * </p>
+   *
+   * @param taskPageRequest orden, token de continuación, tamaño de la página y filtros
+   * @return DTO con las tareas de la página y el token de la página siguiente
+   * @throws InvalidTaskQueryException si el orden, el token, el tamaño o el estado no son válidos
+   */
+  @Override
+  public TaskPageResponse getTasksPage(TaskPageRequest taskPageRequest) {
+    DueDateRange dueDateRange = resolveDueDateRange(taskPageRequest);
+    TaskSortField sortBy = taskPageRequest.getSort() == null && !dueDateRange.isUnbounded()
+        ? TaskSortField.DUE_DATE
+        : parseSortField(taskPageRequest.getSort());
+    int limit = resolvePageSize(taskPageRequest.getLimit());
+
+    ContinuationToken after = taskPageRequest.getCursor() != null
+        ? ContinuationToken.decode(taskPageRequest.getCursor(), sortBy)
+        : null;
+
+    if (dueDateRange.isEmpty()) {
+      return TaskPageResponse.builder().tasks(List.of()).build();
+    }
+
+    log.info("Fetching page of {} tasks sorted by {} with due date in [{}, {})", limit, sortBy,
+        dueDateRange.getFrom(), dueDateRange.getTo());
+
+    TaskPageQuery pageQuery = TaskPageQuery.builder()
+        .sortBy(sortBy)
+        .afterId(after != null ? after.getLastId() : null)
+        .afterDueDate(after != null ? after.getLastDueDate() : null)
+        .limit(limit + 1)
+        .build();
+    List<Task> tasks = dueDateRange.isUnbounded()
+        ? taskRepositoryPort.findPage(pageQuery)
+        : taskRepositoryPort.findPageByDueDate(dueDateRange, pageQuery);
+
+    boolean hasMore = tasks.size() > limit;
+    List<Task> page = hasMore ? tasks.subList(0, limit) : tasks;
+    LocalDateTime now = LocalDateTime.now();
+
+    return TaskPageResponse.builder()
+        .tasks(page.stream()
+            .map(task -> taskMapper.mapToTaskResponseWithStatus(task, now))
+            .toList())
+        .nextCursor(hasMore
+            ? ContinuationToken.after(sortBy, page.get(page.size() - 1)).encode()
+            : null)
+        .build();
+  }
+
   /**
    * Obtener una tarea por su ID.
    * <p>
    * Busca una tarea por su ID. Si la tarea no se encuentra, se lanza una
    * {@link TaskNotFoundException}. Si existe, la tarea es mapeada a un DTO
-   * {@link GetTaskResponse}.
+   * {@link GetTaskResponse}. Las peticiones concurrentes de una tarea que no está en caché
+   * comparten una única consulta a la base de datos, y los IDs que se sabe que no existen se
+   * resuelven sin consultarla. Las tareas aceptadas que todavía no se han guardado se obtienen de
+   * la cola de escritura. La caché guarda la tarea sin estado, que se calcula en cada petición.
    * </p>
    *
    * @param id ID de la tarea a obtener
@@ -98,18 +442,142 @@ public class TaskService implements TaskManagementUseCase {
    * @throws TaskNotFoundException si no se encuentra una tarea con el ID
    */
   @Override
-  @Cacheable(value = "taskCache", key = "#id")
   public GetTaskResponse getTaskById(String id) {
     log.info("Fetching task with ID: {}", id);
+    LocalDateTime now = LocalDateTime.now();
+
+    Optional<Task> pendingTask = taskIngestQueue.getPending(id);
+    if (pendingTask.isPresent()) {
+      return taskMapper.mapToTaskResponseWithStatus(pendingTask.get(), now);
+    }
 
-    Task task = taskRepositoryPort.findById(id)
+    return taskCache.getTask(id, () -> taskRepositoryPort.findById(id)
+            .map(taskMapper::mapToTaskResponse))
+        .map(task -> taskMapper.withStatus(task, now))
         .orElseThrow(() -> {
-          log.error("Task not found with ID: {}", id);
+          log.debug("Task not found with ID: {}", id);
           return new TaskNotFoundException("Task not found with ID: " + id);
         });
+  }
 
-    log.info("Task found with ID: {}", id);
+  /**
+   * Obtiene varias tareas por su ID en una sola operación.
+   * <p>
+   * Las tareas cacheadas se resuelven en una única pasada por la caché y todas las que faltan se
+   * obtienen con una sola consulta {@code $in} sobre {@code _id}, guardándolas después en la
+   * caché. Como en {@link #getTaskById(String)}, los IDs que se sabe que no existen no se
+   * consultan y las tareas aceptadas pendientes de guardar se obtienen de la cola de escritura.
+   * Los IDs sin tarea se informan en la respuesta en lugar de lanzar una excepción.
+   * </p>
+   *
+   * @param ids IDs de las tareas; los repetidos y vacíos se ignoran
+   * @return DTO con las tareas encontradas, en el orden de los IDs, y los IDs no encontrados
+   * @throws InvalidTaskQueryException si no hay IDs o hay más de {@value #MAX_LOOKUP_SIZE}
+   */
+  @Override
+  public TaskLookupResponse getTasksByIds(List<String> ids) {
+    List<String> lookupIds = ids == null ? List.of() : ids.stream()
+        .filter(id -> id != null && !id.isBlank())
+        .distinct()
+        .toList();
+    if (lookupIds.isEmpty() || lookupIds.size() > MAX_LOOKUP_SIZE) {
+      throw new InvalidTaskQueryException(
+          "The lookup must contain between 1 and " + MAX_LOOKUP_SIZE + " IDs");
+    }
+
+    log.info("Fetching {} tasks by ID", lookupIds.size());
+    LocalDateTime now = LocalDateTime.now();
+
+    Map<String, GetTaskResponse> found = new HashMap<>();
+    List<String> storedIds = new ArrayList<>(lookupIds.size());
+    for (String id : lookupIds) {
+      taskIngestQueue.getPending(id).ifPresentOrElse(
+          pendingTask -> found.put(id, taskMapper.mapToTaskResponse(pendingTask)),
+          () -> storedIds.add(id));
+    }
+    found.putAll(taskCache.getTasks(storedIds, misses -> taskRepositoryPort.findAllById(misses)
+        .stream()
+        .map(taskMapper::mapToTaskResponse)
+        .toList()));
+
+    List<GetTaskResponse> tasks = new ArrayList<>(found.size());
+    List<String> missingIds = new ArrayList<>();
+    for (String id : lookupIds) {
+      GetTaskResponse task = found.get(id);
+      if (task != null) {
+        tasks.add(taskMapper.withStatus(task, now));
+      } else {
+        missingIds.add(id);
+      }
+    }
+
+    log.info("Found {} of {} tasks by ID", tasks.size(), lookupIds.size());
+
+    return TaskLookupResponse.builder()
+        .tasks(tasks)
+        .missingIds(missingIds)
+        .build();
+  }
+
+  private List<GetTaskResponse> loadAllTasks() {
+    return taskRepositoryPort.findAll().stream()
+        .map(taskMapper::mapToTaskResponse)
+        .toList();
+  }
+
+  private Map<String, String> validate(CreateTaskRequest createTaskRequest) {
+    if (createTaskRequest == null) {
+      return Map.of("task", "Task cannot be null");
+    }
+
+    Map<String, String> errors = new HashMap<>();
+    for (ConstraintViolation<CreateTaskRequest> violation : validator.validate(createTaskRequest)) {
+      errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+    }
+    return errors;
+  }
+
+  private static TaskSortField parseSortField(String sort) {
+    if (sort == null || sort.isBlank() || "id".equalsIgnoreCase(sort)) {
+      return TaskSortField.ID;
+    }
+    if ("dueDate".equalsIgnoreCase(sort)) {
+      return TaskSortField.DUE_DATE;
+    }
+    throw new InvalidTaskQueryException("Invalid sort field: " + sort);
+  }
+
+  private static TagMatch parseTagMatch(String match) {
+    if (match == null || match.isBlank() || "all".equalsIgnoreCase(match)) {
+      return TagMatch.ALL;
+    }
+    if ("any".equalsIgnoreCase(match)) {
+      return TagMatch.ANY;
+    }
+    throw new InvalidTaskQueryException("Invalid tag match: " + match);
+  }
+
+  private static DueDateRange resolveDueDateRange(TaskPageRequest taskPageRequest) {
+    DueDateRange dueDateRange = DueDateRange.of(taskPageRequest.getDueFrom(),
+        taskPageRequest.getDueTo());
+
+    if (taskPageRequest.getStatus() == null) {
+      return dueDateRange;
+    }
+
+    TaskStatus status = TaskStatus.fromLabel(taskPageRequest.getStatus())
+        .orElseThrow(() -> new InvalidTaskQueryException(
+            "Invalid status: " + taskPageRequest.getStatus()));
+    return dueDateRange.intersect(DueDateRange.forStatus(status, LocalDateTime.now()));
+  }
 
-    return taskMapper.mapToTaskResponseWithStatus(task);
+  private static int resolvePageSize(Integer limit) {
+    if (limit == null) {
+      return DEFAULT_PAGE_SIZE;
+    }
+    if (limit < 1) {
+      throw new InvalidTaskQueryException("The page size must be greater than zero");
+    }
+    return Math.min(limit, MAX_PAGE_SIZE);
   }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.app.managertask.domain.model;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * Intervalo de fechas de vencimiento, cerrado por la izquierda y abierto por la derecha. Un
+ * extremo nulo indica que el intervalo no está acotado por ese lado.
+ */
+@Value(staticConstructor = "of")
+public class DueDateRange {
+
+  LocalDateTime from;
+  LocalDateTime to;
+
+  /**
+   * Intervalo de las tareas que tienen el estado indicado en el instante {@code now}.
+   *
+   * @param status estado de las tareas
+   * @param now    instante de referencia
+   * @return DueDateRange
+   */
+  public static DueDateRange forStatus(TaskStatus status, LocalDateTime now) {
+    return status == TaskStatus.EXPIRED ? of(null, now) : of(now, null);
+  }
+
+  /**
+   * Intersección de este intervalo con otro.
+   *
+   * @param other otro intervalo
+   * @return DueDateRange
+   */
+  public DueDateRange intersect(DueDateRange other) {
+    return of(max(from, other.from), min(to, other.to));
+  }
+
+  /**
+   * Indica si el intervalo no puede contener ninguna fecha.
+   *
+   * @return {@code true} si el intervalo está vacío
+   */
+  public boolean isEmpty() {
+    return from != null && to != null && !from.isBefore(to);
+  }
+
+  /**
+   * Indica si el intervalo no está acotado por ningún lado.
+   *
+   * @return {@code true} si el intervalo contiene cualquier fecha
+   */
+  public boolean isUnbounded() {
+    return from == null && to == null;
+  }
+
+  private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+    if (first == null) {
+      return second;
+    }
+    return second == null || first.isAfter(second) ? first : second;
+  }
+
+  private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+    if (first == null) {
+      return second;
+    }
+    return second == null || first.isBefore(second) ? first : second;
+  }
+}
@@ -0,0 +1,15 @@
+package com.app.managertask.domain.model;
+
+/**
+ * Forma de combinar varias etiquetas al filtrar tareas.
+ */
+public enum TagMatch {
+  /**
+   * La tarea debe tener todas las etiquetas.
+   */
+  ALL,
+  /**
+   * La tarea debe tener al menos una de las etiquetas.
+   */
+  ANY
+}
@@ -4,11 +4,14 @@ import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Value;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Value
 @Builder
 @Document(collection = "tasks")
+@CompoundIndex(name = "dueDate_id", def = "{'dueDate': 1, '_id': 1}")
 public class Task {
 
   @Id
@@ -16,6 +19,7 @@ public class Task {
   String title;
   String description;
   LocalDateTime dueDate;
+  @Indexed(sparse = true)
   String[] tags;
 
   /**
@@ -25,6 +29,6 @@ public class Task {
    * @return "Expired" o "Active"
    */
   public String getStatus() {
-    return dueDate.isBefore(LocalDateTime.now()) ? "Expired" : "Active";
+    return TaskStatus.of(dueDate, LocalDateTime.now()).getLabel();
   }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.app.managertask.domain.model;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * Versión del listado completo de tareas en un instante, obtenida del estado de la colección.
+ * <p>
+ * Las tareas solo se crean, nunca se modifican ni se borran, y su estado depende únicamente de su
+ * fecha de vencimiento. Por eso el número de tareas, el mayor ID y la fecha de vencimiento más
+ * reciente de las tareas ya vencidas determinan el contenido del listado: dos lecturas con la
+ * misma versión devuelven las mismas tareas con el mismo estado, sea cual sea la instancia que
+ * las haga.
+ * </p>
+ */
+@Value(staticConstructor = "of")
+public class TaskListVersion {
+
+  /**
+   * Número de tareas de la colección.
+   */
+  long count;
+
+  /**
+   * Mayor ID de las tareas, o {@code null} si no hay tareas.
+   */
+  String lastId;
+
+  /**
+   * Fecha de vencimiento más reciente de las tareas vencidas, o {@code null} si no ha vencido
+   * ninguna.
+   */
+  LocalDateTime lastExpiredDueDate;
+}
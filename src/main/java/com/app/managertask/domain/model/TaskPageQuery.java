@@ -0,0 +1,23 @@
+package com.app.managertask.domain.model;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Consulta de una página de tareas mediante paginación por clave (keyset).
+ * <p>
+ * La posición se indica con los valores de la última tarea de la página anterior
+ * ({@code afterId} y, si se ordena por fecha, {@code afterDueDate}). Si ambos son nulos se devuelve
+ * la primera página.
+ * </p>
+ */
+@Value
+@Builder
+public class TaskPageQuery {
+
+  TaskSortField sortBy;
+  String afterId;
+  LocalDateTime afterDueDate;
+  int limit;
+}
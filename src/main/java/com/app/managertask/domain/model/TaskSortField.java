@@ -0,0 +1,10 @@
+package com.app.managertask.domain.model;
+
+/**
+ * Campos por los que se puede ordenar un listado paginado de tareas. El desempate se hace siempre
+ * por el ID, de modo que el orden es total y estable entre páginas.
+ */
+public enum TaskSortField {
+  ID,
+  DUE_DATE
+}
@@ -0,0 +1,43 @@
+package com.app.managertask.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Estado de una tarea en virtud de su fecha de vencimiento.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskStatus {
+  ACTIVE("Active"),
+  EXPIRED("Expired");
+
+  private final String label;
+
+  /**
+   * Calcula el estado de una tarea en un instante: "Expired" si la fecha de vencimiento es
+   * anterior a ese instante, y "Active" en caso contrario.
+   *
+   * @param dueDate fecha de vencimiento de la tarea
+   * @param now     instante en el que se evalúa el estado
+   * @return el estado de la tarea
+   */
+  public static TaskStatus of(LocalDateTime dueDate, LocalDateTime now) {
+    return dueDate.isBefore(now) ? EXPIRED : ACTIVE;
+  }
+
+  /**
+   * Obtiene el estado correspondiente a su etiqueta, sin distinguir mayúsculas y minúsculas.
+   *
+   * @param label etiqueta del estado
+   * @return el estado, o vacío si la etiqueta no corresponde a ninguno
+   */
+  public static Optional<TaskStatus> fromLabel(String label) {
+    return Arrays.stream(values())
+        .filter(status -> status.label.equalsIgnoreCase(label))
+        .findFirst();
+  }
+}
@@ -0,0 +1,16 @@
+package com.app.managertask.domain.port.input;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.response.CreateTaskResponse;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskManagementUseCase {
+
+  Mono<CreateTaskResponse> createTask(CreateTaskRequest createTaskRequest);
+
+  Flux<GetTaskResponse> getAllTasks();
+
+  Mono<GetTaskResponse> getTaskById(String id);
+}
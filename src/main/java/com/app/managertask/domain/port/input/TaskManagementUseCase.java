@@ -1,15 +1,40 @@
 package com.app.managertask.domain.port.input;
 
 import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.request.TaskPageRequest;
+import com.app.managertask.application.dto.response.CreateTaskBatchResponse;
 import com.app.managertask.application.dto.response.CreateTaskResponse;
 import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.dto.response.TaskLookupResponse;
+import com.app.managertask.application.dto.response.TaskPageResponse;
+import com.app.managertask.application.dto.response.TaskSummaryResponse;
+import com.app.managertask.domain.model.TaskListVersion;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TaskManagementUseCase {
 
   CreateTaskResponse createTask(CreateTaskRequest createTaskRequest);
 
+  CreateTaskResponse createTaskAsync(CreateTaskRequest createTaskRequest);
+
+  CreateTaskBatchResponse createTasks(List<CreateTaskRequest> createTaskRequests);
+
   List<GetTaskResponse> getAllTasks();
 
+  List<GetTaskResponse> getAllTasks(TaskListVersion version);
+
+  List<TaskSummaryResponse> getTaskSummaries();
+
+  TaskListVersion getTasksVersion();
+
+  Stream<GetTaskResponse> streamAllTasks();
+
+  List<GetTaskResponse> getTasksByTags(List<String> tags, String match);
+
+  TaskPageResponse getTasksPage(TaskPageRequest taskPageRequest);
+
   GetTaskResponse getTaskById(String id);
+
+  TaskLookupResponse getTasksByIds(List<String> ids);
 }
@@ -0,0 +1,14 @@
+package com.app.managertask.domain.port.output;
+
+import com.app.managertask.domain.model.Task;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskRepositoryPort {
+
+  Mono<Task> findById(String id);
+
+  Flux<Task> findAll();
+
+  Mono<Task> save(Task task);
+}
@@ -1,8 +1,16 @@
 package com.app.managertask.domain.port.output;
 
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
 import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.domain.model.TaskPageQuery;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TaskRepositoryPort {
 
@@ -10,5 +18,27 @@ public interface TaskRepositoryPort {
 
   List<Task> findAll();
 
+  List<Task> findAllSummaries();
+
+  List<Task> findAllById(Collection<String> ids);
+
+  List<Task> findByTags(Collection<String> tags, TagMatch match);
+
+  Stream<Task> streamAll();
+
+  Stream<String> streamAllIds();
+
+  Stream<String> streamIdsCreatedSince(Instant createdFrom);
+
+  Stream<Task> streamDueDates(DueDateRange dueDateRange);
+
+  List<Task> findPage(TaskPageQuery query);
+
+  List<Task> findPageByDueDate(DueDateRange dueDateRange, TaskPageQuery query);
+
+  TaskListVersion findListVersion(LocalDateTime now);
+
   Task save(Task task);
-}
\ No newline at end of file
+
+  List<Task> saveAll(List<Task> tasks);
+}
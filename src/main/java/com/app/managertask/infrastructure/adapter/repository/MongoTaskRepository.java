@@ -1,31 +1,393 @@
 package com.app.managertask.infrastructure.adapter.repository;
 
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
 import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.domain.model.TaskPageQuery;
+import com.app.managertask.domain.model.TaskSortField;
 import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.config.TaskRepositoryProperties;
 import com.app.managertask.infrastructure.repository.MongoTaskRepositoryInterface;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
+/**
+ * Adaptador del puerto de tareas sobre MongoDB.
+ * <p>
+ * Las consultas acotadas tienen un tiempo máximo en el servidor ({@code maxTimeMS}) según su tipo,
+ * configurado en {@code app.repository.timeouts}: las búsquedas por ID, las consultas de páginas y
+ * etiquetas y las lecturas de la colección completa. Los recorridos con cursor no tienen tiempo
+ * máximo, ya que su duración depende de quien los consume.
+ * </p>
+ */
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
+@Slf4j
 public class MongoTaskRepository implements TaskRepositoryPort {
 
+  private static final String ID_FIELD = "_id";
+  private static final String DUE_DATE_FIELD = "dueDate";
+  private static final String TITLE_FIELD = "title";
+  private static final String TAGS_FIELD = "tags";
+  private static final int STREAM_BATCH_SIZE = 500;
+  private static final int BULK_INSERT_CHUNK_SIZE = 1000;
+
   private final MongoTaskRepositoryInterface repository;
+  private final MongoTemplate mongoTemplate;
+  private final TaskRepositoryProperties properties;
 
+  /**
+   * Busca una tarea por su ID. Los IDs que no tienen formato de ObjectId no pueden existir, por lo
+   * que se descartan sin consultar la base de datos.
+   *
+   * @param id ID de la tarea
+   * @return la tarea, o vacío si no existe
+   */
   @Override
   public Optional<Task> findById(String id) {
-    return repository.findById(id);
+    if (!ObjectId.isValid(id)) {
+      return Optional.empty();
+    }
+    Query query = new Query(Criteria.where(ID_FIELD).is(id))
+        .maxTime(properties.getTimeouts().getPointRead());
+
+    return Optional.ofNullable(mongoTemplate.findOne(query, Task.class));
   }
 
   @Override
   public List<Task> findAll() {
-    return repository.findAll();
+    return mongoTemplate.find(new Query().maxTime(properties.getTimeouts().getScan()), Task.class);
+  }
+
+  /**
+   * Busca todas las tareas proyectando únicamente los campos {@code _id}, {@code title} y
+   * {@code dueDate}, de modo que la descripción y las etiquetas no se transfieren desde la base de
+   * datos. Las tareas devueltas no tienen el resto de campos informados.
+   *
+   * @return tareas con su ID, su título y su fecha de vencimiento
+   */
+  @Override
+  public List<Task> findAllSummaries() {
+    Query query = new Query().maxTime(properties.getTimeouts().getScan());
+    query.fields().include(ID_FIELD, TITLE_FIELD, DUE_DATE_FIELD);
+
+    return mongoTemplate.find(query, Task.class);
+  }
+
+  /**
+   * Busca las tareas con los IDs indicados en una única consulta sobre {@code _id}. Los IDs que no
+   * tienen formato de ObjectId se descartan.
+   *
+   * @param ids IDs de las tareas
+   * @return tareas encontradas, ordenadas por ID
+   */
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    List<String> validIds = ids.stream()
+        .filter(ObjectId::isValid)
+        .toList();
+    if (validIds.isEmpty()) {
+      return List.of();
+    }
+
+    Query query = new Query(Criteria.where(ID_FIELD).in(validIds))
+        .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+        .maxTime(properties.getTimeouts().getPointRead());
+
+    return mongoTemplate.find(query, Task.class);
+  }
+
+  /**
+   * Busca las tareas que tienen todas o alguna de las etiquetas indicadas. La consulta se resuelve
+   * con el índice multiclave sobre {@code tags}.
+   *
+   * @param tags  etiquetas a buscar
+   * @param match si la tarea debe tener todas las etiquetas o al menos una
+   * @return tareas encontradas, ordenadas por ID
+   */
+  @Override
+  public List<Task> findByTags(Collection<String> tags, TagMatch match) {
+    Criteria criteria = match == TagMatch.ALL
+        ? Criteria.where(TAGS_FIELD).all(tags)
+        : Criteria.where(TAGS_FIELD).in(tags);
+    Query query = new Query(criteria)
+        .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+        .maxTime(properties.getTimeouts().getQuery());
+
+    return mongoTemplate.find(query, Task.class);
+  }
+
+  /**
+   * Recorre todas las tareas mediante un cursor de MongoDB.
+   * <p>
+   * Los documentos se obtienen del servidor en lotes de {@value #STREAM_BATCH_SIZE}, por lo que en
+   * memoria solo se mantiene el lote en curso. El {@link Stream} devuelto mantiene el cursor
+   * abierto y debe cerrarse al terminar de consumirlo.
+   * </p>
+   *
+   * @return Stream de tareas ordenadas por ID
+   */
+  @Override
+  public Stream<Task> streamAll() {
+    Query query = new Query()
+        .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+        .cursorBatchSize(STREAM_BATCH_SIZE);
+
+    return mongoTemplate.stream(query, Task.class);
+  }
+
+  /**
+   * Recorre los IDs de todas las tareas mediante un cursor de MongoDB, proyectando únicamente el
+   * campo {@code _id}. El {@link Stream} devuelto debe cerrarse al terminar de consumirlo.
+   *
+   * @return Stream de IDs de tareas
+   */
+  @Override
+  public Stream<String> streamAllIds() {
+    Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+    query.fields().include(ID_FIELD);
+
+    return mongoTemplate.stream(query, Task.class)
+        .map(Task::getId);
+  }
+
+  /**
+   * Recorre los IDs de las tareas creadas desde el instante indicado, según la fecha de creación
+   * que contiene su ObjectId, mediante un cursor de MongoDB. La consulta es un rango sobre
+   * {@code _id}, por lo que su coste depende solo del número de tareas nuevas. El {@link Stream}
+   * devuelto debe cerrarse al terminar de consumirlo.
+   *
+   * @param createdFrom instante de creación mínimo, con precisión de segundos
+   * @return Stream de IDs de tareas
+   */
+  @Override
+  public Stream<String> streamIdsCreatedSince(Instant createdFrom) {
+    Query query = new Query(Criteria.where(ID_FIELD)
+        .gte(ObjectId.getSmallestWithDate(Date.from(createdFrom))))
+        .cursorBatchSize(STREAM_BATCH_SIZE);
+    query.fields().include(ID_FIELD);
+
+    return mongoTemplate.stream(query, Task.class)
+        .map(Task::getId);
+  }
+
+  /**
+   * Recorre las fechas de vencimiento de las tareas que vencen en el intervalo indicado mediante
+   * un cursor de MongoDB, proyectando únicamente los campos {@code _id} y {@code dueDate}. La
+   * consulta de rango se resuelve con el índice {@code dueDate_id}. El {@link Stream} devuelto
+   * debe cerrarse al terminar de consumirlo.
+   *
+   * @param dueDateRange intervalo de fechas de vencimiento
+   * @return Stream de tareas con su ID y su fecha de vencimiento
+   */
+  @Override
+  public Stream<Task> streamDueDates(DueDateRange dueDateRange) {
+    Query query = new Query(dueDateCriteria(dueDateRange))
+        .cursorBatchSize(STREAM_BATCH_SIZE);
+    query.fields().include(ID_FIELD, DUE_DATE_FIELD);
+
+    return mongoTemplate.stream(query, Task.class);
+  }
+
+  /**
+   * Recupera una página de tareas mediante paginación por clave.
+   * <p>
+   * En lugar de {@code skip}, filtra por los valores de la última tarea de la página anterior y
+   * ordena por el mismo índice, de modo que el coste de cada página no depende de su posición en
+   * la colección.
+   * </p>
+   *
+   * @param pageQuery consulta con el orden, la posición y el tamaño de la página
+   * @return tareas de la página, como máximo {@code limit}
+   */
+  @Override
+  public List<Task> findPage(TaskPageQuery pageQuery) {
+    Query query = new Query()
+        .with(sortFor(pageQuery.getSortBy()))
+        .limit(pageQuery.getLimit())
+        .maxTime(properties.getTimeouts().getQuery());
+
+    Criteria keyset = keysetCriteria(pageQuery);
+    if (keyset != null) {
+      query.addCriteria(keyset);
+    }
+
+    return mongoTemplate.find(query, Task.class);
+  }
+
+  /**
+   * Recupera una página de las tareas cuya fecha de vencimiento está en el intervalo indicado.
+   * <p>
+   * El intervalo se traduce en una consulta de rango sobre {@code dueDate}, que se resuelve con el
+   * índice {@code dueDate_id}, y se combina con la posición de la página.
+   * </p>
+   *
+   * @param dueDateRange intervalo de fechas de vencimiento
+   * @param pageQuery    consulta con el orden, la posición y el tamaño de la página
+   * @return tareas de la página, como máximo {@code limit}
+   */
+  @Override
+  public List<Task> findPageByDueDate(DueDateRange dueDateRange, TaskPageQuery pageQuery) {
+    if (dueDateRange.isUnbounded()) {
+      return findPage(pageQuery);
+    }
+
+    Query query = new Query()
+        .with(sortFor(pageQuery.getSortBy()))
+        .limit(pageQuery.getLimit())
+        .maxTime(properties.getTimeouts().getQuery());
+
+    Criteria range = dueDateCriteria(dueDateRange);
+    Criteria keyset = keysetCriteria(pageQuery);
+    query.addCriteria(keyset != null ? new Criteria().andOperator(range, keyset) : range);
+
+    return mongoTemplate.find(query, Task.class);
+  }
+
+  /**
+   * Obtiene la versión del listado completo de tareas sin recorrer la colección: el número de
+   * tareas se lee de los metadatos de la colección ({@code estimatedDocumentCount}), y el mayor
+   * {@code _id} y la fecha de vencimiento más reciente anterior a {@code now} leen una sola entrada
+   * del índice de {@code _id} y del índice {@code dueDate_id}, respectivamente.
+   *
+   * @param now instante de referencia para decidir qué tareas han vencido
+   * @return versión del listado
+   */
+  @Override
+  public TaskListVersion findListVersion(LocalDateTime now) {
+    Query lastCreated = new Query()
+        .with(Sort.by(Sort.Direction.DESC, ID_FIELD))
+        .maxTime(properties.getTimeouts().getPointRead());
+    lastCreated.fields().include(ID_FIELD);
+
+    Query lastExpired = new Query(Criteria.where(DUE_DATE_FIELD).lt(now))
+        .with(Sort.by(Sort.Direction.DESC, DUE_DATE_FIELD, ID_FIELD))
+        .maxTime(properties.getTimeouts().getPointRead());
+    lastExpired.fields().include(ID_FIELD, DUE_DATE_FIELD);
+
+    long count = mongoTemplate.estimatedCount(Task.class);
+    Task last = mongoTemplate.findOne(lastCreated, Task.class);
+    Task expired = mongoTemplate.findOne(lastExpired, Task.class);
+    return TaskListVersion.of(count, last != null ? last.getId() : null,
+        expired != null ? expired.getDueDate() : null);
   }
 
   @Override
   public Task save(Task task) {
     return repository.save(task);
   }
-}
\ No newline at end of file
+
+  /**
+   * Inserta las tareas en bloques de {@value #BULK_INSERT_CHUNK_SIZE} mediante operaciones bulk no
+   * ordenadas, de modo que cada bloque cuesta una única llamada a la base de datos.
+   * <p>
+   * Las tareas deben tener el ID asignado. Si un bloque falla parcialmente, solo se descartan las
+   * tareas rechazadas y se continúa con el siguiente. Las rechazadas por clave duplicada se dan por
+   * guardadas: su ID se generó antes de guardarlas, por lo que ya las insertó un intento anterior
+   * cuya respuesta no llegó.
+   * </p>
+   * <p>
+   * Cualquier otro error, como una base de datos caída o que no responde a tiempo, se propaga si
+   * falla el primer bloque, para que el circuit breaker lo registre y la petición responda 503 en
+   * lugar de dar por fallidas todas las tareas. Si ya se ha guardado algún bloque, se deja de
+   * insertar y se devuelven las tareas guardadas, de modo que el resultado refleja lo que ya está
+   * en la base de datos y un reintento del cliente no las duplica.
+   * </p>
+   *
+   * @param tasks tareas a insertar, con su ID asignado
+   * @return tareas insertadas, en el mismo orden
+   */
+  @Override
+  public List<Task> saveAll(List<Task> tasks) {
+    List<Task> saved = new ArrayList<>(tasks.size());
+
+    for (int from = 0; from < tasks.size(); from += BULK_INSERT_CHUNK_SIZE) {
+      List<Task> chunk = tasks.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, tasks.size()));
+      try {
+        mongoTemplate.bulkOps(BulkMode.UNORDERED, Task.class)
+            .insert(chunk)
+            .execute();
+        saved.addAll(chunk);
+      } catch (BulkOperationException ex) {
+        Set<Integer> rejected = ex.getErrors().stream()
+            .filter(error -> ErrorCategory.fromErrorCode(error.getCode())
+                != ErrorCategory.DUPLICATE_KEY)
+            .map(BulkWriteError::getIndex)
+            .collect(Collectors.toSet());
+        log.warn("Bulk insert rejected {} of {} tasks, {} were already saved", rejected.size(),
+            chunk.size(), ex.getErrors().size() - rejected.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+          if (!rejected.contains(i)) {
+            saved.add(chunk.get(i));
+          }
+        }
+      } catch (RuntimeException ex) {
+        if (saved.isEmpty()) {
+          throw ex;
+        }
+        log.warn("Bulk insert stopped after saving {} of {} tasks: {}", saved.size(),
+            tasks.size(), ex.getMessage());
+        break;
+      }
+    }
+
+    return saved;
+  }
+
+  private static Sort sortFor(TaskSortField sortBy) {
+    return sortBy == TaskSortField.DUE_DATE
+        ? Sort.by(Sort.Direction.ASC, DUE_DATE_FIELD, ID_FIELD)
+        : Sort.by(Sort.Direction.ASC, ID_FIELD);
+  }
+
+  private static Criteria dueDateCriteria(DueDateRange dueDateRange) {
+    Criteria range = Criteria.where(DUE_DATE_FIELD);
+    if (dueDateRange.getFrom() != null) {
+      range = range.gte(dueDateRange.getFrom());
+    }
+    if (dueDateRange.getTo() != null) {
+      range = range.lt(dueDateRange.getTo());
+    }
+    return range;
+  }
+
+  private static Criteria keysetCriteria(TaskPageQuery pageQuery) {
+    if (pageQuery.getAfterId() == null) {
+      return null;
+    }
+
+    if (pageQuery.getSortBy() != TaskSortField.DUE_DATE) {
+      return Criteria.where(ID_FIELD).gt(pageQuery.getAfterId());
+    }
+
+    return new Criteria().orOperator(
+        Criteria.where(DUE_DATE_FIELD).gt(pageQuery.getAfterDueDate()),
+        new Criteria().andOperator(
+            Criteria.where(DUE_DATE_FIELD).is(pageQuery.getAfterDueDate()),
+            Criteria.where(ID_FIELD).gt(pageQuery.getAfterId())));
+  }
+}
@@ -0,0 +1,53 @@
+package com.app.managertask.infrastructure.adapter.repository;
+
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.ReactiveTaskRepositoryPort;
+import com.app.managertask.infrastructure.repository.ReactiveMongoTaskRepositoryInterface;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveMongoTaskRepository implements ReactiveTaskRepositoryPort {
+
+  private static final String ID_FIELD = "_id";
+
+  private final ReactiveMongoTaskRepositoryInterface repository;
+
+  /**
+   * Busca una tarea por su ID. Los IDs que no tienen formato de ObjectId no pueden existir, por lo
+   * que se descartan sin consultar la base de datos.
+   *
+   * @param id ID de la tarea
+   * @return la tarea, o vacío si no existe
+   */
+  @Override
+  public Mono<Task> findById(String id) {
+    if (!ObjectId.isValid(id)) {
+      return Mono.empty();
+    }
+    return repository.findById(id);
+  }
+
+  /**
+   * Recorre todas las tareas ordenadas por ID. Los documentos se piden al servidor a medida que el
+   * suscriptor los solicita, por lo que un consumidor lento no acumula la colección en memoria.
+   *
+   * @return Flux de tareas
+   */
+  @Override
+  public Flux<Task> findAll() {
+    return repository.findAll(Sort.by(Sort.Direction.ASC, ID_FIELD));
+  }
+
+  @Override
+  public Mono<Task> save(Task task) {
+    return repository.save(task);
+  }
+}
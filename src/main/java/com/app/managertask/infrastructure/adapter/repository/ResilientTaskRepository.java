@@ -0,0 +1,137 @@
+package com.app.managertask.infrastructure.adapter.repository;
+
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.domain.model.TaskPageQuery;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.exception.TaskRepositoryUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+
+/**
+ * Decorador del puerto de tareas que protege a la aplicación de una base de datos lenta o caída.
+ * <p>
+ * Cada operación pasa primero por un {@link Bulkhead}, que limita las llamadas concurrentes a la
+ * base de datos, y después por un {@link CircuitBreaker}, que se abre cuando fallan o son lentas
+ * demasiadas llamadas recientes. Con el circuito abierto las operaciones se rechazan sin llamar a
+ * la base de datos; pasado un tiempo, el circuito deja pasar unas pocas llamadas de prueba y se
+ * cierra si tienen éxito. En los recorridos con cursor solo se protege la apertura del cursor.
+ * </p>
+ * <p>
+ * Los rechazos y los errores de conexión o de tiempo máximo se traducen en
+ * {@link TaskRepositoryUnavailableException}, con la que las cachés sirven su último valor conocido
+ * y el resto de peticiones responden 503 en lugar de esperar a que venza el tiempo del driver.
+ * </p>
+ */
+public class ResilientTaskRepository implements TaskRepositoryPort {
+
+  private final TaskRepositoryPort delegate;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+
+  public ResilientTaskRepository(TaskRepositoryPort delegate, CircuitBreaker circuitBreaker,
+      Bulkhead bulkhead) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = bulkhead;
+  }
+
+  @Override
+  public Optional<Task> findById(String id) {
+    return call(() -> delegate.findById(id));
+  }
+
+  @Override
+  public List<Task> findAll() {
+    return call(delegate::findAll);
+  }
+
+  @Override
+  public List<Task> findAllSummaries() {
+    return call(delegate::findAllSummaries);
+  }
+
+  @Override
+  public List<Task> findAllById(Collection<String> ids) {
+    return call(() -> delegate.findAllById(ids));
+  }
+
+  @Override
+  public List<Task> findByTags(Collection<String> tags, TagMatch match) {
+    return call(() -> delegate.findByTags(tags, match));
+  }
+
+  @Override
+  public Stream<Task> streamAll() {
+    return call(delegate::streamAll);
+  }
+
+  @Override
+  public Stream<String> streamAllIds() {
+    return call(delegate::streamAllIds);
+  }
+
+  @Override
+  public Stream<String> streamIdsCreatedSince(Instant createdFrom) {
+    return call(() -> delegate.streamIdsCreatedSince(createdFrom));
+  }
+
+  @Override
+  public Stream<Task> streamDueDates(DueDateRange dueDateRange) {
+    return call(() -> delegate.streamDueDates(dueDateRange));
+  }
+
+  @Override
+  public List<Task> findPage(TaskPageQuery query) {
+    return call(() -> delegate.findPage(query));
+  }
+
+  @Override
+  public List<Task> findPageByDueDate(DueDateRange dueDateRange, TaskPageQuery query) {
+    return call(() -> delegate.findPageByDueDate(dueDateRange, query));
+  }
+
+  @Override
+  public TaskListVersion findListVersion(LocalDateTime now) {
+    return call(() -> delegate.findListVersion(now));
+  }
+
+  @Override
+  public Task save(Task task) {
+    return call(() -> delegate.save(task));
+  }
+
+  @Override
+  public List<Task> saveAll(List<Task> tasks) {
+    return call(() -> delegate.saveAll(tasks));
+  }
+
+  private <T> T call(Supplier<T> operation) {
+    try {
+      return Bulkhead.decorateSupplier(bulkhead,
+          CircuitBreaker.decorateSupplier(circuitBreaker, operation)).get();
+    } catch (CallNotPermittedException ex) {
+      throw new TaskRepositoryUnavailableException(
+          "The task database is unavailable, please retry later", ex);
+    } catch (BulkheadFullException ex) {
+      throw new TaskRepositoryUnavailableException(
+          "Too many concurrent task database calls, please retry later", ex);
+    } catch (DataAccessResourceFailureException | TransientDataAccessException ex) {
+      throw new TaskRepositoryUnavailableException(
+          "The task database did not respond in time, please retry later", ex);
+    }
+  }
+}
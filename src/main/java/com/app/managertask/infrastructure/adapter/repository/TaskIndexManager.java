@@ -0,0 +1,147 @@
+package com.app.managertask.infrastructure.adapter.repository;
+
+import com.app.managertask.domain.model.Task;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+/**
+ * Crea o comprueba al arrancar los índices de la colección de tareas.
+ * <p>
+ * Los índices se declaran con anotaciones en {@link Task} ({@code @CompoundIndex},
+ * {@code @Indexed}) y se resuelven con el mismo mecanismo que usa Spring Data, pero en lugar de
+ * crearlos de forma implícita al cargar el contexto, lo que está deshabilitado por defecto, se
+ * gestionan aquí según el {@link Mode} configurado. Con {@code blocking} el arranque espera a que
+ * terminen, de modo que la instancia no acepta tráfico con consultas sin índice; sin él se
+ * gestionan en segundo plano y la aplicación arranca de inmediato.
+ * </p>
+ * <p>
+ * Los errores no detienen la aplicación: un índice que falta degrada el rendimiento de las
+ * consultas, no su resultado. Los índices se identifican por su nombre; si ya existe uno con las
+ * mismas claves y otro nombre u otras opciones, se deja como está y se registra un aviso.
+ * </p>
+ */
+@Slf4j
+public class TaskIndexManager implements ApplicationRunner {
+
+  /**
+   * Gestión de los índices declarados al arrancar.
+   */
+  public enum Mode {
+
+    /**
+     * Crea los índices que falten.
+     */
+    CREATE,
+
+    /**
+     * Solo avisa de los índices que falten, para entornos en los que se crean fuera de la
+     * aplicación.
+     */
+    VERIFY,
+
+    /**
+     * No gestiona los índices.
+     */
+    NONE
+  }
+
+  private final MongoTemplate mongoTemplate;
+  private final TaskExecutor executor;
+  private final Mode mode;
+  private final boolean blocking;
+
+  public TaskIndexManager(MongoTemplate mongoTemplate, TaskExecutor executor, Mode mode,
+      boolean blocking) {
+    this.mongoTemplate = mongoTemplate;
+    this.executor = executor;
+    this.mode = mode;
+    this.blocking = blocking;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (mode == Mode.NONE) {
+      return;
+    }
+    if (blocking) {
+      manageIndexes();
+    } else {
+      executor.execute(this::manageIndexes);
+    }
+  }
+
+  /**
+   * Crea o comprueba los índices declarados en {@link Task}, según el modo configurado.
+   *
+   * @return nombres de los índices declarados que no existen al terminar
+   */
+  List<String> manageIndexes() {
+    IndexOperations indexOps = mongoTemplate.indexOps(Task.class);
+    List<IndexDefinition> declared = declaredIndexes();
+    List<String> missing = new ArrayList<>();
+
+    try {
+      Set<String> existing = indexOps.getIndexInfo().stream()
+          .map(IndexInfo::getName)
+          .collect(Collectors.toSet());
+
+      for (IndexDefinition index : declared) {
+        String name = nameOf(index);
+        if (existing.contains(name)) {
+          continue;
+        }
+        if (mode == Mode.VERIFY) {
+          log.warn("Task index {} {} is missing, queries on it will scan the collection", name,
+              index.getIndexKeys().toJson());
+          missing.add(name);
+          continue;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+          indexOps.ensureIndex(index);
+          log.info("Created task index {} in {} ms", name,
+              System.currentTimeMillis() - startedAt);
+        } catch (DataAccessException ex) {
+          log.warn("Could not create task index {}: {}", name, ex.getMessage());
+          missing.add(name);
+        }
+      }
+    } catch (DataAccessException ex) {
+      log.warn("Could not manage the task indexes: {}", ex.getMessage());
+      return declared.stream().map(TaskIndexManager::nameOf).toList();
+    }
+
+    if (missing.isEmpty()) {
+      log.info("Task indexes ready: {}",
+          declared.stream().map(TaskIndexManager::nameOf).toList());
+    }
+    return missing;
+  }
+
+  private List<IndexDefinition> declaredIndexes() {
+    MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(
+        mongoTemplate.getConverter().getMappingContext());
+
+    List<IndexDefinition> indexes = new ArrayList<>();
+    resolver.resolveIndexFor(Task.class).forEach(indexes::add);
+    return indexes;
+  }
+
+  private static String nameOf(IndexDefinition index) {
+    String name = index.getIndexOptions().getString("name");
+    return name != null ? name : index.getIndexKeys().toJson();
+  }
+}
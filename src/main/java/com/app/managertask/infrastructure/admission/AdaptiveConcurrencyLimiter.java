@@ -0,0 +1,101 @@
+package com.app.managertask.infrastructure.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite de peticiones concurrentes que se adapta a la latencia observada (AIMD).
+ * <p>
+ * Mientras las peticiones terminan por debajo de la latencia objetivo y el límite está en uso, el
+ * límite crece de forma aditiva, aproximadamente en una unidad por cada límite completo de
+ * peticiones. Cuando una petición supera la latencia objetivo o termina indicando sobrecarga, el
+ * límite se multiplica por {@code backoffRatio}. Para no reducirlo varias veces por una misma
+ * congestión, solo cuentan como señal de sobrecarga las peticiones admitidas después de la última
+ * reducción. El límite se mantiene siempre entre {@code minLimit} y {@code maxLimit}.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyTargetNanos;
+  private final double backoffRatio;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private double limit;
+  private long lastDecreaseAt;
+  private volatile int currentLimit;
+
+  /**
+   * @param initialLimit  límite inicial
+   * @param minLimit      límite mínimo
+   * @param maxLimit      límite máximo
+   * @param latencyTarget latencia a partir de la cual se reduce el límite
+   * @param backoffRatio  factor por el que se multiplica el límite al reducirlo, entre 0 y 1
+   */
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+      Duration latencyTarget, double backoffRatio) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyTargetNanos = latencyTarget.toNanos();
+    this.backoffRatio = backoffRatio;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    this.lastDecreaseAt = System.nanoTime();
+    this.currentLimit = (int) limit;
+  }
+
+  /**
+   * Intenta admitir una petición.
+   *
+   * @return {@code true} si se admite; en ese caso debe liberarse con {@link #release}
+   */
+  public boolean tryAcquire() {
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= currentLimit) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  /**
+   * Libera una petición admitida y ajusta el límite con su latencia.
+   *
+   * @param startedAt  instante de admisión de la petición, según {@link System#nanoTime()}
+   * @param overloaded si la petición terminó indicando sobrecarga, sea cual sea su latencia
+   */
+  public void release(long startedAt, boolean overloaded) {
+    int inFlightBefore = inFlight.getAndDecrement();
+    long now = System.nanoTime();
+
+    synchronized (this) {
+      if (overloaded || now - startedAt > latencyTargetNanos) {
+        if (startedAt - lastDecreaseAt > 0) {
+          limit = Math.max(minLimit, limit * backoffRatio);
+          lastDecreaseAt = now;
+        }
+      } else if (inFlightBefore * 2 >= currentLimit) {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+      currentLimit = (int) limit;
+    }
+  }
+
+  /**
+   * Libera una petición admitida sin usar su latencia para ajustar el límite, como las descargas
+   * en streaming, cuya duración depende del volumen de datos.
+   */
+  public void release() {
+    inFlight.decrementAndGet();
+  }
+
+  public int getLimit() {
+    return currentLimit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+}
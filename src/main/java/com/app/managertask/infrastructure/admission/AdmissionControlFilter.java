@@ -0,0 +1,252 @@
+package com.app.managertask.infrastructure.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Control de admisión de las peticiones a {@code /api/tasks}.
+ * <p>
+ * Las lecturas y las escrituras tienen cada una su propio límite de concurrencia adaptativo
+ * ({@link AdaptiveConcurrencyLimiter}) y su propio límite de tasa por cliente
+ * ({@link ClientRateLimiter}), de modo que una avalancha de escrituras no deja sin capacidad a las
+ * lecturas. Son lecturas las peticiones {@code GET} y {@code HEAD} y la búsqueda de varias tareas
+ * ({@code POST /api/tasks/lookup}). El cliente se identifica por la cabecera configurada o, si no
+ * la envía, por su dirección IP.
+ * </p>
+ * <p>
+ * Las peticiones que superan la tasa de su cliente se rechazan con 429 y las que superan el límite
+ * de concurrencia con 503, ambas con {@code Retry-After} y sin llegar al controlador, para que las
+ * peticiones admitidas mantengan su latencia. Las respuestas 503 y 504 de las peticiones admitidas
+ * cuentan como sobrecarga al ajustar el límite. Las respuestas asíncronas, como la exportación en
+ * streaming, ocupan un hueco hasta que terminan, pero su duración no ajusta el límite.
+ * </p>
+ * <p>
+ * El filtro se ejecuta justo después del de observaciones de Spring, de modo que los rechazos
+ * aparecen en {@code http_server_requests} sin llegar al resto de filtros.
+ * </p>
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter implements Ordered {
+
+  static final String LIMIT = "task.admission.limit";
+  static final String IN_FLIGHT = "task.admission.in.flight";
+  static final String REJECTED = "task.admission.rejected";
+  static final String LANE_TAG = "lane";
+  static final String REASON_TAG = "reason";
+  static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+  private static final String TASKS_PATH = "/api/tasks";
+  private static final String LOOKUP_PATH = "/api/tasks/lookup";
+
+  private final boolean enabled;
+  private final String clientHeader;
+  private final long retryAfterSeconds;
+  private final Lane reads;
+  private final Lane writes;
+
+  /**
+   * @param enabled           si se aplica el control de admisión
+   * @param readLimiter       límite de concurrencia de las lecturas
+   * @param writeLimiter      límite de concurrencia de las escrituras
+   * @param readRateLimiter   límite de tasa de las lecturas de cada cliente
+   * @param writeRateLimiter  límite de tasa de las escrituras de cada cliente
+   * @param clientHeader      cabecera que identifica al cliente
+   * @param retryAfter        espera indicada a los clientes rechazados por concurrencia
+   * @param meterRegistry     registro de métricas
+   */
+  public AdmissionControlFilter(boolean enabled, AdaptiveConcurrencyLimiter readLimiter,
+      AdaptiveConcurrencyLimiter writeLimiter, ClientRateLimiter readRateLimiter,
+      ClientRateLimiter writeRateLimiter, String clientHeader, Duration retryAfter,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.clientHeader = clientHeader;
+    this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    this.reads = new Lane("read", readLimiter, readRateLimiter, meterRegistry);
+    this.writes = new Lane("write", writeLimiter, writeRateLimiter, meterRegistry);
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!enabled) {
+      return true;
+    }
+    String path = pathOf(request);
+    return !TASKS_PATH.equals(path) && !path.startsWith(TASKS_PATH + "/");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    Lane lane = isRead(request) ? reads : writes;
+
+    long waitNanos = lane.rateLimiter.tryAcquire(clientOf(request));
+    if (waitNanos > 0) {
+      lane.rateRejections.increment();
+      reject(response, HttpStatus.TOO_MANY_REQUESTS, secondsUntil(waitNanos),
+          "Too many requests from this client, please retry later");
+      return;
+    }
+    if (!lane.limiter.tryAcquire()) {
+      lane.concurrencyRejections.increment();
+      log.debug("Rejected {} request, {} requests in flight", lane.name,
+          lane.limiter.getInFlight());
+      reject(response, HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds,
+          "The server is overloaded, please retry later");
+      return;
+    }
+
+    Permit permit = new Permit(lane.limiter, System.nanoTime());
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(permit);
+      } else {
+        permit.release(isOverloaded(response.getStatus()));
+      }
+    }
+  }
+
+  private boolean isRead(HttpServletRequest request) {
+    return HttpMethod.GET.matches(request.getMethod())
+        || HttpMethod.HEAD.matches(request.getMethod())
+        || LOOKUP_PATH.equals(pathOf(request));
+  }
+
+  private String clientOf(HttpServletRequest request) {
+    String client = request.getHeader(clientHeader);
+    return client != null && !client.isBlank() ? client : request.getRemoteAddr();
+  }
+
+  private static String pathOf(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+
+  private static long secondsUntil(long nanos) {
+    return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+  }
+
+  private static boolean isOverloaded(int status) {
+    return status == HttpStatus.SERVICE_UNAVAILABLE.value()
+        || status == HttpStatus.GATEWAY_TIMEOUT.value();
+  }
+
+  private static void reject(HttpServletResponse response, HttpStatus status, long retryAfter,
+      String message) throws IOException {
+    response.setStatus(status.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getOutputStream().write(("{\"error\":\"" + message + "\"}")
+        .getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Límites y métricas de un tipo de petición.
+   */
+  private static final class Lane {
+
+    private final String name;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ClientRateLimiter rateLimiter;
+    private final Counter concurrencyRejections;
+    private final Counter rateRejections;
+
+    private Lane(String name, AdaptiveConcurrencyLimiter limiter, ClientRateLimiter rateLimiter,
+        MeterRegistry meterRegistry) {
+      this.name = name;
+      this.limiter = limiter;
+      this.rateLimiter = rateLimiter;
+      this.concurrencyRejections = rejected(meterRegistry, name, "concurrency");
+      this.rateRejections = rejected(meterRegistry, name, "rate");
+
+      Gauge.builder(LIMIT, limiter, AdaptiveConcurrencyLimiter::getLimit)
+          .tag(LANE_TAG, name)
+          .description("Current concurrency limit of the task endpoints")
+          .register(meterRegistry);
+      Gauge.builder(IN_FLIGHT, limiter, AdaptiveConcurrencyLimiter::getInFlight)
+          .tag(LANE_TAG, name)
+          .description("Requests to the task endpoints being processed")
+          .register(meterRegistry);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String lane, String reason) {
+      return Counter.builder(REJECTED)
+          .tag(LANE_TAG, lane)
+          .tag(REASON_TAG, reason)
+          .description("Requests to the task endpoints rejected by admission control")
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Hueco de una petición admitida, que se libera una sola vez al terminar la petición, también
+   * si termina de forma asíncrona.
+   */
+  private static final class Permit implements AsyncListener {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final long startedAt;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(AdaptiveConcurrencyLimiter limiter, long startedAt) {
+      this.limiter = limiter;
+      this.startedAt = startedAt;
+    }
+
+    private void release(boolean overloaded) {
+      if (released.compareAndSet(false, true)) {
+        limiter.release(startedAt, overloaded);
+      }
+    }
+
+    private void releaseWithoutSample() {
+      if (released.compareAndSet(false, true)) {
+        limiter.release();
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      releaseWithoutSample();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      releaseWithoutSample();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      releaseWithoutSample();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
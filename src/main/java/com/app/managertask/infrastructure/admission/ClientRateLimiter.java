@@ -0,0 +1,127 @@
+package com.app.managertask.infrastructure.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita la tasa de peticiones de cada cliente con un token bucket por cliente.
+ * <p>
+ * Cada cliente dispone de hasta {@code burst} tokens, que se reponen a razón de
+ * {@code refillPerSecond} por segundo, y cada petición consume uno. Se guardan como mucho
+ * {@code maxClients} buckets: al alcanzarse, se descartan los de los clientes que ya han repuesto
+ * todos sus tokens, y si no hay ninguno, los clientes nuevos comparten un único bucket hasta que se
+ * libere espacio. Con {@code maxClients} 0 no se limita ninguna petición.
+ * </p>
+ */
+public class ClientRateLimiter {
+
+  private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final int burst;
+  private final double refillPerSecond;
+  private final int maxClients;
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final TokenBucket overflow;
+
+  private volatile long lastSweepAt;
+
+  /**
+   * @param burst           número máximo de tokens de cada cliente
+   * @param refillPerSecond tokens que recupera cada cliente por segundo
+   * @param maxClients      número máximo de clientes con bucket propio; con 0 no se limita
+   */
+  public ClientRateLimiter(int burst, double refillPerSecond, int maxClients) {
+    this.burst = burst;
+    this.refillPerSecond = refillPerSecond;
+    this.maxClients = maxClients;
+    this.overflow = new TokenBucket(burst, refillPerSecond);
+    this.lastSweepAt = System.nanoTime() - SWEEP_INTERVAL_NANOS;
+  }
+
+  /**
+   * Consume un token del cliente si tiene alguno disponible.
+   *
+   * @param clientId identificador del cliente
+   * @return 0 si se admite la petición, o los nanosegundos que faltan para que el cliente disponga
+   *         de un token
+   */
+  public long tryAcquire(String clientId) {
+    if (maxClients == 0) {
+      return 0;
+    }
+    return bucketOf(clientId).tryAcquire(System.nanoTime());
+  }
+
+  int size() {
+    return buckets.size();
+  }
+
+  private TokenBucket bucketOf(String clientId) {
+    TokenBucket bucket = buckets.get(clientId);
+    if (bucket != null) {
+      return bucket;
+    }
+    if (buckets.size() >= maxClients && !sweep()) {
+      return overflow;
+    }
+    return buckets.computeIfAbsent(clientId,
+        key -> new TokenBucket(burst, refillPerSecond));
+  }
+
+  /**
+   * Descarta los buckets llenos, como mucho una vez por segundo para que una avalancha de clientes
+   * nuevos no recorra el mapa en cada petición.
+   *
+   * @return si hay espacio para un bucket nuevo
+   */
+  private boolean sweep() {
+    long now = System.nanoTime();
+    if (now - lastSweepAt < SWEEP_INTERVAL_NANOS) {
+      return false;
+    }
+    lastSweepAt = now;
+    buckets.values().removeIf(bucket -> bucket.isFull(now));
+    return buckets.size() < maxClients;
+  }
+
+  /**
+   * Bucket de tokens que se repone de forma continua según el tiempo transcurrido.
+   */
+  private static final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long refilledAt;
+
+    private TokenBucket(int capacity, double refillPerSecond) {
+      this.capacity = capacity;
+      this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+      this.tokens = capacity;
+      this.refilledAt = System.nanoTime();
+    }
+
+    private synchronized long tryAcquire(long now) {
+      refill(now);
+      if (tokens >= 1) {
+        tokens--;
+        return 0;
+      }
+      return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    private synchronized boolean isFull(long now) {
+      refill(now);
+      return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+      if (now - refilledAt > 0) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+        refilledAt = now;
+      }
+    }
+  }
+}
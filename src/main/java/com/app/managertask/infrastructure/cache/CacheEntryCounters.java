@@ -0,0 +1,64 @@
+package com.app.managertask.infrastructure.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.ehcache.config.builders.CacheEventListenerConfigurationBuilder;
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventType;
+
+/**
+ * Número de entradas de cada caché.
+ * <p>
+ * Ni JCache ni Ehcache exponen el tamaño de una caché sin recorrerla, por lo que se registra un
+ * listener de eventos de Ehcache en cada caché que suma las altas y resta las eliminaciones,
+ * caducidades y desalojos. Los listeners son síncronos para que el tamaño sea exacto tras cada
+ * operación; su coste es el de incrementar un contador.
+ * </p>
+ */
+public class CacheEntryCounters {
+
+  private final Map<String, LongAdder> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Crea la configuración del listener que cuenta las entradas de una caché.
+   *
+   * @param cacheName nombre de la caché
+   * @return configuración del listener para añadir a la configuración de la caché
+   */
+  public CacheEventListenerConfigurationBuilder listenerFor(String cacheName) {
+    LongAdder counter = entries.computeIfAbsent(cacheName, name -> new LongAdder());
+    CacheEventListener<Object, Object> listener = event -> count(counter, event);
+
+    return CacheEventListenerConfigurationBuilder
+        .newEventListenerConfiguration(listener, EventType.CREATED, EventType.REMOVED,
+            EventType.EXPIRED, EventType.EVICTED)
+        .unordered()
+        .synchronous();
+  }
+
+  public Set<String> getCacheNames() {
+    return entries.keySet();
+  }
+
+  /**
+   * Devuelve el número de entradas de una caché.
+   *
+   * @param cacheName nombre de la caché
+   * @return número de entradas, o 0 si la caché no se cuenta
+   */
+  public long size(String cacheName) {
+    LongAdder counter = entries.get(cacheName);
+    return counter != null ? counter.sum() : 0;
+  }
+
+  private static void count(LongAdder counter, CacheEvent<?, ?> event) {
+    if (event.getType() == EventType.CREATED) {
+      counter.increment();
+    } else {
+      counter.decrement();
+    }
+  }
+}
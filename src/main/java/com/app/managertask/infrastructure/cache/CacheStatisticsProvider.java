@@ -0,0 +1,89 @@
+package com.app.managertask.infrastructure.cache;
+
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.dto.response.CacheStatisticsResponse;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import javax.cache.CacheManager;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Obtiene las estadísticas JCache de las cachés de la aplicación.
+ * <p>
+ * Ehcache publica las estadísticas de cada caché como un {@link CacheStatisticsMXBean} en el
+ * servidor de MBeans de la plataforma; este componente las lee a través de un proxy JMX y añade
+ * las cargas desde la base de datos registradas por {@link TaskCache}.
+ * </p>
+ */
+@Component
+@Profile("!reactive")
+public class CacheStatisticsProvider {
+
+  private final CacheManager cacheManager;
+  private final TaskCache taskCache;
+  private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+  public CacheStatisticsProvider(CacheManager cacheManager, TaskCache taskCache) {
+    this.cacheManager = cacheManager;
+    this.taskCache = taskCache;
+  }
+
+  /**
+   * Devuelve las estadísticas de todas las cachés.
+   *
+   * @return lista de estadísticas por caché
+   */
+  public List<CacheStatisticsResponse> getStatistics() {
+    return StreamSupport.stream(cacheManager.getCacheNames().spliterator(), false)
+        .map(this::getStatistics)
+        .toList();
+  }
+
+  /**
+   * Devuelve las estadísticas de una caché.
+   *
+   * @param cacheName nombre de la caché
+   * @return estadísticas de la caché
+   */
+  public CacheStatisticsResponse getStatistics(String cacheName) {
+    CacheStatisticsMXBean statistics = statisticsMXBean(cacheName);
+
+    return CacheStatisticsResponse.builder()
+        .name(cacheName)
+        .gets(statistics.getCacheGets())
+        .hits(statistics.getCacheHits())
+        .misses(statistics.getCacheMisses())
+        .hitPercentage(statistics.getCacheHitPercentage())
+        .puts(statistics.getCachePuts())
+        .removals(statistics.getCacheRemovals())
+        .evictions(statistics.getCacheEvictions())
+        .loads(taskCache.getLoads(cacheName))
+        .coalescedLoads(taskCache.getCoalescedLoads(cacheName))
+        .build();
+  }
+
+  private CacheStatisticsMXBean statisticsMXBean(String cacheName) {
+    try {
+      ObjectName objectName = new ObjectName("javax.cache:type=CacheStatistics"
+          + ",CacheManager=" + sanitize(cacheManager.getURI().toString())
+          + ",Cache=" + sanitize(cacheName));
+      return JMX.newMXBeanProxy(mBeanServer, objectName, CacheStatisticsMXBean.class);
+    } catch (MalformedObjectNameException ex) {
+      throw new IllegalArgumentException("Invalid cache name: " + cacheName, ex);
+    }
+  }
+
+  /**
+   * Aplica el mismo saneamiento que Ehcache al registrar los MBeans.
+   */
+  private static String sanitize(String value) {
+    return value.replaceAll(",|:|=|\n", ".");
+  }
+}
@@ -0,0 +1,179 @@
+package com.app.managertask.infrastructure.cache;
+
+import com.app.managertask.application.cache.SingleFlight;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.infrastructure.config.TaskCacheProperties;
+import com.app.managertask.infrastructure.exception.TaskRepositoryUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.Value;
+import lombok.With;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caché del listado completo de tareas ya serializado a JSON.
+ * <p>
+ * Guarda en {@value #TASKS_JSON_CACHE} los bytes del listado junto con la
+ * {@link TaskListVersion} con la que se generaron, y opcionalmente su versión comprimida con gzip,
+ * de modo que las respuestas de {@code GET /api/tasks} se escriben sin volver a serializar las
+ * tareas mientras la versión no cambie. Si varias peticiones encuentran la caché desactualizada a
+ * la vez, solo una serializa el listado.
+ * </p>
+ * <p>
+ * La ETag es fuerte y se deriva solo de la versión ({@link #etagOf}), que se lee de la base de
+ * datos y cambia cuando se crean tareas desde cualquier instancia o cuando vence alguna. Por eso
+ * es la misma en todas las instancias y tras un reinicio, y puede comprobarse antes de cargar y
+ * serializar el listado.
+ * </p>
+ * <p>
+ * Además se conserva el último listado serializado, que se sirve marcado como obsoleto si la
+ * base de datos no está disponible.
+ * </p>
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class TaskListResponseCache {
+
+  public static final String TASKS_JSON_CACHE = "tasksJsonCache";
+
+  static final String ALL_TASKS_KEY = "all";
+
+  private final Cache tasksJsonCache;
+  private final ObjectWriter writer;
+  private final boolean gzipEnabled;
+  private final SingleFlight<TaskListVersion, EncodedTaskList> encodings = new SingleFlight<>();
+  private volatile EncodedTaskList lastEncoded;
+
+  public TaskListResponseCache(CacheManager cacheManager, ObjectMapper objectMapper,
+      TaskCacheProperties properties) {
+    this.tasksJsonCache = Objects.requireNonNull(cacheManager.getCache(TASKS_JSON_CACHE));
+    this.writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, GetTaskResponse.class));
+    this.gzipEnabled = properties.getListResponse().isGzip();
+  }
+
+  public boolean isGzipEnabled() {
+    return gzipEnabled;
+  }
+
+  /**
+   * ETag del listado en la versión indicada.
+   *
+   * @param version versión del listado
+   * @param gzip    si es la ETag del listado comprimido con gzip
+   * @return ETag entre comillas
+   */
+  public String etagOf(TaskListVersion version, boolean gzip) {
+    String lastId = Objects.toString(version.getLastId(), "none");
+    String lastExpired = version.getLastExpiredDueDate() != null
+        ? Long.toHexString(version.getLastExpiredDueDate().toInstant(ZoneOffset.UTC).toEpochMilli())
+        : "none";
+    return "\"tasks-" + version.getCount() + "-" + lastId + "-" + lastExpired
+        + (gzip ? "-gzip" : "") + "\"";
+  }
+
+  /**
+   * Devuelve el listado serializado de la versión indicada, serializándolo con el {@code loader}
+   * si la caché tiene otra versión.
+   *
+   * @param version versión del listado leída antes de llamar al {@code loader}
+   * @param loader  función que obtiene el listado de tareas de esa versión, con su estado
+   * @return listado serializado con su versión
+   */
+  public EncodedTaskList get(TaskListVersion version, Supplier<List<GetTaskResponse>> loader) {
+    EncodedTaskList cached = tasksJsonCache.get(ALL_TASKS_KEY, EncodedTaskList.class);
+    if (cached != null && cached.getVersion().equals(version)) {
+      return cached;
+    }
+
+    return encodings.load(version, () -> {
+      EncodedTaskList current = tasksJsonCache.get(ALL_TASKS_KEY, EncodedTaskList.class);
+      if (current != null && current.getVersion().equals(version)) {
+        return current;
+      }
+
+      EncodedTaskList encoded = encode(version, loader.get());
+      tasksJsonCache.put(ALL_TASKS_KEY, encoded);
+      lastEncoded = encoded;
+      return encoded;
+    });
+  }
+
+  /**
+   * Devuelve el último listado serializado marcado como obsoleto, para servirlo mientras la base
+   * de datos no está disponible.
+   *
+   * @param cause error por el que no se ha podido obtener el listado actual
+   * @return último listado serializado
+   * @throws TaskRepositoryUnavailableException {@code cause}, si no se ha serializado ningún
+   *                                            listado
+   */
+  public EncodedTaskList getLast(TaskRepositoryUnavailableException cause) {
+    EncodedTaskList last = lastEncoded;
+    if (last == null) {
+      throw cause;
+    }
+    log.debug("Serving stale task list {}: {}", last.getEtag(), cause.getMessage());
+    return last.withStale(true);
+  }
+
+  private EncodedTaskList encode(TaskListVersion version, List<GetTaskResponse> tasks) {
+    byte[] json;
+    try {
+      json = writer.writeValueAsBytes(tasks);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Could not serialize the task list", ex);
+    }
+
+    return new EncodedTaskList(version, etagOf(version, false), json,
+        gzipEnabled ? gzip(json) : null, etagOf(version, true), false);
+  }
+
+  private static byte[] gzip(byte[] json) {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(json);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return compressed.toByteArray();
+  }
+
+  /**
+   * Listado de tareas serializado en una versión.
+   */
+  @Value
+  public static class EncodedTaskList {
+
+    TaskListVersion version;
+    String etag;
+    byte[] json;
+
+    /**
+     * Listado comprimido con gzip, o {@code null} si la compresión está desactivada.
+     */
+    byte[] gzip;
+    String gzipEtag;
+
+    /**
+     * Si es el último listado conocido, servido porque la base de datos no está disponible.
+     */
+    @With
+    boolean stale;
+  }
+}
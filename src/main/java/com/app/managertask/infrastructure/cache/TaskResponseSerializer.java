@@ -0,0 +1,143 @@
+package com.app.managertask.infrastructure.cache;
+
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.ehcache.spi.serialization.Serializer;
+import org.ehcache.spi.serialization.SerializerException;
+
+/**
+ * Serializador binario compacto de {@link GetTaskResponse} para el nivel off-heap de Ehcache.
+ * <p>
+ * Cada tarea se codifica como un byte de versión, un byte con los campos presentes y, a
+ * continuación, los campos presentes: las cadenas en UTF-8 precedidas de su longitud, la fecha de
+ * vencimiento como segundos y nanosegundos y las etiquetas precedidas de su número. Frente a la
+ * serialización Java no escribe descriptores de clase, por lo que cada entrada ocupa poco más que
+ * sus cadenas.
+ * </p>
+ */
+public class TaskResponseSerializer implements Serializer<Object> {
+
+  private static final byte FORMAT_VERSION = 1;
+
+  private static final int ID = 1;
+  private static final int TITLE = 1 << 1;
+  private static final int DESCRIPTION = 1 << 2;
+  private static final int DUE_DATE = 1 << 3;
+  private static final int TAGS = 1 << 4;
+  private static final int STATUS = 1 << 5;
+
+  @Override
+  public ByteBuffer serialize(Object object) {
+    if (!(object instanceof GetTaskResponse task)) {
+      throw new SerializerException("Cannot serialize " + object.getClass().getName());
+    }
+
+    byte[] id = utf8(task.getId());
+    byte[] title = utf8(task.getTitle());
+    byte[] description = utf8(task.getDescription());
+    byte[] status = utf8(task.getStatus());
+    byte[][] tags = null;
+
+    int fields = (id != null ? ID : 0) | (title != null ? TITLE : 0)
+        | (description != null ? DESCRIPTION : 0) | (status != null ? STATUS : 0)
+        | (task.getDueDate() != null ? DUE_DATE : 0);
+    int size = 2 + length(id) + length(title) + length(description) + length(status);
+    if (task.getDueDate() != null) {
+      size += Long.BYTES + Integer.BYTES;
+    }
+    if (task.getTags() != null) {
+      fields |= TAGS;
+      tags = new byte[task.getTags().length][];
+      size += Integer.BYTES;
+      for (int i = 0; i < tags.length; i++) {
+        tags[i] = utf8(task.getTags()[i]);
+        size += tags[i] != null ? Integer.BYTES + tags[i].length : Integer.BYTES;
+      }
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size)
+        .put(FORMAT_VERSION)
+        .put((byte) fields);
+    putString(buffer, id);
+    putString(buffer, title);
+    putString(buffer, description);
+    if (task.getDueDate() != null) {
+      buffer.putLong(task.getDueDate().toEpochSecond(ZoneOffset.UTC))
+          .putInt(task.getDueDate().getNano());
+    }
+    if (tags != null) {
+      buffer.putInt(tags.length);
+      for (byte[] tag : tags) {
+        if (tag == null) {
+          buffer.putInt(-1);
+        } else {
+          buffer.putInt(tag.length).put(tag);
+        }
+      }
+    }
+    putString(buffer, status);
+    return buffer.flip();
+  }
+
+  @Override
+  public GetTaskResponse read(ByteBuffer binary) {
+    byte version = binary.get();
+    if (version != FORMAT_VERSION) {
+      throw new SerializerException("Unknown task encoding version " + version);
+    }
+
+    int fields = binary.get();
+    GetTaskResponse.GetTaskResponseBuilder task = GetTaskResponse.builder()
+        .id(readString(binary, fields, ID))
+        .title(readString(binary, fields, TITLE))
+        .description(readString(binary, fields, DESCRIPTION));
+    if ((fields & DUE_DATE) != 0) {
+      long epochSecond = binary.getLong();
+      task.dueDate(LocalDateTime.ofEpochSecond(epochSecond, binary.getInt(), ZoneOffset.UTC));
+    }
+    if ((fields & TAGS) != 0) {
+      String[] tags = new String[binary.getInt()];
+      for (int i = 0; i < tags.length; i++) {
+        tags[i] = readString(binary);
+      }
+      task.tags(tags);
+    }
+    return task.status(readString(binary, fields, STATUS)).build();
+  }
+
+  @Override
+  public boolean equals(Object object, ByteBuffer binary) {
+    return object.equals(read(binary));
+  }
+
+  private static byte[] utf8(String value) {
+    return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+  }
+
+  private static int length(byte[] value) {
+    return value != null ? Integer.BYTES + value.length : 0;
+  }
+
+  private static void putString(ByteBuffer buffer, byte[] value) {
+    if (value != null) {
+      buffer.putInt(value.length).put(value);
+    }
+  }
+
+  private static String readString(ByteBuffer binary, int fields, int field) {
+    return (fields & field) != 0 ? readString(binary) : null;
+  }
+
+  private static String readString(ByteBuffer binary) {
+    int length = binary.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] value = new byte[length];
+    binary.get(value);
+    return new String(value, StandardCharsets.UTF_8);
+  }
+}
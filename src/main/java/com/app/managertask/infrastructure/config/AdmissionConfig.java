@@ -0,0 +1,62 @@
+package com.app.managertask.infrastructure.config;
+
+import com.app.managertask.infrastructure.admission.AdaptiveConcurrencyLimiter;
+import com.app.managertask.infrastructure.admission.AdmissionControlFilter;
+import com.app.managertask.infrastructure.admission.ClientRateLimiter;
+import com.app.managertask.infrastructure.config.AdmissionProperties.ConcurrencyLimit;
+import com.app.managertask.infrastructure.config.AdmissionProperties.RateLimit;
+import com.app.managertask.infrastructure.config.AdmissionProperties.TokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuración del control de admisión de las peticiones a las tareas.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+  @Bean
+  public AdmissionControlFilter admissionControlFilter(AdmissionProperties properties,
+      MeterRegistry meterRegistry) {
+    RateLimit rateLimit = properties.getRateLimit();
+    if (rateLimit.getMaxClients() < 0) {
+      throw new IllegalStateException("app.admission.rate-limit.max-clients must not be negative");
+    }
+
+    return new AdmissionControlFilter(properties.isEnabled(),
+        concurrencyLimiter("read", properties.getRead()),
+        concurrencyLimiter("write", properties.getWrite()),
+        rateLimiter(rateLimit, rateLimit.getRead()), rateLimiter(rateLimit, rateLimit.getWrite()),
+        rateLimit.getClientHeader(), properties.getRetryAfter(), meterRegistry);
+  }
+
+  private static AdaptiveConcurrencyLimiter concurrencyLimiter(String lane,
+      ConcurrencyLimit limit) {
+    if (limit.getMinLimit() < 1 || limit.getMaxLimit() < limit.getMinLimit()) {
+      throw new IllegalStateException("app.admission." + lane
+          + ".min-limit must be positive and not greater than max-limit");
+    }
+    if (limit.getBackoffRatio() <= 0 || limit.getBackoffRatio() >= 1) {
+      throw new IllegalStateException("app.admission." + lane
+          + ".backoff-ratio must be between 0 and 1");
+    }
+
+    return new AdaptiveConcurrencyLimiter(limit.getInitialLimit(), limit.getMinLimit(),
+        limit.getMaxLimit(), limit.getLatencyTarget(), limit.getBackoffRatio());
+  }
+
+  private static ClientRateLimiter rateLimiter(RateLimit rateLimit, TokenBucket bucket) {
+    if (rateLimit.isEnabled() && (bucket.getBurst() < 1 || bucket.getRefillPerSecond() <= 0)) {
+      throw new IllegalStateException(
+          "app.admission.rate-limit burst and refill-per-second must be positive");
+    }
+
+    return new ClientRateLimiter(bucket.getBurst(), bucket.getRefillPerSecond(),
+        rateLimit.isEnabled() ? rateLimit.getMaxClients() : 0);
+  }
+}
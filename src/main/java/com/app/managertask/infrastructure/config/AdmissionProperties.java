@@ -0,0 +1,115 @@
+package com.app.managertask.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración del control de admisión de las peticiones a las tareas ({@code app.admission}):
+ * límites de concurrencia adaptativos y límites de tasa por cliente, por separado para lecturas y
+ * escrituras.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+  /**
+   * Habilita el control de admisión.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Espera indicada en {@code Retry-After} a los clientes rechazados por concurrencia.
+   */
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  private ConcurrencyLimit read = new ConcurrencyLimit(64, 8, 512, Duration.ofMillis(200));
+
+  private ConcurrencyLimit write = new ConcurrencyLimit(16, 4, 128, Duration.ofMillis(500));
+
+  private RateLimit rateLimit = new RateLimit();
+
+  @Data
+  public static class ConcurrencyLimit {
+
+    /**
+     * Límite de peticiones concurrentes al arrancar.
+     */
+    private int initialLimit;
+
+    /**
+     * Límite mínimo de peticiones concurrentes.
+     */
+    private int minLimit;
+
+    /**
+     * Límite máximo de peticiones concurrentes.
+     */
+    private int maxLimit;
+
+    /**
+     * Latencia objetivo: las peticiones más lentas reducen el límite.
+     */
+    private Duration latencyTarget;
+
+    /**
+     * Factor por el que se multiplica el límite al reducirlo.
+     */
+    private double backoffRatio = 0.9;
+
+    public ConcurrencyLimit() {
+    }
+
+    ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget) {
+      this.initialLimit = initialLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+      this.latencyTarget = latencyTarget;
+    }
+  }
+
+  @Data
+  public static class RateLimit {
+
+    /**
+     * Habilita el límite de tasa por cliente.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cabecera que identifica al cliente. Sin ella se usa la dirección IP.
+     */
+    private String clientHeader = "X-Client-Id";
+
+    /**
+     * Número máximo de clientes con límite propio; el resto comparte uno.
+     */
+    private int maxClients = 10_000;
+
+    private TokenBucket read = new TokenBucket(200, 100);
+
+    private TokenBucket write = new TokenBucket(50, 20);
+  }
+
+  @Data
+  public static class TokenBucket {
+
+    /**
+     * Número máximo de peticiones seguidas de un cliente.
+     */
+    private int burst;
+
+    /**
+     * Peticiones por segundo sostenidas de un cliente.
+     */
+    private double refillPerSecond;
+
+    public TokenBucket() {
+    }
+
+    TokenBucket(int burst, double refillPerSecond) {
+      this.burst = burst;
+      this.refillPerSecond = refillPerSecond;
+    }
+  }
+}
@@ -1,17 +1,219 @@
 package com.app.managertask.infrastructure.config;
 
+import static com.app.managertask.infrastructure.config.ExecutorConfig.BACKGROUND_LOAD_EXECUTOR;
+
+import com.app.managertask.application.cache.BloomTaskIdFilter;
+import com.app.managertask.application.cache.NoOpTaskIdFilter;
+import com.app.managertask.application.cache.TaskAccessCounter;
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.cache.TaskCacheWarmer;
+import com.app.managertask.application.cache.TaskIdFilter;
+import com.app.managertask.application.cache.TaskIdFilterLoader;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.cache.CacheEntryCounters;
+import com.app.managertask.infrastructure.cache.TaskResponseSerializer;
+import com.app.managertask.infrastructure.config.TaskCacheProperties.CacheSpec;
+import com.app.managertask.infrastructure.config.TaskCacheProperties.IdFilter;
+import com.app.managertask.infrastructure.config.TaskCacheProperties.WarmUp;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Caching;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.serialization.StringSerializer;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.spi.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
 
+/**
+ * Configuración de las cachés de la aplicación sobre Ehcache a través de JCache (JSR-107).
+ * <p>
+ * Cada caché declarada en {@code app.cache.caches} se crea con un número máximo de entradas en
+ * heap y su política de caducidad, y con las estadísticas JCache habilitadas (aciertos, fallos y
+ * desalojos), que se publican por JMX. El número de entradas de cada caché se cuenta con
+ * {@link CacheEntryCounters}.
+ * </p>
+ * <p>
+ * Las cachés con {@code off-heap} tienen un segundo nivel fuera del heap de Java: el heap guarda
+ * solo las {@code max-entries} entradas más usadas y el resto se guarda serializado en memoria
+ * directa, sin coste para el recolector de basura. Ehcache baja al nivel off-heap las entradas
+ * que desaloja del heap y sube al heap las que se leen. Solo pueden tener nivel off-heap las
+ * cachés con claves {@link String} y un serializador compacto para sus valores.
+ * </p>
+ */
 @Configuration
+@Profile("!reactive")
 @EnableCaching
+@EnableConfigurationProperties(TaskCacheProperties.class)
 public class CacheConfig {
 
+  private static final AtomicInteger CACHE_MANAGER_SEQUENCE = new AtomicInteger();
+
+  /**
+   * Crea el gestor de cachés JCache de Ehcache con las cachés configuradas.
+   * <p>
+   * Cada instancia utiliza una URI propia para que varios contextos de Spring en la misma JVM no
+   * compartan cachés ni registros JMX.
+   * </p>
+   *
+   * @param properties    configuración de las cachés
+   * @param entryCounters contadores de entradas de las cachés
+   * @return gestor de cachés JCache
+   */
+  @Bean(destroyMethod = "close")
+  public javax.cache.CacheManager jCacheManager(TaskCacheProperties properties,
+      CacheEntryCounters entryCounters) {
+    Map<String, CacheConfiguration<Object, Object>> caches = new LinkedHashMap<>();
+    properties.getCaches().forEach((name, spec) ->
+        caches.put(name, cacheConfiguration(name, spec, entryCounters)));
+
+    EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+        EhcacheCachingProvider.class.getName());
+    URI uri = URI.create("urn:manager-tasks:" + CACHE_MANAGER_SEQUENCE.incrementAndGet());
+    javax.cache.CacheManager cacheManager = provider.getCacheManager(uri,
+        ConfigurationBuilder.newConfigurationBuilder().build());
+
+    caches.forEach((name, cacheConfiguration) -> {
+      cacheManager.createCache(name,
+          Eh107Configuration.fromEhcacheCacheConfiguration(cacheConfiguration));
+      cacheManager.enableStatistics(name, true);
+    });
+
+    return cacheManager;
+  }
+
+  @Bean
+  public CacheEntryCounters cacheEntryCounters() {
+    return new CacheEntryCounters();
+  }
+
+  @Bean
+  public CacheManager cacheManager(javax.cache.CacheManager jCacheManager) {
+    return new JCacheCacheManager(jCacheManager);
+  }
+
+  /**
+   * Crea el filtro de IDs de tareas existentes configurado en {@code app.cache.id-filter}.
+   *
+   * @param properties configuración de las cachés
+   * @return filtro de IDs
+   */
+  @Bean
+  public TaskIdFilter taskIdFilter(TaskCacheProperties properties) {
+    IdFilter idFilter = properties.getIdFilter();
+
+    return switch (idFilter.getType()) {
+      case "bloom" -> new BloomTaskIdFilter(idFilter.getExpectedIds(),
+          idFilter.getFalsePositiveRate());
+      case "none" -> new NoOpTaskIdFilter();
+      default -> throw new IllegalStateException("Unknown task ID filter: " + idFilter.getType());
+    };
+  }
+
   @Bean
-  public CacheManager cacheManager() {
-    return new ConcurrentMapCacheManager("tasksCache", "taskCache");
+  public TaskIdFilterLoader taskIdFilterLoader(TaskRepositoryPort taskRepositoryPort,
+      TaskIdFilter taskIdFilter, TaskCacheProperties properties) {
+    if (properties.getIdFilter().getRefreshInterval().toMillis() < 1) {
+      throw new IllegalStateException("app.cache.id-filter refresh-interval must be positive");
+    }
+
+    return new TaskIdFilterLoader(taskRepositoryPort, taskIdFilter,
+        properties.getIdFilter().getRefreshInterval());
+  }
+
+  /**
+   * Crea el contador de accesos a tareas con el que se eligen las tareas de la instantánea de
+   * {@code app.cache.warm-up}. Cuenta hasta cuatro veces {@code max-keys} IDs distintos, o ninguno
+   * si la precarga está deshabilitada.
+   *
+   * @param properties configuración de las cachés
+   * @return contador de accesos
+   */
+  @Bean
+  public TaskAccessCounter taskAccessCounter(TaskCacheProperties properties) {
+    WarmUp warmUp = properties.getWarmUp();
+    return new TaskAccessCounter(warmUp.isEnabled() ? warmUp.getMaxKeys() * 4 : 0);
+  }
+
+  @Bean
+  public TaskCacheWarmer taskCacheWarmer(TaskCache taskCache,
+      TaskRepositoryPort taskRepositoryPort, TaskAccessCounter taskAccessCounter,
+      @Qualifier(BACKGROUND_LOAD_EXECUTOR) TaskExecutor backgroundLoadExecutor,
+      TaskCacheProperties properties) {
+    WarmUp warmUp = properties.getWarmUp();
+    if (warmUp.getMaxKeys() < 1 || warmUp.getBatchSize() < 1 || warmUp.getConcurrency() < 1
+        || warmUp.getSnapshotInterval().toMillis() < 1) {
+      throw new IllegalStateException(
+          "app.cache.warm-up max-keys, batch-size, concurrency and snapshot-interval must be "
+              + "positive");
+    }
+
+    return new TaskCacheWarmer(taskCache, taskRepositoryPort, taskAccessCounter,
+        backgroundLoadExecutor, warmUp.isEnabled(), warmUp.getSnapshotFile(),
+        warmUp.getSnapshotInterval(), warmUp.getMaxKeys(), warmUp.getBatchSize(),
+        warmUp.getConcurrency(), warmUp.getTimeBudget(), warmUp.isTaskList());
+  }
+
+  private static CacheConfiguration<Object, Object> cacheConfiguration(String name,
+      CacheSpec spec, CacheEntryCounters entryCounters) {
+    ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(spec.getMaxEntries());
+    if (spec.getOffHeap() != null) {
+      if (spec.getOffHeap().toMegabytes() < 1) {
+        throw new IllegalStateException("Cache " + name + " off-heap size must be at least 1MB");
+      }
+      resourcePools = resourcePools.offheap(spec.getOffHeap().toMegabytes(), MemoryUnit.MB);
+    }
+
+    CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder
+        .newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+        .withExpiry(expiryPolicy(name, spec))
+        .withService(entryCounters.listenerFor(name));
+    if (spec.getOffHeap() != null) {
+      builder = builder.withKeySerializer(stringKeySerializer())
+          .withValueSerializer(offHeapValueSerializer(name));
+    }
+    return builder.build();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Serializer<Object> stringKeySerializer() {
+    return (Serializer) new StringSerializer();
+  }
+
+  private static Serializer<Object> offHeapValueSerializer(String name) {
+    if (TaskCache.TASK_CACHE.equals(name)) {
+      return new TaskResponseSerializer();
+    }
+    throw new IllegalStateException("Cache " + name + " cannot be stored off-heap");
+  }
+
+  private static ExpiryPolicy<Object, Object> expiryPolicy(String name, CacheSpec spec) {
+    if (spec.getTimeToLive() != null && spec.getTimeToIdle() != null) {
+      throw new IllegalStateException(
+          "Cache " + name + " must configure either time-to-live or time-to-idle, not both");
+    }
+    if (spec.getTimeToLive() != null) {
+      return ExpiryPolicyBuilder.timeToLiveExpiration(spec.getTimeToLive());
+    }
+    if (spec.getTimeToIdle() != null) {
+      return ExpiryPolicyBuilder.timeToIdleExpiration(spec.getTimeToIdle());
+    }
+    return ExpiryPolicyBuilder.noExpiration();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.app.managertask.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Configuración de los ejecutores de tareas en segundo plano.
+ * <p>
+ * Con {@code spring.threads.virtual.enabled} en Java 21 o superior (perfil
+ * {@code virtual-threads}), las cargas en segundo plano se ejecutan en hilos virtuales, igual que
+ * las peticiones de Tomcat. En otro caso se utilizan hilos de plataforma de tipo daemon.
+ * </p>
+ */
+@Configuration
+public class ExecutorConfig {
+
+  public static final String BACKGROUND_LOAD_EXECUTOR = "backgroundLoadExecutor";
+
+  /**
+   * Ejecutor de las cargas de arranque de los índices en memoria. Cada carga se ejecuta en un hilo
+   * propio.
+   *
+   * @param environment entorno de la aplicación
+   * @return ejecutor de cargas en segundo plano
+   */
+  @Bean(BACKGROUND_LOAD_EXECUTOR)
+  public TaskExecutor backgroundLoadExecutor(Environment environment) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("background-load-");
+    if (Threading.VIRTUAL.isActive(environment)) {
+      executor.setVirtualThreads(true);
+    } else {
+      executor.setDaemon(true);
+    }
+    return executor;
+  }
+}
@@ -0,0 +1,23 @@
+package com.app.managertask.infrastructure.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuración del modo reactivo ({@code reactive}).
+ * <p>
+ * Fuerza el uso de Netty como servidor: con Spring MVC también en el classpath, Spring Boot
+ * elegiría Tomcat, que atiende cada conexión con un pool de hilos acotado.
+ * </p>
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+}
@@ -0,0 +1,133 @@
+package com.app.managertask.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuración de las cachés de la aplicación ({@code app.cache}).
+ * <p>
+ * Cada entrada de {@code caches} define una caché por su nombre con su capacidad máxima en heap,
+ * su nivel off-heap opcional y su política de caducidad.
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class TaskCacheProperties {
+
+  private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+  private IdFilter idFilter = new IdFilter();
+
+  private ListResponse listResponse = new ListResponse();
+
+  private WarmUp warmUp = new WarmUp();
+
+  @Data
+  public static class CacheSpec {
+
+    /**
+     * Número máximo de entradas en memoria. Al superarse se desalojan las entradas menos usadas.
+     */
+    private long maxEntries = 1000;
+
+    /**
+     * Tamaño del nivel off-heap, en el que se guardan serializadas las entradas desalojadas del
+     * heap. Sin valor, la caché solo usa el heap.
+     */
+    private DataSize offHeap;
+
+    /**
+     * Tiempo de vida de una entrada desde que se escribe. Incompatible con timeToIdle.
+     */
+    private Duration timeToLive;
+
+    /**
+     * Tiempo máximo sin accesos tras el cual caduca una entrada. Incompatible con timeToLive.
+     */
+    private Duration timeToIdle;
+  }
+
+  @Data
+  public static class IdFilter {
+
+    /**
+     * Tipo de filtro de IDs existentes: {@code bloom} o {@code none}.
+     */
+    private String type = "none";
+
+    /**
+     * Número de IDs esperado con el que se dimensiona el filtro de Bloom.
+     */
+    private long expectedIds = 1_000_000;
+
+    /**
+     * Tasa de falsos positivos del filtro de Bloom con el número de IDs esperado.
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * Intervalo entre las cargas de los IDs de las tareas creadas desde la carga anterior.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+  }
+
+  @Data
+  public static class ListResponse {
+
+    /**
+     * Si se guarda también la versión comprimida con gzip del listado para los clientes que la
+     * aceptan.
+     */
+    private boolean gzip = true;
+  }
+
+  @Data
+  public static class WarmUp {
+
+    /**
+     * Habilita la instantánea periódica de las tareas más usadas y su precarga al arrancar.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Fichero local en el que se guardan los IDs de las tareas más usadas.
+     */
+    private Path snapshotFile = Path.of("data", "hot-task-ids");
+
+    /**
+     * Intervalo entre instantáneas. También se guarda una al detener la aplicación.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(1);
+
+    /**
+     * Número máximo de IDs de la instantánea.
+     */
+    private int maxKeys = 10_000;
+
+    /**
+     * Número de IDs de cada consulta de la precarga.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Número de consultas de la precarga que se ejecutan a la vez.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Tiempo máximo que la precarga retrasa que la aplicación acepte tráfico. Al agotarse, las
+     * tareas que faltan se cargan bajo demanda.
+     */
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    /**
+     * Si la precarga construye también el listado completo de tareas.
+     */
+    private boolean taskList = true;
+  }
+}
@@ -0,0 +1,40 @@
+package com.app.managertask.infrastructure.config;
+
+import static com.app.managertask.infrastructure.config.ExecutorConfig.BACKGROUND_LOAD_EXECUTOR;
+
+import com.app.managertask.application.expiry.TaskExpiryListener;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Configuración del planificador de vencimientos de tareas. Los {@link TaskExpiryListener}
+ * declarados como beans se registran en el planificador según su orden.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableConfigurationProperties(TaskExpiryProperties.class)
+public class TaskExpiryConfig {
+
+  @Bean
+  public TaskExpiryScheduler taskExpiryScheduler(TaskRepositoryPort taskRepositoryPort,
+      ObjectProvider<TaskExpiryListener> listeners,
+      @Qualifier(BACKGROUND_LOAD_EXECUTOR) TaskExecutor backgroundLoadExecutor,
+      TaskExpiryProperties properties) {
+    if (properties.getTick().toMillis() < 1
+        || properties.getHorizon().compareTo(properties.getTick().multipliedBy(2)) < 0) {
+      throw new IllegalStateException(
+          "app.expiry tick must be at least 1ms and horizon at least two ticks");
+    }
+
+    return new TaskExpiryScheduler(taskRepositoryPort, listeners.orderedStream().toList(),
+        backgroundLoadExecutor, properties.isEnabled(), properties.getTick(),
+        properties.getHorizon());
+  }
+}
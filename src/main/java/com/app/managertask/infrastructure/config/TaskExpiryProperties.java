@@ -0,0 +1,29 @@
+package com.app.managertask.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración del planificador de vencimientos de tareas ({@code app.expiry}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.expiry")
+public class TaskExpiryProperties {
+
+  /**
+   * Habilita la notificación de los vencimientos de tareas.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Resolución de la rueda de temporización: los vencimientos se notifican con un retraso de como
+   * máximo un tick.
+   */
+  private Duration tick = Duration.ofSeconds(1);
+
+  /**
+   * Ventana de vencimientos que se mantiene en memoria. Se amplía cuando ha transcurrido la mitad.
+   */
+  private Duration horizon = Duration.ofHours(6);
+}
@@ -0,0 +1,33 @@
+package com.app.managertask.infrastructure.config;
+
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.application.ingest.TaskIngestQueue;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuración de la cola de escritura diferida para la creación asíncrona de tareas.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableConfigurationProperties(TaskIngestProperties.class)
+public class TaskIngestConfig {
+
+  @Bean
+  public TaskIngestQueue taskIngestQueue(TaskRepositoryPort taskRepositoryPort,
+      TaskCache taskCache, TaskExpiryScheduler taskExpiryScheduler,
+      TaskIngestProperties properties) {
+    if (properties.getCapacity() < 1 || properties.getBatchSize() < 1) {
+      throw new IllegalStateException("app.ingest capacity and batch-size must be positive");
+    }
+
+    return new TaskIngestQueue(taskRepositoryPort, taskCache, taskExpiryScheduler,
+        properties.isEnabled(), properties.getCapacity(), properties.getBatchSize(),
+        properties.getMaxLinger(), properties.getOfferTimeout(), properties.getShutdownTimeout(),
+        properties.getSpillFile());
+  }
+}
@@ -0,0 +1,51 @@
+package com.app.managertask.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración de la creación asíncrona de tareas ({@code app.ingest}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ingest")
+public class TaskIngestProperties {
+
+  /**
+   * Habilita la cola de escritura diferida. Si está deshabilitada, la creación asíncrona responde
+   * 501.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Número máximo de tareas pendientes de guardar.
+   */
+  private int capacity = 10_000;
+
+  /**
+   * Número máximo de tareas que se guardan en cada escritura.
+   */
+  private int batchSize = 500;
+
+  /**
+   * Tiempo máximo que una tarea espera en la cola a que se complete su lote.
+   */
+  private Duration maxLinger = Duration.ofMillis(50);
+
+  /**
+   * Tiempo máximo que se espera a que haya hueco en la cola antes de rechazar una tarea.
+   */
+  private Duration offerTimeout = Duration.ofMillis(100);
+
+  /**
+   * Tiempo máximo que se espera al detener la aplicación para guardar las tareas pendientes.
+   */
+  private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Fichero en el que se guardan las tareas que no se han podido guardar al detener la aplicación,
+   * para encolarlas de nuevo al arrancar.
+   */
+  private Path spillFile = Path.of("data", "ingest-spill.ndjson");
+}
@@ -0,0 +1,149 @@
+package com.app.managertask.infrastructure.config;
+
+import static com.app.managertask.infrastructure.config.ExecutorConfig.BACKGROUND_LOAD_EXECUTOR;
+
+import com.app.managertask.infrastructure.adapter.repository.MongoTaskRepository;
+import com.app.managertask.infrastructure.adapter.repository.ResilientTaskRepository;
+import com.app.managertask.infrastructure.adapter.repository.TaskIndexManager;
+import com.app.managertask.infrastructure.config.TaskRepositoryProperties.Timeouts;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Configuración de la resiliencia del acceso a MongoDB.
+ * <p>
+ * Limita el tiempo que el driver espera a un servidor, a una conexión del pool y a cada respuesta,
+ * de modo que durante un failover las operaciones fallan en segundos en lugar de esperar los
+ * valores por defecto del driver. Estos límites se aplican después de la URI de conexión y
+ * prevalecen sobre ella. Además, el puerto de tareas se expone decorado con un circuit breaker y
+ * un bulkhead ({@link ResilientTaskRepository}), cuyas métricas se publican como
+ * {@code resilience4j_circuitbreaker_*} y {@code resilience4j_bulkhead_*}. Los índices de la
+ * colección se crean o comprueban al arrancar con {@link TaskIndexManager}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(TaskRepositoryProperties.class)
+@Slf4j
+public class TaskRepositoryConfig {
+
+  static final String TASK_REPOSITORY = "taskRepository";
+
+  @Bean
+  public MongoClientSettingsBuilderCustomizer taskRepositoryTimeouts(
+      TaskRepositoryProperties properties) {
+    Timeouts timeouts = properties.getTimeouts();
+
+    return settings -> settings
+        .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(
+            timeouts.getServerSelection().toMillis(), TimeUnit.MILLISECONDS))
+        .applyToConnectionPoolSettings(pool -> pool.maxWaitTime(
+            timeouts.getConnectionWait().toMillis(), TimeUnit.MILLISECONDS))
+        .applyToSocketSettings(socket -> socket
+            .connectTimeout(timeouts.getConnect().toMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(timeouts.getRead().toMillis(), TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Crea el registro de circuit breakers con la configuración de
+   * {@code app.repository.circuit-breaker}. Solo cuentan como fallos los errores de conexión y de
+   * tiempo máximo; el resto de errores, como los de validación de datos, no abren el circuito.
+   *
+   * @param properties configuración del acceso a MongoDB
+   * @return registro de circuit breakers
+   */
+  @Bean
+  public CircuitBreakerRegistry circuitBreakerRegistry(TaskRepositoryProperties properties) {
+    TaskRepositoryProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+
+    return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+        .failureRateThreshold(circuitBreaker.getFailureRateThreshold())
+        .slowCallDurationThreshold(circuitBreaker.getSlowCallDuration())
+        .slowCallRateThreshold(circuitBreaker.getSlowCallRateThreshold())
+        .slidingWindowSize(circuitBreaker.getSlidingWindowSize())
+        .minimumNumberOfCalls(circuitBreaker.getMinimumNumberOfCalls())
+        .waitDurationInOpenState(circuitBreaker.getWaitInOpenState())
+        .permittedNumberOfCallsInHalfOpenState(circuitBreaker.getPermittedCallsInHalfOpenState())
+        .recordExceptions(DataAccessResourceFailureException.class,
+            TransientDataAccessException.class)
+        .build());
+  }
+
+  @Bean
+  public BulkheadRegistry bulkheadRegistry(TaskRepositoryProperties properties) {
+    return BulkheadRegistry.of(BulkheadConfig.custom()
+        .maxConcurrentCalls(properties.getBulkhead().getMaxConcurrentCalls())
+        .maxWaitDuration(properties.getBulkhead().getMaxWait())
+        .build());
+  }
+
+  @Bean
+  public MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+    return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+  }
+
+  @Bean
+  public MeterBinder bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+    return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+  }
+
+  /**
+   * Decora el adaptador de MongoDB con el circuit breaker y el bulkhead, y lo expone como el
+   * puerto de tareas de la aplicación. Las pruebas de carga sustituyen MongoDB por un almacén en
+   * memoria, que no se decora, y el modo reactivo usa su propio puerto.
+   *
+   * @param mongoTaskRepository     adaptador de MongoDB
+   * @param circuitBreakerRegistry  registro de circuit breakers
+   * @param bulkheadRegistry        registro de bulkheads
+   * @return puerto de tareas resiliente
+   */
+  @Bean
+  @Primary
+  @Profile("!loadtest & !reactive")
+  public ResilientTaskRepository resilientTaskRepository(MongoTaskRepository mongoTaskRepository,
+      CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(TASK_REPOSITORY);
+    circuitBreaker.getEventPublisher().onStateTransition(event ->
+        log.warn("Task repository circuit breaker transition {}", event.getStateTransition()));
+
+    return new ResilientTaskRepository(mongoTaskRepository, circuitBreaker,
+        bulkheadRegistry.bulkhead(TASK_REPOSITORY));
+  }
+
+  /**
+   * Crea el gestor de los índices de la colección de tareas. Las pruebas de carga no usan MongoDB,
+   * por lo que no gestionan índices, y el modo reactivo tampoco, ya que solo consulta por
+   * {@code _id}.
+   *
+   * @param mongoTemplate          plantilla de MongoDB
+   * @param backgroundLoadExecutor ejecutor de la gestión en segundo plano
+   * @param properties             configuración del acceso a MongoDB
+   * @return gestor de índices
+   */
+  @Bean
+  @Profile("!loadtest & !reactive")
+  public TaskIndexManager taskIndexManager(MongoTemplate mongoTemplate,
+      @Qualifier(BACKGROUND_LOAD_EXECUTOR) TaskExecutor backgroundLoadExecutor,
+      TaskRepositoryProperties properties) {
+    return new TaskIndexManager(mongoTemplate, backgroundLoadExecutor,
+        properties.getIndexes().getMode(), properties.getIndexes().isBlocking());
+  }
+}
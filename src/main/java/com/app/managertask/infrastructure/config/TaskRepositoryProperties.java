@@ -0,0 +1,132 @@
+package com.app.managertask.infrastructure.config;
+
+import com.app.managertask.infrastructure.adapter.repository.TaskIndexManager;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuración del acceso a MongoDB ({@code app.repository}): tiempos máximos de las
+ * operaciones, circuit breaker, bulkhead y gestión de índices.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.repository")
+public class TaskRepositoryProperties {
+
+  private Timeouts timeouts = new Timeouts();
+
+  private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+  private Bulkhead bulkhead = new Bulkhead();
+
+  private Indexes indexes = new Indexes();
+
+  @Data
+  public static class Timeouts {
+
+    /**
+     * Tiempo máximo de las búsquedas por ID, aplicado en el servidor con {@code maxTimeMS}.
+     */
+    private Duration pointRead = Duration.ofMillis(500);
+
+    /**
+     * Tiempo máximo de las consultas de páginas y etiquetas, aplicado en el servidor con
+     * {@code maxTimeMS}.
+     */
+    private Duration query = Duration.ofSeconds(2);
+
+    /**
+     * Tiempo máximo de las consultas que leen la colección completa, aplicado en el servidor con
+     * {@code maxTimeMS}. Los recorridos con cursor no tienen límite.
+     */
+    private Duration scan = Duration.ofSeconds(10);
+
+    /**
+     * Tiempo máximo para seleccionar un servidor, que limita la espera durante un failover.
+     */
+    private Duration serverSelection = Duration.ofSeconds(2);
+
+    /**
+     * Tiempo máximo de espera de una conexión libre del pool.
+     */
+    private Duration connectionWait = Duration.ofSeconds(1);
+
+    /**
+     * Tiempo máximo para abrir una conexión.
+     */
+    private Duration connect = Duration.ofSeconds(2);
+
+    /**
+     * Tiempo máximo de espera de cada respuesta del servidor. Debe superar a {@code scan}.
+     */
+    private Duration read = Duration.ofSeconds(15);
+  }
+
+  @Data
+  public static class CircuitBreaker {
+
+    /**
+     * Porcentaje de llamadas fallidas a partir del cual se abre el circuito.
+     */
+    private float failureRateThreshold = 50;
+
+    /**
+     * Duración a partir de la cual una llamada se considera lenta.
+     */
+    private Duration slowCallDuration = Duration.ofSeconds(1);
+
+    /**
+     * Porcentaje de llamadas lentas a partir del cual se abre el circuito.
+     */
+    private float slowCallRateThreshold = 80;
+
+    /**
+     * Número de llamadas recientes con las que se calculan los porcentajes.
+     */
+    private int slidingWindowSize = 50;
+
+    /**
+     * Número mínimo de llamadas en la ventana antes de calcular los porcentajes.
+     */
+    private int minimumNumberOfCalls = 20;
+
+    /**
+     * Tiempo que el circuito permanece abierto antes de dejar pasar llamadas de prueba.
+     */
+    private Duration waitInOpenState = Duration.ofSeconds(10);
+
+    /**
+     * Número de llamadas de prueba con el circuito semiabierto.
+     */
+    private int permittedCallsInHalfOpenState = 5;
+  }
+
+  @Data
+  public static class Bulkhead {
+
+    /**
+     * Número máximo de llamadas concurrentes a la base de datos.
+     */
+    private int maxConcurrentCalls = 32;
+
+    /**
+     * Tiempo máximo de espera de una llamada cuando se ha alcanzado el máximo de concurrencia.
+     */
+    private Duration maxWait = Duration.ofMillis(50);
+  }
+
+  @Data
+  public static class Indexes {
+
+    /**
+     * Gestión de los índices declarados en la tarea al arrancar: {@code create}, {@code verify} o
+     * {@code none}.
+     */
+    private TaskIndexManager.Mode mode = TaskIndexManager.Mode.CREATE;
+
+    /**
+     * Si el arranque espera a que se creen o comprueben los índices antes de aceptar tráfico.
+     */
+    private boolean blocking = false;
+  }
+}
@@ -0,0 +1,48 @@
+package com.app.managertask.infrastructure.config;
+
+import java.util.concurrent.Callable;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuración de Spring MVC.
+ * <p>
+ * Las peticiones asíncronas mantienen el tiempo máximo por defecto, salvo la exportación en
+ * streaming ({@value #EXPORT_PATTERN}), que no tiene límite porque su duración depende del
+ * tamaño de la colección.
+ * </p>
+ */
+@Configuration
+@Profile("!reactive")
+public class WebConfig implements WebMvcConfigurer {
+
+  static final String EXPORT_PATTERN = "/api/tasks/export";
+  static final long NO_TIMEOUT = -1;
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.registerCallableInterceptors(new ExportTimeoutInterceptor());
+  }
+
+  /**
+   * Quita el tiempo máximo de la exportación antes de iniciar su procesamiento asíncrono.
+   */
+  static final class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+          RequestAttributes.SCOPE_REQUEST);
+      if (EXPORT_PATTERN.equals(pattern) && request instanceof AsyncWebRequest asyncRequest) {
+        asyncRequest.setTimeout(NO_TIMEOUT);
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.app.managertask.infrastructure.controller;
+
+import com.app.managertask.application.dto.response.CacheStatisticsResponse;
+import com.app.managertask.infrastructure.cache.CacheStatisticsProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador para consultar el estado de las cachés de la aplicación.
+ *
+ * @see CacheStatisticsProvider
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/caches")
+@Tag(name = "Cache", description = "Endpoints to inspect the application caches")
+public class CacheController {
+
+  private final CacheStatisticsProvider cacheStatisticsProvider;
+
+  public CacheController(CacheStatisticsProvider cacheStatisticsProvider) {
+    this.cacheStatisticsProvider = cacheStatisticsProvider;
+  }
+
+  /**
+   * Recupera las estadísticas de todas las cachés.
+   *
+   * @return lista de DTOs con los aciertos, fallos y desalojos de cada caché
+   */
+  @GetMapping("/statistics")
+  @Operation(summary = "Retrieve cache statistics",
+      description = "Fetches hit, miss and eviction counters of every cache")
+  @ApiResponse(responseCode = "200", description = "Statistics of every cache")
+  public ResponseEntity<List<CacheStatisticsResponse>> getCacheStatistics() {
+    return new ResponseEntity<>(cacheStatisticsProvider.getStatistics(), HttpStatus.OK);
+  }
+}
@@ -0,0 +1,110 @@
+package com.app.managertask.infrastructure.controller;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.response.CreateTaskResponse;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.domain.port.input.ReactiveTaskManagementUseCase;
+import com.app.managertask.infrastructure.exception.TaskNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reactivo para manejar solicitudes HTTP relacionadas con tareas.
+ * <p>
+ * Sustituye a {@link TaskController} en el perfil {@code reactive}. Expone los endpoints para
+ * crear, recuperar y listar tareas sin bloquear los hilos del servidor. Utiliza
+ * {@link ReactiveTaskManagementUseCase} para las operaciones de negocio.
+ * </p>
+ *
+ * @see ReactiveTaskManagementUseCase
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/tasks")
+@Tag(name = "Task", description = "Endpoints to manage tasks")
+@Slf4j
+public class ReactiveTaskController {
+
+  private final ReactiveTaskManagementUseCase reactiveTaskManagementUseCase;
+
+  public ReactiveTaskController(ReactiveTaskManagementUseCase reactiveTaskManagementUseCase) {
+    this.reactiveTaskManagementUseCase = reactiveTaskManagementUseCase;
+  }
+
+  /**
+   * Crea una nueva tarea.
+   *
+   * @param createTaskRequest DTO con la información de la tarea a crear
+   * @return Mono con los detalles de la tarea creada
+   */
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  @Operation(summary = "Create a new task", description = "Creates a new task in the database")
+  @ApiResponse(responseCode = "201", description = "Task created successfully")
+  @ApiResponse(responseCode = "400", description = "Invalid request")
+  public Mono<CreateTaskResponse> createTask(
+      @Parameter(description = "DTO containing the information for creating the task")
+      @Valid @RequestBody CreateTaskRequest createTaskRequest) {
+    log.info("Request to create task: {}", createTaskRequest);
+
+    return reactiveTaskManagementUseCase.createTask(createTaskRequest);
+  }
+
+  /**
+   * Recupera todas las tareas.
+   * <p>
+   * Las tareas se escriben en la respuesta a medida que se leen de la base de datos y la lectura
+   * avanza al ritmo al que el cliente las consume. Con {@code Accept: application/x-ndjson} se
+   * devuelve una tarea por línea.
+   * </p>
+   *
+   * @return Flux de DTOs con la información de todas las tareas
+   */
+  @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  @Operation(summary = "Retrieve all tasks", description = "Streams the list of all tasks")
+  @ApiResponse(responseCode = "200", description = "List of all tasks")
+  public Flux<GetTaskResponse> getAllTasks() {
+    log.info("Fetching all tasks");
+
+    return reactiveTaskManagementUseCase.getAllTasks();
+  }
+
+  /**
+   * Recupera una tarea por su ID.
+   *
+   * @param id ID de la tarea a obtener
+   * @return Mono con el DTO de la tarea
+   * @throws TaskNotFoundException si no se encuentra ninguna tarea con el ID solicitado
+   */
+  @GetMapping("/{id}")
+  @Operation(summary = "Retrieve a task by its ID",
+      description = "Fetches a specific task by its ID")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Task found"),
+      @ApiResponse(responseCode = "404", description = "Task not found")
+  })
+  public Mono<GetTaskResponse> getTaskById(
+      @Parameter(description = "ID of the task to retrieve")
+      @PathVariable String id) {
+    log.info("Request to fetch task with ID: {}", id);
+
+    return reactiveTaskManagementUseCase.getTaskById(id);
+  }
+}
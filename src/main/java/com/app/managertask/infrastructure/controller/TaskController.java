@@ -1,51 +1,92 @@
 package com.app.managertask.infrastructure.controller;
 
 import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.request.TaskPageRequest;
+import com.app.managertask.application.dto.response.CreateTaskBatchResponse;
 import com.app.managertask.application.dto.response.CreateTaskResponse;
 import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.dto.response.TaskLookupResponse;
+import com.app.managertask.application.dto.response.TaskPageResponse;
+import com.app.managertask.application.dto.response.TaskSummaryResponse;
+import com.app.managertask.domain.model.TaskListVersion;
 import com.app.managertask.domain.port.input.TaskManagementUseCase;
+import com.app.managertask.infrastructure.cache.TaskListResponseCache;
+import com.app.managertask.infrastructure.cache.TaskListResponseCache.EncodedTaskList;
 import com.app.managertask.infrastructure.exception.TaskNotFoundException;
+import com.app.managertask.infrastructure.exception.TaskRepositoryUnavailableException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controlador para manejar solicitudes HTTP relacionadas con tareas.
  * <p>
  * Expone los endpoints para crear, recuperar y listar tareas. Utiliza {@link TaskManagementUseCase}
- * para las operaciones de negocio relacionadas con las tareas.
+ * para las operaciones de negocio relacionadas con las tareas. En el perfil {@code reactive} se
+ * sustituye por {@link ReactiveTaskController}.
  * </p>
  *
  * @see TaskManagementUseCase
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/tasks")
 @Tag(name = "Task", description = "Endpoints to manage tasks")
 @Slf4j
 public class TaskController {
 
+  private static final int EXPORT_FLUSH_INTERVAL = 1000;
+  private static final String DATE_PATTERN = "dd/MM/yyyy HH:mm:ss";
+  private static final String GZIP_ENCODING = "gzip";
+  private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
   private final TaskManagementUseCase taskManagementUseCase;
+  private final ObjectMapper objectMapper;
+  private final TaskListResponseCache taskListResponseCache;
 
   /**
    * Construye un {@link TaskController} con el {@link TaskManagementUseCase} especificado.
    *
    * @param taskManagementUseCase el caso de uso para gestionar tareas
+   * @param objectMapper          serializador JSON utilizado en la exportación de tareas
+   * @param taskListResponseCache caché del listado de tareas serializado
    */
-  public TaskController(TaskManagementUseCase taskManagementUseCase) {
+  public TaskController(TaskManagementUseCase taskManagementUseCase, ObjectMapper objectMapper,
+      TaskListResponseCache taskListResponseCache) {
     this.taskManagementUseCase = taskManagementUseCase;
+    this.objectMapper = objectMapper;
+    this.taskListResponseCache = taskListResponseCache;
   }
 
   /**
@@ -73,31 +114,291 @@ public class TaskController {
     return new ResponseEntity<>(response, HttpStatus.CREATED);
   }
 
+  /**
+   * Acepta una nueva tarea para crearla en segundo plano.
+   * <p>
+   * Endpoint para altas con picos de carga. La tarea se valida y se encola para guardarla por
+   * lotes, y se devuelve su ID sin esperar a la base de datos. Si hay demasiadas tareas pendientes,
+   * se devuelve un error 503 y el cliente debe reintentar más tarde. Si la cola de escritura está
+   * deshabilitada ({@code app.ingest.enabled}), se devuelve un error 501.
+   * </p>
+   *
+   * @param createTaskRequest DTO con la información de la tarea a crear
+   * @return respuesta personalizada con el ID de la tarea aceptada
+   */
+  @PostMapping("/async")
+  @Operation(summary = "Accept a new task",
+      description = "Queues a new task to be written to the database in the background")
+  @ApiResponses({
+      @ApiResponse(responseCode = "202", description = "Task accepted"),
+      @ApiResponse(responseCode = "400", description = "Invalid request"),
+      @ApiResponse(responseCode = "501",
+          description = "Asynchronous task creation is disabled"),
+      @ApiResponse(responseCode = "503", description = "Too many pending tasks")
+  })
+  public ResponseEntity<CreateTaskResponse> createTaskAsync(
+      @Parameter(description = "DTO containing the information for creating the task")
+      @Valid @RequestBody CreateTaskRequest createTaskRequest) {
+    log.info("Request to create task asynchronously: {}", createTaskRequest);
+
+    CreateTaskResponse response = taskManagementUseCase.createTaskAsync(createTaskRequest);
+
+    log.info("Task accepted with ID: {}", response.getId());
+    return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+  }
+
+  /**
+   * Crea un lote de tareas.
+   * <p>
+   * Endpoint para importaciones masivas. Cada tarea se valida por separado y las tareas válidas se
+   * guardan aunque otras del lote sean inválidas. La respuesta incluye el resultado de cada tarea en
+   * el mismo orden que la solicitud.
+   * </p>
+   *
+   * @param createTaskRequests DTOs con la información de las tareas a crear
+   * @return respuesta personalizada con el resultado de cada tarea
+   */
+  @PostMapping("/batch")
+  @Operation(summary = "Create a batch of tasks",
+      description = "Validates each task and creates the valid ones using bulk inserts")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Result of each task of the batch"),
+      @ApiResponse(responseCode = "400", description = "Empty or too large batch")
+  })
+  public ResponseEntity<CreateTaskBatchResponse> createTasks(
+      @Parameter(description = "DTOs containing the information for creating the tasks")
+      @RequestBody List<CreateTaskRequest> createTaskRequests) {
+    log.info("Request to create batch of {} tasks",
+        createTaskRequests != null ? createTaskRequests.size() : 0);
+
+    CreateTaskBatchResponse response = taskManagementUseCase.createTasks(createTaskRequests);
+
+    log.info("Batch processed: {} created, {} failed", response.getCreated(),
+        response.getFailed());
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
   /**
    * Recupera todas las tareas.
    * <p>
-   * Endpoint para obtener el listado de todas las tareas existentes en la base de datos.
+   * Endpoint para obtener el listado de todas las tareas existentes en la base de datos. El listado
+   * se escribe desde {@link TaskListResponseCache} ya serializado, comprimido con gzip si el
+   * cliente lo acepta, y con una ETag que cambia cada vez que se crean tareas o vence alguna. La
+   * ETag se obtiene de la versión del listado antes de cargarlo: si la enviada en
+   * {@code If-None-Match} sigue vigente, se devuelve 304 sin cargar ni serializar el listado. Si la
+   * base de datos no está disponible, se devuelve el último listado conocido con la cabecera
+   * {@code Warning: 110}.
    * </p>
    *
-   * @return lista de DTOs con la información de todas las tareas
+   * @param webRequest     petición, para evaluar {@code If-None-Match}
+   * @param acceptEncoding cabecera {@code Accept-Encoding} de la petición
+   * @return JSON con la lista de todas las tareas, o {@code null} si no ha cambiado (304)
    */
   @GetMapping
   @Operation(summary = "Retrieve all tasks", description = "Fetches a list of all tasks")
-  @ApiResponse(responseCode = "200", description = "List of all tasks")
-  public ResponseEntity<List<GetTaskResponse>> getAllTasks() {
-    log.info("Fetching all tasks");
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "List of all tasks",
+          content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array = @ArraySchema(schema = @Schema(implementation = GetTaskResponse.class)))),
+      @ApiResponse(responseCode = "304", description = "The list has not changed"),
+      @ApiResponse(responseCode = "503", description = "The task database is unavailable")
+  })
+  public ResponseEntity<byte[]> getAllTasks(WebRequest webRequest,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+      String acceptEncoding) {
+    boolean gzip = taskListResponseCache.isGzipEnabled() && acceptsGzip(acceptEncoding);
+    EncodedTaskList tasks;
+    try {
+      TaskListVersion version = taskManagementUseCase.getTasksVersion();
+      if (webRequest.checkNotModified(taskListResponseCache.etagOf(version, gzip))) {
+        log.info("Task list not modified since version {}", version);
+        return null;
+      }
+      tasks = taskListResponseCache.get(version, () -> taskManagementUseCase.getAllTasks(version));
+    } catch (TaskRepositoryUnavailableException ex) {
+      tasks = taskListResponseCache.getLast(ex);
+    }
 
-    List<GetTaskResponse> tasks = taskManagementUseCase.getAllTasks();
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (tasks.isStale()) {
+      log.warn("Serving stale task list {}", tasks.getEtag());
+      response.header(HttpHeaders.WARNING, STALE_WARNING);
+    }
+    if (gzip) {
+      log.info("Fetched task list {} ({} gzip bytes)", tasks.getGzipEtag(),
+          tasks.getGzip().length);
+      return response.eTag(tasks.getGzipEtag())
+          .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+          .body(tasks.getGzip());
+    }
 
-    log.info("Fetched {} tasks", tasks.size());
+    log.info("Fetched task list {} ({} bytes)", tasks.getEtag(), tasks.getJson().length);
+    return response.eTag(tasks.getEtag()).body(tasks.getJson());
+  }
+
+  /**
+   * Recupera el resumen de todas las tareas.
+   * <p>
+   * Endpoint para los listados que solo necesitan el ID, el título, la fecha de vencimiento y el
+   * estado de cada tarea. Se selecciona con {@code view=summary}; sin el parámetro se devuelve el
+   * listado completo.
+   * </p>
+   *
+   * @return lista de DTOs con el resumen de todas las tareas
+   */
+  @GetMapping(params = "view=summary")
+  @Operation(summary = "Retrieve a summary of all tasks",
+      description = "Fetches the ID, title, due date and status of every task")
+  @ApiResponse(responseCode = "200", description = "Summary of all tasks")
+  public ResponseEntity<List<TaskSummaryResponse>> getTaskSummaries() {
+    log.info("Fetching task summaries");
+
+    List<TaskSummaryResponse> tasks = taskManagementUseCase.getTaskSummaries();
+
+    log.info("Fetched {} task summaries", tasks.size());
     return new ResponseEntity<>(tasks, HttpStatus.OK);
   }
 
+  /**
+   * Recupera las tareas filtradas por etiquetas.
+   * <p>
+   * Endpoint para obtener las tareas que tienen todas las etiquetas indicadas o, con
+   * {@code match=any}, al menos una de ellas. Las etiquetas se indican repitiendo el parámetro
+   * {@code tag}.
+   * </p>
+   *
+   * @param tags  etiquetas a buscar
+   * @param match {@code all} (por defecto) o {@code any}
+   * @return lista de DTOs con la información de las tareas
+   */
+  @GetMapping(params = "tag")
+  @Operation(summary = "Retrieve tasks by tag",
+      description = "Fetches the tasks that have all (or any) of the given tags")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "List of tasks with the tags"),
+      @ApiResponse(responseCode = "400", description = "Missing tags or invalid match")
+  })
+  public ResponseEntity<List<GetTaskResponse>> getTasksByTags(
+      @Parameter(description = "Tags to search for; repeat the parameter for several tags")
+      @RequestParam("tag") List<String> tags,
+      @Parameter(description = "How to combine the tags: all or any (default all)")
+      @RequestParam(required = false) String match) {
+    log.info("Fetching tasks with tags {} matching {}", tags, match);
+
+    List<GetTaskResponse> tasks = taskManagementUseCase.getTasksByTags(tags, match);
+
+    log.info("Fetched {} tasks by tag", tasks.size());
+    return new ResponseEntity<>(tasks, HttpStatus.OK);
+  }
+
+  /**
+   * Exporta todas las tareas en formato NDJSON.
+   * <p>
+   * Endpoint para volcados completos de la colección. Cada tarea se serializa en una línea y se
+   * escribe en la respuesta a medida que se lee de la base de datos, por lo que el consumo de
+   * memoria no depende del número de tareas. La primera tarea se envía en cuanto está disponible
+   * y, a partir de ahí, la salida se vacía cada {@value #EXPORT_FLUSH_INTERVAL} tareas. Es la única
+   * petición asíncrona sin tiempo máximo (véase {@code WebConfig}).
+   * </p>
+   *
+   * @return cuerpo de respuesta que escribe las tareas en streaming
+   */
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Export all tasks",
+      description = "Streams every task as newline-delimited JSON")
+  @ApiResponse(responseCode = "200", description = "Stream of all tasks")
+  public ResponseEntity<StreamingResponseBody> exportTasks() {
+    log.info("Exporting all tasks");
+
+    StreamingResponseBody body = outputStream -> {
+      ObjectWriter writer = objectMapper.writerFor(GetTaskResponse.class)
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+      long exported = 0;
+
+      try (Stream<GetTaskResponse> tasks = taskManagementUseCase.streamAllTasks();
+          JsonGenerator generator = objectMapper.createGenerator(outputStream)
+              .setRootValueSeparator(null)) {
+        for (Iterator<GetTaskResponse> iterator = tasks.iterator(); iterator.hasNext(); ) {
+          writer.writeValue(generator, iterator.next());
+          generator.writeRaw('\n');
+
+          if (exported++ % EXPORT_FLUSH_INTERVAL == 0) {
+            generator.flush();
+          }
+        }
+      }
+
+      log.info("Exported {} tasks", exported);
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
+  /**
+   * Recupera una página del listado de tareas.
+   * <p>
+   * Endpoint para recorrer el listado de tareas por páginas. La respuesta incluye un token opaco
+   * que se debe enviar en {@code cursor} para obtener la página siguiente; en la última página el
+   * token no está presente. Las tareas se pueden filtrar por estado y por fecha de vencimiento; los
+   * filtros deben repetirse en cada página.
+   * </p>
+   *
+   * @param sort    campo de ordenación: {@code id} o {@code dueDate}
+   * @param cursor  token de continuación de la página anterior
+   * @param limit   número máximo de tareas de la página
+   * @param status  estado de las tareas: {@code Active} o {@code Expired}
+   * @param dueFrom fecha de vencimiento mínima (incluida)
+   * @param dueTo   fecha de vencimiento máxima (excluida)
+   * @return DTO con las tareas de la página y el token de la página siguiente
+   */
+  @GetMapping("/page")
+  @Operation(summary = "Retrieve a page of tasks",
+      description = "Fetches tasks using keyset pagination with an opaque continuation token, "
+          + "optionally filtered by status and due date range")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Page of tasks"),
+      @ApiResponse(responseCode = "400", description = "Invalid sort, cursor, limit or filter")
+  })
+  public ResponseEntity<TaskPageResponse> getTasksPage(
+      @Parameter(description = "Sort field: id or dueDate")
+      @RequestParam(required = false) String sort,
+      @Parameter(description = "Continuation token returned by the previous page")
+      @RequestParam(required = false) String cursor,
+      @Parameter(description = "Maximum number of tasks per page (default 50, max 500)")
+      @RequestParam(required = false) Integer limit,
+      @Parameter(description = "Status of the tasks: Active or Expired")
+      @RequestParam(required = false) String status,
+      @Parameter(description = "Minimum due date (inclusive) in format dd/MM/yyyy HH:mm:ss")
+      @RequestParam(required = false) @DateTimeFormat(pattern = DATE_PATTERN)
+      LocalDateTime dueFrom,
+      @Parameter(description = "Maximum due date (exclusive) in format dd/MM/yyyy HH:mm:ss")
+      @RequestParam(required = false) @DateTimeFormat(pattern = DATE_PATTERN)
+      LocalDateTime dueTo) {
+    log.info("Fetching page of tasks sorted by {} with limit {}", sort, limit);
+
+    TaskPageResponse page = taskManagementUseCase.getTasksPage(TaskPageRequest.builder()
+        .sort(sort)
+        .cursor(cursor)
+        .limit(limit)
+        .status(status)
+        .dueFrom(dueFrom)
+        .dueTo(dueTo)
+        .build());
+
+    log.info("Fetched page with {} tasks", page.getTasks().size());
+    return new ResponseEntity<>(page, HttpStatus.OK);
+  }
+
   /**
    * Recupera una tarea por su ID.
    * <p>
    * Endpoint para la búsqueda de una tarea por su ID. Si la tarea no se encuentra, se devuelve un
-   * error 404.
+   * error 404. Si la base de datos no está disponible, se devuelve el último valor conocido de la
+   * tarea con la cabecera {@code Warning: 110}.
    * </p>
    *
    * @param id ID de la tarea a obtener
@@ -109,7 +410,8 @@ public class TaskController {
       description = "Fetches a specific task by its ID")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Task found"),
-      @ApiResponse(responseCode = "404", description = "Task not found")
+      @ApiResponse(responseCode = "404", description = "Task not found"),
+      @ApiResponse(responseCode = "503", description = "The task database is unavailable")
   })
   public ResponseEntity<GetTaskResponse> getTaskById(
       @Parameter(description = "ID of the task to retrieve")
@@ -118,8 +420,56 @@ public class TaskController {
 
     GetTaskResponse taskResponse = taskManagementUseCase.getTaskById(id);
 
+    if (taskResponse.isStale()) {
+      log.warn("Serving stale task with ID: {}", id);
+      return ResponseEntity.ok().header(HttpHeaders.WARNING, STALE_WARNING).body(taskResponse);
+    }
+
     log.info("Task found with ID: {}", id);
     return new ResponseEntity<>(taskResponse, HttpStatus.OK);
   }
 
+  /**
+   * Recupera varias tareas por su ID.
+   * <p>
+   * Endpoint para los clientes que ya tienen una lista de IDs, que evita una petición por tarea.
+   * Los IDs se envían en el cuerpo para no limitar su número por la longitud de la URL. Los IDs
+   * que no corresponden a ninguna tarea se devuelven en {@code missingIds} sin error.
+   * </p>
+   *
+   * @param ids IDs de las tareas a obtener
+   * @return DTO con las tareas encontradas y los IDs no encontrados
+   */
+  @PostMapping("/lookup")
+  @Operation(summary = "Retrieve several tasks by ID",
+      description = "Fetches the tasks with the given IDs and reports the IDs that were not found")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Tasks found and missing IDs"),
+      @ApiResponse(responseCode = "400", description = "Empty or too large list of IDs")
+  })
+  public ResponseEntity<TaskLookupResponse> getTasksByIds(
+      @Parameter(description = "IDs of the tasks to retrieve")
+      @RequestBody List<String> ids) {
+    log.info("Request to fetch {} tasks by ID", ids != null ? ids.size() : 0);
+
+    TaskLookupResponse response = taskManagementUseCase.getTasksByIds(ids);
+
+    log.info("Fetched {} tasks by ID, {} missing", response.getTasks().size(),
+        response.getMissingIds().size());
+    return new ResponseEntity<>(response, HttpStatus.OK);
+  }
+
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (GZIP_ENCODING.equalsIgnoreCase(parts[0].trim())
+          && (parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?"))) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
\ No newline at end of file
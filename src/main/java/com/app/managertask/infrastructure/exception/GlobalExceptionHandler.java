@@ -3,6 +3,7 @@ package com.app.managertask.infrastructure.exception;
 import java.time.DateTimeException;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -11,6 +12,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * Manejador global de excepciones para la aplicación.
@@ -21,6 +24,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  private static final String INGEST_RETRY_AFTER_SECONDS = "1";
+  private static final String REPOSITORY_RETRY_AFTER_SECONDS = "5";
+
   /**
    * Maneja las excepciones de validación para parámetros de solicitud inválidos.
    *
@@ -44,6 +50,24 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
   }
 
+  /**
+   * Maneja las excepciones de validación de los controladores reactivos.
+   *
+   * @param ex Instancia de WebExchangeBindException.
+   * @return ResponseEntity que contiene los errores de validación con el estado BAD_REQUEST.
+   */
+  @ExceptionHandler(WebExchangeBindException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<Map<String, String>> handleWebExchangeBindException(
+      WebExchangeBindException ex) {
+
+    Map<String, String> errors = new HashMap<>();
+    ex.getFieldErrors()
+        .forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+
+    return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+  }
+
   /**
    * Maneja las excepciones para mensajes de solicitud inválidos.
    *
@@ -79,6 +103,116 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
   }
 
+  /**
+   * Maneja las excepciones de parámetros de consulta de tareas inválidos.
+   *
+   * @param ex Instancia de InvalidTaskQueryException.
+   * @return ResponseEntity que contiene el mensaje de error con el estado BAD_REQUEST.
+   */
+  @ExceptionHandler(InvalidTaskQueryException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<Map<String, String>> handleInvalidTaskQueryException(
+      InvalidTaskQueryException ex) {
+
+    Map<String, String> errors = new HashMap<>();
+    errors.put("error", ex.getMessage());
+
+    return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Maneja las excepciones de lotes de creación de tareas inválidos.
+   *
+   * @param ex Instancia de InvalidTaskBatchException.
+   * @return ResponseEntity que contiene el mensaje de error con el estado BAD_REQUEST.
+   */
+  @ExceptionHandler(InvalidTaskBatchException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<Map<String, String>> handleInvalidTaskBatchException(
+      InvalidTaskBatchException ex) {
+
+    Map<String, String> errors = new HashMap<>();
+    errors.put("error", ex.getMessage());
+
+    return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Maneja las excepciones de tareas rechazadas por la cola de escritura. Se indica al cliente
+   * cuándo puede reintentar.
+   *
+   * @param ex Instancia de TaskIngestRejectedException.
+   * @return ResponseEntity que contiene el mensaje de error con el estado SERVICE_UNAVAILABLE.
+   */
+  @ExceptionHandler(TaskIngestRejectedException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public ResponseEntity<Map<String, String>> handleTaskIngestRejectedException(
+      TaskIngestRejectedException ex) {
+
+    Map<String, String> errors = new HashMap<>();
+    errors.put("error", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, INGEST_RETRY_AFTER_SECONDS)
+        .body(errors);
+  }
+
+  /**
+   * Maneja las excepciones de altas asíncronas con la cola de escritura deshabilitada.
+   *
+   * @param ex Instancia de TaskIngestDisabledException.
+   * @return ResponseEntity que contiene el mensaje de error con el estado NOT_IMPLEMENTED.
+   */
+  @ExceptionHandler(TaskIngestDisabledException.class)
+  @ResponseStatus(HttpStatus.NOT_IMPLEMENTED)
+  public ResponseEntity<Map<String, String>> handleTaskIngestDisabledException(
+      TaskIngestDisabledException ex) {
+
+    Map<String, String> errors = new HashMap<>();
+    errors.put("error", ex.getMessage());
+
+    return new ResponseEntity<>(errors, HttpStatus.NOT_IMPLEMENTED);
+  }
+
+  /**
+   * Maneja las excepciones de base de datos no disponible, ya sea porque el circuit breaker está
+   * abierto, porque hay demasiadas llamadas concurrentes o porque la operación superó su tiempo
+   * máximo. Se indica al cliente cuándo puede reintentar.
+   *
+   * @param ex Instancia de TaskRepositoryUnavailableException.
+   * @return ResponseEntity que contiene el mensaje de error con el estado SERVICE_UNAVAILABLE.
+   */
+  @ExceptionHandler(TaskRepositoryUnavailableException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public ResponseEntity<Map<String, String>> handleTaskRepositoryUnavailableException(
+      TaskRepositoryUnavailableException ex) {
+
+    Map<String, String> errors = new HashMap<>();
+    errors.put("error", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, REPOSITORY_RETRY_AFTER_SECONDS)
+        .body(errors);
+  }
+
+  /**
+   * Maneja las excepciones de parámetros de solicitud que no se pueden convertir a su tipo, como
+   * una fecha con un formato incorrecto.
+   *
+   * @param ex Instancia de MethodArgumentTypeMismatchException.
+   * @return ResponseEntity que contiene el error del parámetro con el estado BAD_REQUEST.
+   */
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<Map<String, String>> handleMethodArgumentTypeMismatchException(
+      MethodArgumentTypeMismatchException ex) {
+
+    Map<String, String> errors = new HashMap<>();
+    errors.put(ex.getName(), "Invalid value: " + ex.getValue());
+
+    return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+  }
+
   /**
    * Maneja todas las demás excepciones no manejadas por los métodos anteriores.
    *
@@ -0,0 +1,12 @@
+package com.app.managertask.infrastructure.exception;
+
+/**
+ * Excepción para gestionar los lotes de creación de tareas que no se pueden procesar, como un lote
+ * vacío o con más tareas de las permitidas.
+ */
+public class InvalidTaskBatchException extends RuntimeException {
+
+  public InvalidTaskBatchException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,12 @@
+package com.app.managertask.infrastructure.exception;
+
+/**
+ * Excepción para gestionar los parámetros de consulta de tareas que no son válidos, como un token
+ * de continuación manipulado o un tamaño de página fuera de rango.
+ */
+public class InvalidTaskQueryException extends RuntimeException {
+
+  public InvalidTaskQueryException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,11 @@
+package com.app.managertask.infrastructure.exception;
+
+/**
+ * Excepción para gestionar las altas asíncronas cuando la cola de escritura está deshabilitada.
+ */
+public class TaskIngestDisabledException extends RuntimeException {
+
+  public TaskIngestDisabledException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,12 @@
+package com.app.managertask.infrastructure.exception;
+
+/**
+ * Excepción para gestionar las tareas que no se pueden encolar para su creación asíncrona porque
+ * la cola de escritura está llena o detenida.
+ */
+public class TaskIngestRejectedException extends RuntimeException {
+
+  public TaskIngestRejectedException(String message) {
+    super(message);
+  }
+}
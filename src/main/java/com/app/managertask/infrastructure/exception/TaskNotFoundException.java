@@ -2,10 +2,14 @@ package com.app.managertask.infrastructure.exception;
 
 /**
  * Excepción para gestionar el proceso de cuando no se encuentra una tarea con el ID solicitado.
+ * <p>
+ * Es un resultado esperado de la búsqueda y no un error, por lo que no captura la traza de la
+ * pila: así una ráfaga de búsquedas de IDs inexistentes no paga el coste de construirla.
+ * </p>
  */
 public class TaskNotFoundException extends RuntimeException {
 
   public TaskNotFoundException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.app.managertask.infrastructure.exception;
+
+/**
+ * Excepción para gestionar las operaciones con la base de datos que no se han podido completar
+ * porque no responde a tiempo, o que se han rechazado sin intentarlo porque el circuit breaker
+ * está abierto o se ha alcanzado el máximo de llamadas concurrentes.
+ */
+public class TaskRepositoryUnavailableException extends RuntimeException {
+
+  public TaskRepositoryUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,58 @@
+package com.app.managertask.infrastructure.metrics;
+
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.infrastructure.cache.CacheEntryCounters;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas de las cachés que no publica Spring Boot.
+ * <p>
+ * Spring Boot registra por cada caché JCache las lecturas con su resultado ({@code cache.gets}
+ * con {@code result=hit|miss}, de las que se obtiene la tasa de aciertos), las escrituras, las
+ * eliminaciones y los desalojos. Este componente añade el número de entradas
+ * ({@value #CACHE_SIZE}) y las cargas desde la base de datos de {@link TaskCache}, separando las
+ * ejecutadas ({@value #CACHE_LOADS}) de las agrupadas con otra carga en curso
+ * ({@value #CACHE_COALESCED_LOADS}).
+ * </p>
+ */
+@Component
+@Profile("!reactive")
+public class TaskCacheMetrics implements MeterBinder {
+
+  static final String CACHE_SIZE = "cache.size";
+  static final String CACHE_LOADS = "cache.loads";
+  static final String CACHE_COALESCED_LOADS = "cache.loads.coalesced";
+  static final String CACHE_TAG = "cache";
+
+  private final CacheEntryCounters cacheEntryCounters;
+  private final TaskCache taskCache;
+
+  public TaskCacheMetrics(CacheEntryCounters cacheEntryCounters, TaskCache taskCache) {
+    this.cacheEntryCounters = cacheEntryCounters;
+    this.taskCache = taskCache;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (String cacheName : cacheEntryCounters.getCacheNames()) {
+      Gauge.builder(CACHE_SIZE, cacheEntryCounters, counters -> counters.size(cacheName))
+          .tag(CACHE_TAG, cacheName)
+          .description("Number of entries in the cache")
+          .register(registry);
+      FunctionCounter.builder(CACHE_LOADS, taskCache, cache -> cache.getLoads(cacheName))
+          .tag(CACHE_TAG, cacheName)
+          .description("Cache misses loaded from the database")
+          .register(registry);
+      FunctionCounter.builder(CACHE_COALESCED_LOADS, taskCache,
+              cache -> cache.getCoalescedLoads(cacheName))
+          .tag(CACHE_TAG, cacheName)
+          .description("Cache misses that reused a load already in progress")
+          .register(registry);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.app.managertask.infrastructure.metrics;
+
+import com.app.managertask.application.expiry.ExpiredTask;
+import com.app.managertask.application.expiry.TaskExpiryListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas de los vencimientos de tareas notificados por el planificador de vencimientos: el
+ * número de tareas vencidas ({@value #TASKS_EXPIRED}) y el retraso entre la fecha de vencimiento
+ * y la notificación ({@value #EXPIRY_LAG}), que no debería superar un tick salvo al recuperar
+ * vencimientos tras un fallo de carga.
+ */
+@Component
+@Profile("!reactive")
+public class TaskExpiryMetrics implements TaskExpiryListener {
+
+  static final String TASKS_EXPIRED = "task.expired";
+  static final String EXPIRY_LAG = "task.expiry.lag";
+
+  private final Counter expired;
+  private final Timer lag;
+
+  public TaskExpiryMetrics(MeterRegistry meterRegistry) {
+    this.expired = Counter.builder(TASKS_EXPIRED)
+        .description("Tasks whose due date has passed")
+        .register(meterRegistry);
+    this.lag = Timer.builder(EXPIRY_LAG)
+        .description("Delay between the due date of a task and its expiry notification")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void onTasksExpired(List<ExpiredTask> expiredTasks) {
+    LocalDateTime now = LocalDateTime.now();
+    expired.increment(expiredTasks.size());
+    for (ExpiredTask expiredTask : expiredTasks) {
+      lag.record(Duration.between(expiredTask.getDueDate(), now));
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.app.managertask.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Registra el tamaño en bytes de las respuestas de {@code GET /api/tasks}.
+ * <p>
+ * El listado se serializa directamente sobre la respuesta sin cabecera {@code Content-Length},
+ * por lo que el tamaño se obtiene contando los bytes escritos, sin copiar ni retener el cuerpo.
+ * Las respuestas se distinguen por la etiqueta {@value #QUERY_TAG}: {@code all} para el listado
+ * completo, {@code summary} para el resumen y {@code tag} para el filtrado por etiquetas.
+ * </p>
+ */
+@Component
+@Profile("!reactive")
+public class TaskListResponseSizeFilter extends OncePerRequestFilter {
+
+  static final String RESPONSE_SIZE = "task.list.response.size";
+  static final String QUERY_TAG = "query";
+
+  private static final String TASK_LIST_PATH = "/api/tasks";
+
+  private final DistributionSummary allTasksSizes;
+  private final DistributionSummary summarySizes;
+  private final DistributionSummary tagFilteredSizes;
+
+  public TaskListResponseSizeFilter(MeterRegistry meterRegistry) {
+    this.allTasksSizes = responseSize(meterRegistry, "all");
+    this.summarySizes = responseSize(meterRegistry, "summary");
+    this.tagFilteredSizes = responseSize(meterRegistry, "tag");
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !HttpMethod.GET.matches(request.getMethod()) || !TASK_LIST_PATH.equals(path);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    CountingResponse countingResponse = new CountingResponse(response);
+    try {
+      filterChain.doFilter(request, countingResponse);
+    } finally {
+      countingResponse.flushWriter();
+      sizesOf(request).record(countingResponse.getBytesWritten());
+    }
+  }
+
+  private DistributionSummary sizesOf(HttpServletRequest request) {
+    if (request.getParameter("tag") != null) {
+      return tagFilteredSizes;
+    }
+    return "summary".equals(request.getParameter("view")) ? summarySizes : allTasksSizes;
+  }
+
+  private static DistributionSummary responseSize(MeterRegistry meterRegistry, String query) {
+    return DistributionSummary.builder(RESPONSE_SIZE)
+        .baseUnit("bytes")
+        .tag(QUERY_TAG, query)
+        .description("Size of the GET /api/tasks response body")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  /**
+   * Respuesta que cuenta los bytes escritos en el cuerpo.
+   */
+  private static final class CountingResponse extends HttpServletResponseWrapper {
+
+    private CountingOutputStream outputStream;
+    private PrintWriter writer;
+
+    private CountingResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (outputStream == null) {
+        outputStream = new CountingOutputStream(super.getOutputStream());
+      }
+      return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      if (writer == null) {
+        writer = new PrintWriter(new OutputStreamWriter(getOutputStream(),
+            getCharacterEncoding()));
+      }
+      return writer;
+    }
+
+    private void flushWriter() {
+      if (writer != null) {
+        writer.flush();
+      }
+    }
+
+    private long getBytesWritten() {
+      return outputStream != null ? outputStream.count : 0;
+    }
+  }
+
+  private static final class CountingOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+    private long count;
+
+    private CountingOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      delegate.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      delegate.write(b, off, len);
+      count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      delegate.setWriteListener(writeListener);
+    }
+  }
+}
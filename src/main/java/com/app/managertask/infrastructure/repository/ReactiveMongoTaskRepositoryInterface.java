@@ -0,0 +1,10 @@
+package com.app.managertask.infrastructure.repository;
+
+import com.app.managertask.domain.model.Task;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveMongoTaskRepositoryInterface extends ReactiveMongoRepository<Task, String> {
+
+}
@@ -0,0 +1,40 @@
+package com.app.managertask;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTests {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  void prometheusEndpointExposesUseCaseAndCacheMetrics() throws Exception {
+    mockMvc.perform(get("/api/tasks/not-an-id"))
+        .andExpect(status().isNotFound());
+
+    mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString(
+            "task_use_case_seconds_count{application=\"gestor-tareas\",class=\"com.app.managertask"
+                + ".application.service.TaskService\",exception=\"TaskNotFoundException\"")))
+        .andExpect(content().string(containsString(
+            "task_use_case_errors_total{application=\"gestor-tareas\",class=\"com.app.managertask"
+                + ".application.service.TaskService\",exception=\"TaskNotFoundException\"")))
+        .andExpect(content().string(containsString("cache_gets_total")))
+        .andExpect(content().string(containsString("cache_size{")))
+        .andExpect(content().string(containsString("task_list_response_size_bytes")));
+  }
+}
@@ -0,0 +1,51 @@
+package com.app.managertask;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.cache.TaskCacheWarmer;
+import com.app.managertask.application.cache.TaskIdFilterLoader;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.application.ingest.TaskIngestQueue;
+import com.app.managertask.domain.port.input.TaskManagementUseCase;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.adapter.repository.TaskIndexManager;
+import com.app.managertask.infrastructure.admission.AdmissionControlFilter;
+import com.app.managertask.infrastructure.controller.ReactiveTaskController;
+import com.app.managertask.infrastructure.controller.TaskController;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveProfileTests {
+
+  @Autowired
+  private ApplicationContext applicationContext;
+
+  @Test
+  void contextLoadsWithReactiveController() {
+    assertTrue(applicationContext.getBeanNamesForType(ReactiveTaskController.class).length == 1);
+    assertFalse(applicationContext.getBeanNamesForType(TaskController.class).length > 0);
+  }
+
+  @Test
+  void contextDoesNotStartTheBlockingStack() {
+    List<Class<?>> blockingBeans = List.of(TaskManagementUseCase.class,
+        TaskRepositoryPort.class, TaskCache.class, CacheManager.class, TaskIngestQueue.class,
+        TaskIdFilterLoader.class, TaskExpiryScheduler.class, TaskCacheWarmer.class,
+        TaskIndexManager.class, AdmissionControlFilter.class);
+
+    assertEquals(List.of(), blockingBeans.stream()
+        .filter(type -> applicationContext.getBeanNamesForType(type).length > 0)
+        .map(Class::getSimpleName)
+        .toList());
+  }
+}
@@ -0,0 +1,87 @@
+package com.app.managertask.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.stream.IntStream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class BloomTaskIdFilterTest {
+
+  private static final int EXPECTED_IDS = 10_000;
+  private static final Instant LOADED_UNTIL = Instant.now().minus(Duration.ofMinutes(1));
+
+  @Test
+  void testMightContain_AcceptsEverythingUntilLoaded() {
+    BloomTaskIdFilter filter = new BloomTaskIdFilter(EXPECTED_IDS, 0.01);
+
+    assertTrue(filter.mightContain(oldId()));
+  }
+
+  @Test
+  void testMightContain_NoFalseNegatives() {
+    BloomTaskIdFilter filter = new BloomTaskIdFilter(EXPECTED_IDS, 0.01);
+    String[] ids = IntStream.range(0, EXPECTED_IDS)
+        .mapToObj(i -> oldId())
+        .toArray(String[]::new);
+
+    for (String id : ids) {
+      filter.add(id);
+    }
+    filter.markLoaded(LOADED_UNTIL);
+
+    for (String id : ids) {
+      assertTrue(filter.mightContain(id));
+    }
+  }
+
+  @Test
+  void testMightContain_FalsePositiveRateIsBounded() {
+    BloomTaskIdFilter filter = new BloomTaskIdFilter(EXPECTED_IDS, 0.01);
+    IntStream.range(0, EXPECTED_IDS).forEach(i -> filter.add(oldId()));
+    filter.markLoaded(LOADED_UNTIL);
+
+    long falsePositives = IntStream.range(0, EXPECTED_IDS)
+        .filter(i -> filter.mightContain(oldId()))
+        .count();
+
+    assertTrue(falsePositives < EXPECTED_IDS * 0.03, "False positives: " + falsePositives);
+  }
+
+  @Test
+  void testMightContain_AcceptsIdsCreatedAfterLoad() {
+    BloomTaskIdFilter filter = new BloomTaskIdFilter(EXPECTED_IDS, 0.01);
+    filter.markLoaded(LOADED_UNTIL);
+
+    assertFalse(filter.mightContain(oldId()));
+    assertTrue(filter.mightContain(new ObjectId().toHexString()),
+        "Tasks created elsewhere after the load should reach the database");
+    assertTrue(filter.mightContain("not-an-object-id"));
+  }
+
+  @Test
+  void testMarkLoaded_NeverMovesBackwards() {
+    BloomTaskIdFilter filter = new BloomTaskIdFilter(EXPECTED_IDS, 0.01);
+    String id = new ObjectId(Date.from(LOADED_UNTIL.minus(Duration.ofHours(1)))).toHexString();
+
+    filter.markLoaded(LOADED_UNTIL);
+    filter.markLoaded(LOADED_UNTIL.minus(Duration.ofDays(2)));
+
+    assertFalse(filter.mightContain(id));
+  }
+
+  @Test
+  void testConstructor_InvalidSizing() {
+    assertThrows(IllegalArgumentException.class, () -> new BloomTaskIdFilter(0, 0.01));
+    assertThrows(IllegalArgumentException.class, () -> new BloomTaskIdFilter(10, 1));
+  }
+
+  private static String oldId() {
+    return new ObjectId(Date.from(LOADED_UNTIL.minus(Duration.ofDays(1)))).toHexString();
+  }
+}
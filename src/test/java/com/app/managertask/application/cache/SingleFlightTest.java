@@ -0,0 +1,84 @@
+package com.app.managertask.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+  @Test
+  void testLoad_ConcurrentCallersShareOneLoad() throws Exception {
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch loaderStarted = new CountDownLatch(1);
+    CountDownLatch releaseLoader = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      results.add(executor.submit(() -> singleFlight.load("key", () -> {
+        executions.incrementAndGet();
+        loaderStarted.countDown();
+        awaitQuietly(releaseLoader);
+        return "value";
+      })));
+      assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+      for (int i = 1; i < CALLERS; i++) {
+        results.add(executor.submit(() -> singleFlight.load("key", () -> {
+          executions.incrementAndGet();
+          return "other";
+        })));
+      }
+      while (singleFlight.getCoalescedLoads() < CALLERS - 1) {
+        Thread.onSpinWait();
+      }
+      releaseLoader.countDown();
+
+      for (Future<String> result : results) {
+        assertEquals("value", result.get(5, TimeUnit.SECONDS));
+      }
+      assertEquals(1, executions.get());
+      assertEquals(1, singleFlight.getLoads());
+      assertEquals(CALLERS - 1, singleFlight.getCoalescedLoads());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testLoad_PropagatesFailureAndAllowsRetry() {
+    IllegalStateException failure = new IllegalStateException("Database unavailable");
+
+    IllegalStateException thrown = assertThrows(IllegalStateException.class,
+        () -> singleFlight.load("key", () -> {
+          throw failure;
+        }));
+
+    assertSame(failure, thrown);
+    assertEquals("value", singleFlight.load("key", () -> "value"));
+    assertEquals(2, singleFlight.getLoads());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.app.managertask.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TaskAccessCounterTest {
+
+  @Test
+  void testHottest_ReturnsMostAccessedIdsFirst() {
+    TaskAccessCounter counter = new TaskAccessCounter(10);
+    record(counter, "a", 1);
+    record(counter, "b", 5);
+    record(counter, "c", 3);
+
+    assertEquals(List.of("b", "c"), counter.hottest(2));
+  }
+
+  @Test
+  void testHottest_HalvesCountsSoRecentAccessesWin() {
+    TaskAccessCounter counter = new TaskAccessCounter(10);
+    record(counter, "old", 8);
+    record(counter, "once", 1);
+
+    assertEquals(List.of("old", "once"), counter.hottest(10));
+    assertEquals(1, counter.size(), "IDs whose count reaches zero should be dropped");
+
+    record(counter, "new", 6);
+
+    assertEquals(List.of("new", "old"), counter.hottest(10));
+  }
+
+  @Test
+  void testRecord_IgnoresNewIdsWhenFull() {
+    TaskAccessCounter counter = new TaskAccessCounter(2);
+    record(counter, "a", 2);
+    record(counter, "b", 2);
+    record(counter, "c", 5);
+
+    assertEquals(2, counter.size());
+    assertEquals(List.of("a", "b"), counter.hottest(10).stream().sorted().toList());
+  }
+
+  @Test
+  void testRecord_DisabledWithZeroCapacity() {
+    TaskAccessCounter counter = new TaskAccessCounter(0);
+    record(counter, "a", 3);
+
+    assertEquals(List.of(), counter.hottest(10));
+  }
+
+  private static void record(TaskAccessCounter counter, String id, int times) {
+    for (int i = 0; i < times; i++) {
+      counter.record(id);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.app.managertask.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.TaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCacheWarmerTest {
+
+  @Mock
+  private TaskRepositoryPort taskRepositoryPort;
+
+  @TempDir
+  private Path directory;
+
+  private Path snapshotFile;
+
+  private TaskAccessCounter accessCounter;
+
+  private CacheManager cacheManager;
+
+  private TaskCache taskCache;
+
+  @BeforeEach
+  void setUp() {
+    snapshotFile = directory.resolve("snapshots").resolve("hot-task-ids");
+    accessCounter = new TaskAccessCounter(100);
+    cacheManager = new ConcurrentMapCacheManager(TaskCache.TASKS_CACHE, TaskCache.TASK_CACHE,
+        TaskCache.MISSING_TASK_CACHE, TaskCache.STALE_TASK_CACHE);
+    taskCache = new TaskCache(cacheManager, new NoOpTaskIdFilter(), accessCounter);
+  }
+
+  @Test
+  void testSnapshot_WritesHottestIdsFirst() throws IOException {
+    accessCounter.record("2");
+    accessCounter.record("1");
+    accessCounter.record("1");
+
+    warmer(Runnable::run, 10, 1, Duration.ofSeconds(5)).snapshot();
+
+    assertEquals(List.of("1", "2"), Files.readAllLines(snapshotFile));
+  }
+
+  @Test
+  void testSnapshot_KeepsPreviousSnapshotWithoutAccesses() throws IOException {
+    Files.createDirectories(snapshotFile.getParent());
+    Files.write(snapshotFile, List.of("1"));
+
+    warmer(Runnable::run, 10, 1, Duration.ofSeconds(5)).snapshot();
+
+    assertEquals(List.of("1"), Files.readAllLines(snapshotFile));
+  }
+
+  @Test
+  void testWarmUp_LoadsSnapshotInBatches() throws IOException {
+    Files.createDirectories(snapshotFile.getParent());
+    Files.write(snapshotFile, List.of("1", "2", "3", ""));
+    when(taskRepositoryPort.findAllById(List.of("1", "2")))
+        .thenReturn(List.of(task("1"), task("2")));
+    when(taskRepositoryPort.findAllById(List.of("3"))).thenReturn(List.of());
+
+    int warmed = warmer(Runnable::run, 2, 2, Duration.ofSeconds(5)).warmUp();
+
+    assertEquals(2, warmed);
+    assertNotNull(cacheManager.getCache(TaskCache.TASK_CACHE).get("1", GetTaskResponse.class));
+    assertNotNull(cacheManager.getCache(TaskCache.TASK_CACHE).get("2", GetTaskResponse.class));
+    assertEquals(List.of("1", "2"), accessCounter.hottest(10).stream().sorted().toList(),
+        "Warmed tasks should count as accessed so the next snapshot keeps them");
+    verify(taskRepositoryPort, never()).findAll();
+  }
+
+  @Test
+  void testWarmUp_WithoutSnapshotStartsCold() {
+    assertEquals(0, warmer(Runnable::run, 10, 1, Duration.ofSeconds(5)).warmUp());
+
+    verifyNoInteractions(taskRepositoryPort);
+  }
+
+  @Test
+  void testWarmUp_StopsAfterFailedQuery() throws IOException {
+    Files.createDirectories(snapshotFile.getParent());
+    Files.write(snapshotFile, List.of("1", "2", "3"));
+    when(taskRepositoryPort.findAllById(any()))
+        .thenThrow(new IllegalStateException("Database unavailable"));
+
+    assertEquals(0, warmer(Runnable::run, 1, 1, Duration.ofSeconds(5)).warmUp());
+
+    verify(taskRepositoryPort, times(1)).findAllById(any());
+  }
+
+  @Test
+  void testWarmUp_GivesUpAfterTimeBudget() throws IOException {
+    Files.createDirectories(snapshotFile.getParent());
+    Files.write(snapshotFile, List.of("1"));
+
+    long startedAt = System.nanoTime();
+    int warmed = warmer(runnable -> { }, 10, 1, Duration.ofMillis(100)).warmUp();
+
+    assertEquals(0, warmed);
+    assertTrue(System.nanoTime() - startedAt < Duration.ofSeconds(5).toNanos());
+  }
+
+  private TaskCacheWarmer warmer(TaskExecutor executor, int batchSize, int concurrency,
+      Duration timeBudget) {
+    return new TaskCacheWarmer(taskCache, taskRepositoryPort, accessCounter, executor, true,
+        snapshotFile, Duration.ofMinutes(1), 100, batchSize, concurrency, timeBudget, false);
+  }
+
+  private static Task task(String id) {
+    return Task.builder().id(id).title("Task " + id).build();
+  }
+}
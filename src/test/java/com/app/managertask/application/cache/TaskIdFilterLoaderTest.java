@@ -0,0 +1,77 @@
+package com.app.managertask.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIdFilterLoaderTest {
+
+  @Mock
+  private TaskRepositoryPort taskRepositoryPort;
+
+  private BloomTaskIdFilter filter;
+
+  private TaskIdFilterLoader loader;
+
+  @BeforeEach
+  void setUp() {
+    filter = new BloomTaskIdFilter(1000, 0.01);
+    loader = new TaskIdFilterLoader(taskRepositoryPort, filter, Duration.ofMinutes(1));
+  }
+
+  @Test
+  void testLoad_FullLoadThenOnlyNewIds() {
+    String existing = idCreated(Duration.ofHours(2));
+    String createdElsewhere = idCreated(Duration.ofHours(1));
+    when(taskRepositoryPort.streamAllIds()).thenReturn(Stream.of(existing));
+
+    loader.load();
+
+    assertTrue(filter.mightContain(existing));
+    assertFalse(filter.mightContain(idCreated(Duration.ofHours(2))));
+
+    when(taskRepositoryPort.streamIdsCreatedSince(any()))
+        .thenReturn(Stream.of(createdElsewhere));
+
+    loader.load();
+
+    ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+    verify(taskRepositoryPort).streamIdsCreatedSince(since.capture());
+    assertTrue(since.getValue().isBefore(
+        Instant.now().minusSeconds(TaskIdFilterLoader.CLOCK_SKEW_SECONDS - 1)),
+        "Incremental loads should overlap the previous one by the clock skew margin");
+    assertTrue(filter.mightContain(createdElsewhere));
+  }
+
+  @Test
+  void testLoad_FailureKeepsNewIdsUnfiltered() {
+    when(taskRepositoryPort.streamAllIds())
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+    loader.load();
+
+    assertTrue(filter.mightContain(idCreated(Duration.ofDays(1))),
+        "The filter should not discard IDs before its first load");
+  }
+
+  private static String idCreated(Duration ago) {
+    return new ObjectId(Date.from(Instant.now().minus(ago))).toHexString();
+  }
+}
@@ -0,0 +1,55 @@
+package com.app.managertask.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TaskListIndexTest {
+
+  @Test
+  void testAppend_GrowsAcrossSegments() {
+    List<GetTaskResponse> tasks = IntStream.range(0, 5000)
+        .mapToObj(TaskListIndexTest::task)
+        .toList();
+
+    TaskListIndex index = TaskListIndex.of(tasks);
+
+    assertEquals(5000, index.size());
+    assertEquals(tasks, index.snapshot());
+  }
+
+  @Test
+  void testAppend_IgnoresDuplicates() {
+    TaskListIndex index = TaskListIndex.of(List.of(task(1)));
+
+    assertFalse(index.append(task(1)));
+    assertTrue(index.append(task(2)));
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  void testSnapshot_IsNotAffectedByLaterAppends() {
+    TaskListIndex index = TaskListIndex.of(List.of(task(1)));
+
+    List<GetTaskResponse> snapshot = index.snapshot();
+    index.append(task(2));
+
+    assertEquals(1, snapshot.size());
+    assertEquals(2, index.snapshot().size());
+    assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1));
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.add(task(3)));
+  }
+
+  private static GetTaskResponse task(int id) {
+    return GetTaskResponse.builder()
+        .id(String.valueOf(id))
+        .title("Task " + id)
+        .build();
+  }
+}
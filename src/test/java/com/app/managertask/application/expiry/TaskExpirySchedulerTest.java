@@ -0,0 +1,130 @@
+package com.app.managertask.application.expiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExpirySchedulerTest {
+
+  private static final Duration TICK = Duration.ofMillis(100);
+  private static final Duration HORIZON = Duration.ofSeconds(10);
+
+  @Mock
+  private TaskRepositoryPort taskRepositoryPort;
+
+  @Mock
+  private TaskExpiryListener failingListener;
+
+  private final List<ExpiredTask> expiredTasks = new ArrayList<>();
+
+  private TaskExpiryScheduler scheduler;
+
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    now = System.currentTimeMillis();
+    scheduler = new TaskExpiryScheduler(taskRepositoryPort,
+        List.of(failingListener, expiredTasks::addAll), Runnable::run, true, TICK, HORIZON);
+  }
+
+  @Test
+  void testAdvance_LoadsWindowAndNotifiesExpiredTasks() {
+    Task task = task(now + 1_000);
+    when(taskRepositoryPort.streamDueDates(any())).thenReturn(Stream.of(task));
+    doThrow(new IllegalStateException("Listener failure"))
+        .when(failingListener).onTasksExpired(any());
+
+    scheduler.advanceTo(now);
+
+    ArgumentCaptor<DueDateRange> range = ArgumentCaptor.forClass(DueDateRange.class);
+    verify(taskRepositoryPort).streamDueDates(range.capture());
+    assertEquals(dateTime(now), range.getValue().getFrom());
+    assertEquals(dateTime(now + HORIZON.toMillis()), range.getValue().getTo());
+    assertEquals(1, scheduler.getPendingCount());
+
+    scheduler.advanceTo(now + 500);
+    assertTrue(expiredTasks.isEmpty(), "Task should not expire before its due date");
+
+    scheduler.advanceTo(now + 1_200);
+    assertEquals(List.of(new ExpiredTask(task.getId(), task.getDueDate())), expiredTasks,
+        "A failing listener should not prevent the others from being notified");
+  }
+
+  @Test
+  void testSchedule_OnlyAddsTasksWithinLoadedWindow() {
+    when(taskRepositoryPort.streamDueDates(any())).thenAnswer(invocation -> Stream.empty());
+    scheduler.advanceTo(now);
+
+    Task withinWindow = task(now + 1_000);
+    scheduler.schedule(List.of(withinWindow, task(now + HORIZON.toMillis() * 2),
+        task(now - 1_000)));
+
+    assertEquals(1, scheduler.getPendingCount(),
+        "Tasks beyond the window are loaded with it and past tasks are ignored");
+    scheduler.advanceTo(now + 2_000);
+    assertEquals(List.of(withinWindow.getId()),
+        expiredTasks.stream().map(ExpiredTask::getId).toList());
+  }
+
+  @Test
+  void testAdvance_LoadsNextWindowAfterHalfOfTheCurrentOne() {
+    when(taskRepositoryPort.streamDueDates(any())).thenAnswer(invocation -> Stream.empty());
+    scheduler.advanceTo(now);
+    scheduler.advanceTo(now + HORIZON.toMillis() / 2);
+
+    ArgumentCaptor<DueDateRange> ranges = ArgumentCaptor.forClass(DueDateRange.class);
+    verify(taskRepositoryPort, times(2)).streamDueDates(ranges.capture());
+    DueDateRange next = ranges.getAllValues().get(1);
+    assertEquals(dateTime(now + HORIZON.toMillis()), next.getFrom(),
+        "The next window should start where the previous one ended");
+    assertEquals(dateTime(now + HORIZON.toMillis() * 3 / 2), next.getTo());
+  }
+
+  @Test
+  void testLoad_FailureKeepsTasksOutOfTheWheelUntilRetried() {
+    when(taskRepositoryPort.streamDueDates(any()))
+        .thenThrow(new IllegalStateException("Database unavailable"));
+
+    scheduler.advanceTo(now);
+    scheduler.schedule(task(now + 1_000));
+
+    assertEquals(0, scheduler.getPendingCount(),
+        "Without a loaded window the task is left for the retried load");
+  }
+
+  private Task task(long dueMillis) {
+    return Task.builder()
+        .id(new ObjectId().toHexString())
+        .title("Expiring task")
+        .dueDate(dateTime(dueMillis))
+        .build();
+  }
+
+  private static LocalDateTime dateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+}
@@ -0,0 +1,64 @@
+package com.app.managertask.application.expiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+  @Test
+  void testAdvance_ExpiresOnFirstTickAfterDeadline() {
+    TimingWheel<String> wheel = new TimingWheel<>(10, 0);
+
+    assertTrue(wheel.add("task", 25));
+
+    assertTrue(wheel.advance(29).isEmpty(), "Task should not expire before the next tick");
+    List<TimingWheel.Expired<String>> expired = wheel.advance(30);
+    assertEquals(List.of(new TimingWheel.Expired<>("task", 25)), expired);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void testAdd_RejectsPastDeadlines() {
+    TimingWheel<String> wheel = new TimingWheel<>(10, 100);
+
+    assertFalse(wheel.add("past", 95), "A deadline in the current tick has already passed");
+    assertTrue(wheel.add("next", 100));
+    assertEquals(1, wheel.size());
+  }
+
+  @Test
+  void testAdvance_CascadesAcrossLevels() {
+    TimingWheel<Integer> wheel = new TimingWheel<>(1, 0);
+    Random random = new Random(42);
+    Map<Integer, Long> deadlines = new HashMap<>();
+    for (int item = 0; item < 10_000; item++) {
+      long deadline = random.nextInt(300_000);
+      deadlines.put(item, deadline);
+      assertTrue(wheel.add(item, deadline));
+    }
+
+    long previous = 0;
+    int expiredCount = 0;
+    while (previous < 300_001) {
+      long now = previous + 1 + random.nextInt(5_000);
+      for (TimingWheel.Expired<Integer> expired : wheel.advance(now)) {
+        long deadline = deadlines.get(expired.item());
+        assertEquals(deadline, expired.deadlineMillis());
+        assertTrue(deadline >= previous && deadline < now,
+            "Item due at " + deadline + " expired advancing from " + previous + " to " + now);
+        expiredCount++;
+      }
+      previous = now;
+    }
+
+    assertEquals(deadlines.size(), expiredCount, "Every item should expire exactly once");
+    assertEquals(0, wheel.size());
+  }
+}
@@ -0,0 +1,222 @@
+package com.app.managertask.application.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.application.cache.NoOpTaskIdFilter;
+import com.app.managertask.application.cache.TaskAccessCounter;
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIngestQueueTest {
+
+  @Mock
+  private TaskRepositoryPort taskRepositoryPort;
+
+  @Mock
+  private TaskExpiryScheduler taskExpiryScheduler;
+
+  @TempDir
+  private Path directory;
+
+  private TaskCache taskCache;
+
+  private TaskIngestQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    taskCache = new TaskCache(new ConcurrentMapCacheManager(TaskCache.TASKS_CACHE,
+        TaskCache.TASK_CACHE, TaskCache.MISSING_TASK_CACHE, TaskCache.STALE_TASK_CACHE),
+        new NoOpTaskIdFilter(), new TaskAccessCounter(0));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (queue != null) {
+      queue.stop();
+    }
+  }
+
+  @Test
+  void testSubmit_RejectedWhenNotStarted() {
+    queue = queue(10, 10);
+
+    assertFalse(queue.submit(task()));
+  }
+
+  @Test
+  void testSubmit_WritesInBatchesAndFlushesOnStop() {
+    when(taskRepositoryPort.saveAll(anyList()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    queue = queue(100, 10);
+    queue.start();
+
+    List<Task> tasks = List.of(task(), task(), task());
+    tasks.forEach(task -> assertTrue(queue.submit(task)));
+    queue.stop();
+
+    verify(taskRepositoryPort).saveAll(tasks);
+    verify(taskExpiryScheduler).schedule(tasks);
+    assertEquals(0, queue.getPendingCount());
+    assertTrue(taskCache.getTask(tasks.get(0).getId(), () -> {
+      throw new AssertionError("Saved task should be cached");
+    }).isPresent());
+  }
+
+  @Test
+  void testSubmit_PendingUntilWrittenAndRejectedWhenFull() throws InterruptedException {
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(taskRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> {
+      writing.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return invocation.getArgument(0);
+    });
+    queue = queue(1, 1);
+    queue.start();
+
+    Task first = task();
+    Task second = task();
+    assertTrue(queue.submit(first));
+    assertTrue(writing.await(5, TimeUnit.SECONDS));
+    assertTrue(queue.submit(second));
+    assertFalse(queue.submit(task()), "A full queue should reject tasks");
+    assertEquals(first, queue.getPending(first.getId()).orElseThrow());
+    assertEquals(second, queue.getPending(second.getId()).orElseThrow());
+
+    release.countDown();
+    verify(taskRepositoryPort, timeout(5000)).saveAll(List.of(second));
+  }
+
+  @Test
+  void testWrite_RetriesFailedTasks() throws InterruptedException {
+    Task task = task();
+    when(taskRepositoryPort.saveAll(anyList())).thenReturn(List.of());
+    queue = queue(10, 10);
+
+    for (int attempt = 1; attempt < TaskIngestQueue.MAX_WRITE_ATTEMPTS; attempt++) {
+      queue.write(List.of(task));
+      assertEquals(List.of(task), queue.nextBatch(), "Failed task should be retried");
+    }
+    queue.write(List.of(task));
+
+    assertTrue(queue.nextBatch().isEmpty(), "Task should be dropped after the last attempt");
+  }
+
+  @Test
+  void testWrite_RetriesOutagesWithoutLimit() throws InterruptedException {
+    Task task = task();
+    when(taskRepositoryPort.saveAll(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+    queue = queue(10, 10);
+
+    for (int attempt = 0; attempt < TaskIngestQueue.MAX_WRITE_ATTEMPTS * 2; attempt++) {
+      queue.write(List.of(task));
+      assertEquals(List.of(task), queue.nextBatch(), "Task should be kept while the write fails");
+    }
+  }
+
+  @Test
+  void testStop_SpillsUnsavedTasksAndRequeuesThemOnStart() throws Exception {
+    Task task = task();
+    when(taskRepositoryPort.saveAll(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+    queue = queue(10, 10, Duration.ofMillis(100));
+    queue.start();
+    assertTrue(queue.submit(task));
+    queue.stop();
+
+    assertTrue(Files.exists(spillFile()), "Unsaved tasks should be kept on disk");
+
+    reset(taskRepositoryPort);
+    when(taskRepositoryPort.saveAll(anyList()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    queue = queue(10, 10);
+    queue.start();
+
+    assertEquals(task, queue.getPending(task.getId()).orElseThrow());
+    verify(taskRepositoryPort, timeout(5000)).saveAll(List.of(task));
+    queue.stop();
+    assertEquals(0, queue.getPendingCount());
+    assertFalse(Files.exists(spillFile()));
+  }
+
+  @Test
+  void testStart_KeepsSpillFileUntilItsTasksAreWritten() throws Exception {
+    Task task = task();
+    when(taskRepositoryPort.saveAll(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+    queue = queue(10, 10, Duration.ofMillis(100));
+    queue.start();
+    assertTrue(queue.submit(task));
+    queue.stop();
+
+    AtomicBoolean available = new AtomicBoolean();
+    reset(taskRepositoryPort);
+    when(taskRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> {
+      if (!available.get()) {
+        throw new DataAccessResourceFailureException("Connection refused");
+      }
+      return invocation.getArgument(0);
+    });
+    queue = queue(10, 10, Duration.ofSeconds(10));
+    queue.start();
+    verify(taskRepositoryPort, timeout(5000).atLeast(3)).saveAll(List.of(task));
+    assertTrue(Files.exists(spillFile()),
+        "Replayed tasks should stay on disk while the database is unavailable");
+
+    available.set(true);
+    queue.stop();
+
+    assertEquals(0, queue.getPendingCount());
+    assertFalse(Files.exists(spillFile()), "The spill file should be deleted once written");
+  }
+
+  private TaskIngestQueue queue(int capacity, int batchSize) {
+    return queue(capacity, batchSize, Duration.ofSeconds(5));
+  }
+
+  private TaskIngestQueue queue(int capacity, int batchSize, Duration shutdownTimeout) {
+    return new TaskIngestQueue(taskRepositoryPort, taskCache, taskExpiryScheduler, true, capacity,
+        batchSize, Duration.ofMillis(200), Duration.ofMillis(20), shutdownTimeout, spillFile());
+  }
+
+  private Path spillFile() {
+    return directory.resolve("ingest-spill.ndjson");
+  }
+
+  private static Task task() {
+    return Task.builder()
+        .id(new ObjectId().toHexString())
+        .title("Queued task")
+        .dueDate(LocalDateTime.now().plusDays(1))
+        .build();
+  }
+}
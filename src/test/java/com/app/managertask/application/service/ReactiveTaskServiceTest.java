@@ -0,0 +1,84 @@
+package com.app.managertask.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.ReactiveTaskRepositoryPort;
+import com.app.managertask.infrastructure.exception.TaskNotFoundException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskServiceTest {
+
+  private static final String ID_TASK = "1";
+
+  @Mock
+  private ReactiveTaskRepositoryPort reactiveTaskRepositoryPort;
+
+  @InjectMocks
+  private ReactiveTaskService reactiveTaskService;
+
+  private Task task;
+
+  @BeforeEach
+  void setUp() {
+    task = Task.builder()
+        .id(ID_TASK)
+        .title("Test title task")
+        .description("Test description task")
+        .dueDate(LocalDateTime.now().plusDays(1))
+        .build();
+  }
+
+  @Test
+  void testCreateTask() {
+    CreateTaskRequest taskRequestDTO = new CreateTaskRequest();
+    taskRequestDTO.setTitle("Test title task");
+    taskRequestDTO.setDueDate(LocalDateTime.now().plusDays(1));
+    when(reactiveTaskRepositoryPort.save(any(Task.class))).thenReturn(Mono.just(task));
+
+    StepVerifier.create(reactiveTaskService.createTask(taskRequestDTO))
+        .expectNextMatches(response -> ID_TASK.equals(response.getId())
+            && "Task created successfully".equals(response.getMessage()))
+        .verifyComplete();
+  }
+
+  @Test
+  void testGetAllTasks_RespectsDemand() {
+    when(reactiveTaskRepositoryPort.findAll()).thenReturn(Flux.just(task, task, task));
+
+    StepVerifier.create(reactiveTaskService.getAllTasks(), 1)
+        .expectNextMatches(response -> "Active".equals(response.getStatus()))
+        .thenRequest(2)
+        .expectNextCount(2)
+        .verifyComplete();
+  }
+
+  @Test
+  void testGetTaskById() {
+    when(reactiveTaskRepositoryPort.findById(ID_TASK)).thenReturn(Mono.just(task));
+
+    StepVerifier.create(reactiveTaskService.getTaskById(ID_TASK))
+        .expectNextMatches(response -> ID_TASK.equals(response.getId()))
+        .verifyComplete();
+  }
+
+  @Test
+  void testGetTaskById_TaskNotFound() {
+    when(reactiveTaskRepositoryPort.findById(ID_TASK)).thenReturn(Mono.empty());
+
+    StepVerifier.create(reactiveTaskService.getTaskById(ID_TASK))
+        .verifyError(TaskNotFoundException.class);
+  }
+}
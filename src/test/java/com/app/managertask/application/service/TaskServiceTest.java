@@ -2,25 +2,55 @@ package com.app.managertask.application.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.app.managertask.application.cache.NoOpTaskIdFilter;
+import com.app.managertask.application.cache.TaskAccessCounter;
+import com.app.managertask.application.cache.TaskCache;
 import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.application.ingest.TaskIngestQueue;
+import com.app.managertask.application.dto.request.TaskPageRequest;
+import com.app.managertask.application.dto.response.CreateTaskBatchResponse;
 import com.app.managertask.application.dto.response.CreateTaskResponse;
 import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.dto.response.TaskLookupResponse;
+import com.app.managertask.application.dto.response.TaskPageResponse;
+import com.app.managertask.application.dto.response.TaskSummaryResponse;
 import com.app.managertask.application.mapper.TaskMapper;
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
 import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.domain.model.TaskPageQuery;
+import com.app.managertask.domain.model.TaskSortField;
 import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.exception.InvalidTaskBatchException;
+import com.app.managertask.infrastructure.exception.InvalidTaskQueryException;
+import com.app.managertask.infrastructure.exception.TaskIngestDisabledException;
+import com.app.managertask.infrastructure.exception.TaskIngestRejectedException;
 import com.app.managertask.infrastructure.exception.TaskNotFoundException;
+import com.app.managertask.infrastructure.exception.TaskRepositoryUnavailableException;
+import jakarta.validation.Validation;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
@@ -33,6 +63,8 @@ class TaskServiceTest {
   private static final String ID_TASK = "1";
   private static final String TASKS_CACHE = "tasksCache";
   private static final String TASK_CACHE = "taskCache";
+  private static final String MISSING_TASK_CACHE = "missingTaskCache";
+  private static final String STALE_TASK_CACHE = "staleTaskCache";
 
   @Mock
   private TaskRepositoryPort taskRepositoryPort;
@@ -40,16 +72,30 @@ class TaskServiceTest {
   @Mock
   private TaskMapper taskMapper;
 
-  @InjectMocks
+  @Mock
+  private TaskIngestQueue taskIngestQueue;
+
+  @Mock
+  private TaskExpiryScheduler taskExpiryScheduler;
+
   private TaskService taskService;
 
   private CacheManager cacheManager;
 
+
+  private TaskAccessCounter accessCounter;
+
   private Task task;
 
   @BeforeEach
   void setUp() {
-    cacheManager = new ConcurrentMapCacheManager(TASKS_CACHE, TASK_CACHE);
+    cacheManager = new ConcurrentMapCacheManager(TASKS_CACHE, TASK_CACHE, MISSING_TASK_CACHE,
+        STALE_TASK_CACHE);
+    accessCounter = new TaskAccessCounter(100);
+    taskService = new TaskService(taskRepositoryPort,
+        new TaskCache(cacheManager, new NoOpTaskIdFilter(), accessCounter),
+        Validation.buildDefaultValidatorFactory().getValidator(), taskIngestQueue,
+        taskExpiryScheduler);
 
     task = Task.builder()
         .id(ID_TASK)
@@ -81,7 +127,96 @@ class TaskServiceTest {
     assertNotNull(response);
     assertEquals(ID_TASK, response.getId());
     assertEquals("Task created successfully", response.getMessage());
+    verify(taskExpiryScheduler).schedule(task);
+  }
+
+  @Test
+  void testGetTasksVersion_ReadsTheRepository() {
+    TaskListVersion version = TaskListVersion.of(1, ID_TASK, null);
+    when(taskRepositoryPort.findListVersion(any(LocalDateTime.class))).thenReturn(version);
+
+    assertEquals(version, taskService.getTasksVersion());
+  }
+
+  @Test
+  void testCreateTaskAsync() {
+    CreateTaskRequest taskRequestDTO = new CreateTaskRequest();
+    taskRequestDTO.setTitle("Queued task");
+    taskRequestDTO.setDueDate(LocalDateTime.now().plusDays(1));
+    when(taskIngestQueue.isEnabled()).thenReturn(true);
+    when(taskIngestQueue.submit(any(Task.class))).thenReturn(true);
+
+    CreateTaskResponse response = taskService.createTaskAsync(taskRequestDTO);
+
+    ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+    verify(taskIngestQueue).submit(taskCaptor.capture());
+    assertEquals(taskCaptor.getValue().getId(), response.getId());
+    assertEquals("Task accepted", response.getMessage());
+    verifyNoInteractions(taskRepositoryPort);
+
+    when(taskIngestQueue.getPending(response.getId())).thenReturn(
+        Optional.of(taskCaptor.getValue()));
+    assertEquals("Queued task", taskService.getTaskById(response.getId()).getTitle());
+  }
+
+  @Test
+  void testCreateTaskAsync_QueueFull() {
+    when(taskIngestQueue.isEnabled()).thenReturn(true);
+    when(taskIngestQueue.submit(any(Task.class))).thenReturn(false);
 
+    assertThrows(TaskIngestRejectedException.class,
+        () -> taskService.createTaskAsync(new CreateTaskRequest()));
+  }
+
+  @Test
+  void testCreateTaskAsync_QueueDisabled() {
+    assertThrows(TaskIngestDisabledException.class,
+        () -> taskService.createTaskAsync(new CreateTaskRequest()));
+    verifyNoInteractions(taskRepositoryPort);
+  }
+
+  @Test
+  void testCreateTasks() {
+    CreateTaskRequest valid = new CreateTaskRequest();
+    valid.setTitle("Valid task");
+    valid.setDueDate(LocalDateTime.now().plusDays(1));
+    valid.setTags(new String[]{"import"});
+    CreateTaskRequest notSaved = new CreateTaskRequest();
+    notSaved.setTitle("Not saved task");
+    notSaved.setDueDate(LocalDateTime.now().plusDays(2));
+    CreateTaskRequest invalid = new CreateTaskRequest();
+    invalid.setTitle("Invalid task");
+    invalid.setDueDate(LocalDateTime.now().minusDays(1));
+
+    when(taskRepositoryPort.findAll()).thenReturn(Collections.singletonList(task));
+    taskService.getAllTasks();
+    when(taskRepositoryPort.saveAll(any())).thenAnswer(
+        invocation -> List.of(invocation.<List<Task>>getArgument(0).get(0)));
+
+    CreateTaskBatchResponse response = taskService.createTasks(
+        Arrays.asList(valid, invalid, notSaved, null));
+
+    assertEquals(1, response.getCreated());
+    assertEquals(3, response.getFailed());
+    assertEquals("Task created successfully", response.getResults().get(0).getMessage());
+    assertEquals("The date must be in the future.",
+        response.getResults().get(1).getErrors().get("dueDate"));
+    assertEquals("Task could not be saved", response.getResults().get(2).getMessage());
+    assertNull(response.getResults().get(2).getId());
+    assertEquals("Invalid task", response.getResults().get(3).getMessage());
+
+    String createdId = response.getResults().get(0).getId();
+    assertEquals(createdId, taskService.getTaskById(createdId).getId());
+    assertEquals(2, taskService.getAllTasks().size());
+    verify(taskRepositoryPort, times(1)).findAll();
+  }
+
+  @Test
+  void testCreateTasks_InvalidBatch() {
+    assertThrows(InvalidTaskBatchException.class, () -> taskService.createTasks(List.of()));
+    assertThrows(InvalidTaskBatchException.class, () -> taskService.createTasks(
+        Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, new CreateTaskRequest())));
+    verifyNoInteractions(taskRepositoryPort);
   }
 
   @Test
@@ -96,6 +231,90 @@ class TaskServiceTest {
 
   }
 
+  @Test
+  void testGetAllTasks_IsCached() {
+    when(taskRepositoryPort.findAll()).thenReturn(Collections.singletonList(task));
+
+    taskService.getAllTasks();
+    List<GetTaskResponse> tasks = taskService.getAllTasks();
+
+    assertEquals(1, tasks.size());
+    verify(taskRepositoryPort, times(1)).findAll();
+  }
+
+  @Test
+  void testGetAllTasks_RebuildsListWithTasksCreatedElsewhere() {
+    Task createdElsewhere = Task.builder()
+        .id("64f1c2a0e4b0a1b2c3d4e5f7")
+        .title("Created by another instance")
+        .dueDate(task.getDueDate())
+        .build();
+    when(taskRepositoryPort.findAll()).thenReturn(List.of(task), List.of(task, createdElsewhere));
+    taskService.getAllTasks();
+
+    List<GetTaskResponse> tasks = taskService.getAllTasks(
+        TaskListVersion.of(2, createdElsewhere.getId(), null));
+
+    assertEquals(2, tasks.size());
+    verify(taskRepositoryPort, times(2)).findAll();
+  }
+
+  @Test
+  void testGetTaskSummaries_UsesProjectionWhenListIsNotCached() {
+    when(taskRepositoryPort.findAllSummaries()).thenReturn(List.of(Task.builder()
+        .id(ID_TASK)
+        .title(task.getTitle())
+        .dueDate(task.getDueDate())
+        .build()));
+
+    List<TaskSummaryResponse> summaries = taskService.getTaskSummaries();
+
+    assertEquals(List.of(TaskSummaryResponse.builder()
+        .id(ID_TASK)
+        .title(task.getTitle())
+        .dueDate(task.getDueDate())
+        .status("Active")
+        .build()), summaries);
+    verify(taskRepositoryPort, never()).findAll();
+  }
+
+  @Test
+  void testGetTaskSummaries_UsesCachedTaskList() {
+    when(taskRepositoryPort.findAll()).thenReturn(Collections.singletonList(task));
+    taskService.getAllTasks();
+
+    List<TaskSummaryResponse> summaries = taskService.getTaskSummaries();
+
+    assertEquals(1, summaries.size());
+    assertEquals(ID_TASK, summaries.get(0).getId());
+    verify(taskRepositoryPort, never()).findAllSummaries();
+  }
+
+  @Test
+  void testCreateTask_UpdatesCachedTaskList() {
+    when(taskRepositoryPort.findAll()).thenReturn(Collections.singletonList(task));
+    taskService.getAllTasks();
+
+    Task newTask = Task.builder()
+        .id("2")
+        .title("New task")
+        .dueDate(LocalDateTime.now().plusDays(2))
+        .build();
+    when(taskRepositoryPort.save(any(Task.class))).thenReturn(newTask);
+
+    CreateTaskRequest taskRequestDTO = new CreateTaskRequest();
+    taskRequestDTO.setTitle("New task");
+    taskRequestDTO.setDueDate(newTask.getDueDate());
+    taskService.createTask(taskRequestDTO);
+
+    List<GetTaskResponse> tasks = taskService.getAllTasks();
+
+    assertEquals(2, tasks.size());
+    assertEquals("2", tasks.get(1).getId());
+    assertEquals("2", cacheManager.getCache(TASK_CACHE).get("2", GetTaskResponse.class).getId());
+    verify(taskRepositoryPort, times(1)).findAll();
+  }
+
   @Test
   void testGetTaskById() {
     when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.of(task));
@@ -106,10 +325,290 @@ class TaskServiceTest {
     assertEquals(ID_TASK, response.getId());
   }
 
+  @Test
+  void testGetTaskById_IsCached() {
+    when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.of(task));
+
+    taskService.getTaskById(ID_TASK);
+    GetTaskResponse response = taskService.getTaskById(ID_TASK);
+
+    assertEquals(ID_TASK, response.getId());
+    verify(taskRepositoryPort, times(1)).findById(ID_TASK);
+  }
+
+  @Test
+  void testGetTaskById_CachedTaskExpires() throws InterruptedException {
+    Task expiringTask = Task.builder()
+        .id(ID_TASK)
+        .title("Expiring task")
+        .dueDate(LocalDateTime.now().plusNanos(100_000_000))
+        .build();
+    when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.of(expiringTask));
+
+    assertEquals("Active", taskService.getTaskById(ID_TASK).getStatus());
+    Thread.sleep(200);
+
+    assertEquals("Expired", taskService.getTaskById(ID_TASK).getStatus());
+    verify(taskRepositoryPort, times(1)).findById(ID_TASK);
+  }
+
+  @Test
+  void testGetAllTasks_CachedTaskExpires() throws InterruptedException {
+    Task expiringTask = Task.builder()
+        .id(ID_TASK)
+        .title("Expiring task")
+        .dueDate(LocalDateTime.now().plusNanos(100_000_000))
+        .build();
+    when(taskRepositoryPort.findAll()).thenReturn(List.of(expiringTask));
+
+    assertEquals("Active", taskService.getAllTasks().get(0).getStatus());
+    Thread.sleep(200);
+
+    assertEquals("Expired", taskService.getAllTasks().get(0).getStatus());
+    verify(taskRepositoryPort, times(1)).findAll();
+  }
+
+  @Test
+  void testGetTaskById_ServesStaleTaskWhenDatabaseIsUnavailable() {
+    when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.of(task))
+        .thenThrow(new TaskRepositoryUnavailableException("Database unavailable", null));
+
+    taskService.getTaskById(ID_TASK);
+    cacheManager.getCache(TASK_CACHE).evict(ID_TASK);
+    GetTaskResponse response = taskService.getTaskById(ID_TASK);
+
+    assertEquals(ID_TASK, response.getId());
+    assertTrue(response.isStale(), "The last known task should be marked as stale");
+    assertEquals("Active", response.getStatus());
+  }
+
+  @Test
+  void testGetTaskById_DatabaseUnavailableWithoutStaleTask() {
+    when(taskRepositoryPort.findById(ID_TASK))
+        .thenThrow(new TaskRepositoryUnavailableException("Database unavailable", null));
+
+    assertThrows(TaskRepositoryUnavailableException.class,
+        () -> taskService.getTaskById(ID_TASK));
+  }
+
   @Test
   void testGetTaskById_TaskNotFound() {
     when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.empty());
 
     assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(ID_TASK));
   }
-}
\ No newline at end of file
+
+  @Test
+  void testStreamAllTasks() {
+    when(taskRepositoryPort.streamAll()).thenReturn(Stream.of(task));
+
+    try (Stream<GetTaskResponse> tasks = taskService.streamAllTasks()) {
+      List<GetTaskResponse> exported = tasks.toList();
+
+      assertEquals(1, exported.size());
+      assertEquals(ID_TASK, exported.get(0).getId());
+      assertEquals("Active", exported.get(0).getStatus());
+    }
+  }
+
+  @Test
+  void testGetTaskById_TaskNotFoundIsCached() {
+    when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.empty());
+
+    assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(ID_TASK));
+    assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(ID_TASK));
+
+    verify(taskRepositoryPort, times(1)).findById(ID_TASK);
+  }
+
+  @Test
+  void testGetTasksByIds_LoadsMissesInOneQueryAndReportsMissingIds() {
+    Task other = Task.builder()
+        .id("2")
+        .title("Other task")
+        .dueDate(LocalDateTime.now().minusDays(1))
+        .build();
+    when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.of(task));
+    when(taskRepositoryPort.findAllById(List.of("2", "3"))).thenReturn(List.of(other));
+    taskService.getTaskById(ID_TASK);
+
+    TaskLookupResponse response = taskService.getTasksByIds(List.of("2", ID_TASK, "3", "2", " "));
+
+    assertEquals(List.of("2", ID_TASK),
+        response.getTasks().stream().map(GetTaskResponse::getId).toList(),
+        "Tasks should follow the order of the requested IDs");
+    assertEquals("Expired", response.getTasks().get(0).getStatus());
+    assertEquals(List.of("3"), response.getMissingIds());
+
+    TaskLookupResponse cached = taskService.getTasksByIds(List.of(ID_TASK, "2", "3"));
+
+    assertEquals(2, cached.getTasks().size());
+    assertEquals(List.of("3"), cached.getMissingIds());
+    verify(taskRepositoryPort, times(1)).findAllById(any());
+  }
+
+  @Test
+  void testGetTaskById_CountsAccessesToExistingTasks() {
+    Task other = Task.builder()
+        .id("2")
+        .title("Other task")
+        .dueDate(LocalDateTime.now().plusDays(1))
+        .build();
+    when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.of(task));
+    when(taskRepositoryPort.findById("3")).thenReturn(Optional.empty());
+    when(taskRepositoryPort.findAllById(List.of("2"))).thenReturn(List.of(other));
+
+    taskService.getTaskById(ID_TASK);
+    taskService.getTaskById(ID_TASK);
+    taskService.getTasksByIds(List.of("2", ID_TASK));
+    assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById("3"));
+
+    assertEquals(List.of(ID_TASK, "2"), accessCounter.hottest(10));
+  }
+
+  @Test
+  void testGetTasksByIds_InvalidRequest() {
+    List<String> tooManyIds = IntStream.range(0, TaskService.MAX_LOOKUP_SIZE + 1)
+        .mapToObj(String::valueOf)
+        .toList();
+
+    assertThrows(InvalidTaskQueryException.class, () -> taskService.getTasksByIds(null));
+    assertThrows(InvalidTaskQueryException.class, () -> taskService.getTasksByIds(List.of(" ")));
+    assertThrows(InvalidTaskQueryException.class, () -> taskService.getTasksByIds(tooManyIds));
+    verifyNoInteractions(taskRepositoryPort);
+  }
+
+  @Test
+  void testGetTaskById_TaskNotFoundHasNoStackTrace() {
+    when(taskRepositoryPort.findById(ID_TASK)).thenReturn(Optional.empty());
+
+    TaskNotFoundException exception = assertThrows(TaskNotFoundException.class,
+        () -> taskService.getTaskById(ID_TASK));
+
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  void testGetTasksPage_LastPage() {
+    when(taskRepositoryPort.findPage(any(TaskPageQuery.class)))
+        .thenReturn(Collections.singletonList(task));
+
+    TaskPageResponse page = taskService.getTasksPage(TaskPageRequest.builder().limit(10).build());
+
+    assertEquals(1, page.getTasks().size());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void testGetTasksPage_NextPageUsesCursor() {
+    List<Task> tasks = IntStream.range(0, 3)
+        .mapToObj(i -> Task.builder()
+            .id("id-" + i)
+            .title("Test title task " + i)
+            .dueDate(task.getDueDate())
+            .build())
+        .toList();
+    when(taskRepositoryPort.findPage(any(TaskPageQuery.class)))
+        .thenReturn(tasks, tasks.subList(2, 3));
+
+    TaskPageResponse first = taskService.getTasksPage(TaskPageRequest.builder()
+        .sort("dueDate")
+        .limit(2)
+        .build());
+
+    assertEquals(2, first.getTasks().size());
+    assertNotNull(first.getNextCursor());
+
+    TaskPageResponse second = taskService.getTasksPage(TaskPageRequest.builder()
+        .sort("dueDate")
+        .cursor(first.getNextCursor())
+        .limit(2)
+        .build());
+
+    assertEquals(1, second.getTasks().size());
+    assertEquals("id-2", second.getTasks().get(0).getId());
+    assertNull(second.getNextCursor());
+
+    ArgumentCaptor<TaskPageQuery> queryCaptor = ArgumentCaptor.forClass(TaskPageQuery.class);
+    verify(taskRepositoryPort, times(2)).findPage(queryCaptor.capture());
+    TaskPageQuery secondQuery = queryCaptor.getAllValues().get(1);
+    assertEquals(TaskSortField.DUE_DATE, secondQuery.getSortBy());
+    assertEquals("id-1", secondQuery.getAfterId());
+    assertEquals(task.getDueDate(), secondQuery.getAfterDueDate());
+    assertEquals(3, secondQuery.getLimit());
+  }
+
+  @Test
+  void testGetTasksPage_FilterByStatusAndDueDate() {
+    LocalDateTime dueTo = LocalDateTime.now().plusDays(7);
+    when(taskRepositoryPort.findPageByDueDate(any(DueDateRange.class), any(TaskPageQuery.class)))
+        .thenReturn(Collections.singletonList(task));
+
+    TaskPageResponse page = taskService.getTasksPage(TaskPageRequest.builder()
+        .status("active")
+        .dueTo(dueTo)
+        .build());
+
+    ArgumentCaptor<DueDateRange> rangeCaptor = ArgumentCaptor.forClass(DueDateRange.class);
+    ArgumentCaptor<TaskPageQuery> queryCaptor = ArgumentCaptor.forClass(TaskPageQuery.class);
+    verify(taskRepositoryPort).findPageByDueDate(rangeCaptor.capture(), queryCaptor.capture());
+
+    assertEquals(1, page.getTasks().size());
+    assertNotNull(rangeCaptor.getValue().getFrom());
+    assertEquals(dueTo, rangeCaptor.getValue().getTo());
+    assertEquals(TaskSortField.DUE_DATE, queryCaptor.getValue().getSortBy());
+  }
+
+  @Test
+  void testGetTasksPage_EmptyDueDateRange() {
+    TaskPageResponse page = taskService.getTasksPage(TaskPageRequest.builder()
+        .status("Expired")
+        .dueFrom(LocalDateTime.now().plusDays(1))
+        .build());
+
+    assertTrue(page.getTasks().isEmpty());
+    assertNull(page.getNextCursor());
+    verifyNoInteractions(taskRepositoryPort);
+  }
+
+  @Test
+  void testGetTasksByTags_AllTagsByDefault() {
+    when(taskRepositoryPort.findByTags(List.of("work", "urgent"), TagMatch.ALL))
+        .thenReturn(Collections.singletonList(task));
+
+    List<GetTaskResponse> tasks = taskService.getTasksByTags(List.of("work", "urgent"), null);
+
+    assertEquals(1, tasks.size());
+    assertEquals(ID_TASK, tasks.get(0).getId());
+  }
+
+  @Test
+  void testGetTasksByTags_AnyTag() {
+    when(taskRepositoryPort.findByTags(List.of("work", "home"), TagMatch.ANY))
+        .thenReturn(Collections.singletonList(task));
+
+    List<GetTaskResponse> tasks = taskService.getTasksByTags(List.of("work", " ", "home"), "ANY");
+
+    assertEquals(1, tasks.size());
+  }
+
+  @Test
+  void testGetTasksByTags_InvalidRequest() {
+    assertThrows(InvalidTaskQueryException.class,
+        () -> taskService.getTasksByTags(List.of(" "), null));
+    assertThrows(InvalidTaskQueryException.class,
+        () -> taskService.getTasksByTags(List.of("work"), "some"));
+  }
+
+  @Test
+  void testGetTasksPage_InvalidRequest() {
+    assertThrows(InvalidTaskQueryException.class,
+        () -> taskService.getTasksPage(TaskPageRequest.builder().limit(0).build()));
+    assertThrows(InvalidTaskQueryException.class,
+        () -> taskService.getTasksPage(TaskPageRequest.builder().sort("title").build()));
+    assertThrows(InvalidTaskQueryException.class,
+        () -> taskService.getTasksPage(TaskPageRequest.builder().cursor("not-a-token").build()));
+    assertThrows(InvalidTaskQueryException.class,
+        () -> taskService.getTasksPage(TaskPageRequest.builder().status("Done").build()));
+  }
+}
@@ -0,0 +1,140 @@
+package com.app.managertask.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.app.managertask.application.cache.NoOpTaskIdFilter;
+import com.app.managertask.application.cache.TaskAccessCounter;
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.expiry.TaskExpiryScheduler;
+import com.app.managertask.application.ingest.TaskIngestQueue;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.cache.CacheEntryCounters;
+import com.app.managertask.infrastructure.config.CacheConfig;
+import com.app.managertask.infrastructure.config.TaskCacheProperties;
+import com.app.managertask.infrastructure.config.TaskCacheProperties.CacheSpec;
+import jakarta.validation.Validation;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Comprueba que los caminos principales de {@link TaskService} no fijan el hilo portador cuando se
+ * ejecutan en hilos virtuales: las esperas a la base de datos, a una carga agrupada o a un
+ * cerrojo no deben producirse dentro de un bloque {@code synchronized}.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String APPLICATION_PACKAGE = "com.app.managertask.";
+  private static final int CALLS = 200;
+
+  @Test
+  void testHotPathsDoNotPinCarrierThreads() throws Exception {
+    TaskCacheProperties properties = new TaskCacheProperties();
+    List.of(TaskCache.TASKS_CACHE, TaskCache.TASK_CACHE, TaskCache.MISSING_TASK_CACHE,
+        TaskCache.STALE_TASK_CACHE)
+        .forEach(name -> properties.getCaches().put(name, new CacheSpec()));
+    CacheConfig cacheConfig = new CacheConfig();
+
+    try (javax.cache.CacheManager jCacheManager = cacheConfig.jCacheManager(properties,
+        new CacheEntryCounters())) {
+      TaskRepositoryPort repository = slowRepository();
+      TaskCache taskCache = new TaskCache(cacheConfig.cacheManager(jCacheManager),
+          new NoOpTaskIdFilter(), new TaskAccessCounter(0));
+      TaskExpiryScheduler expiryScheduler = new TaskExpiryScheduler(repository, List.of(),
+          Runnable::run, false, Duration.ofSeconds(1), Duration.ofHours(1));
+      TaskService taskService = new TaskService(repository, taskCache,
+          Validation.buildDefaultValidatorFactory().getValidator(),
+          new TaskIngestQueue(repository, taskCache, expiryScheduler, false, 1, 1,
+              Duration.ZERO, Duration.ZERO, Duration.ZERO, Path.of("ingest-spill.ndjson")),
+          expiryScheduler);
+
+      exercise(taskService, 0);
+
+      Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+      try (Recording recording = new Recording()) {
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("pinning-test-");
+        executor.setVirtualThreads(true);
+        CompletableFuture.allOf(IntStream.range(0, CALLS)
+                .mapToObj(call -> CompletableFuture.runAsync(() -> exercise(taskService, call),
+                    executor))
+                .toArray(CompletableFuture[]::new))
+            .get(30, TimeUnit.SECONDS);
+
+        recording.stop();
+        recording.dump(dump);
+      }
+
+      List<RecordedEvent> pinned = RecordingFile.readAllEvents(dump).stream()
+          .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+          .filter(VirtualThreadPinningTest::inApplicationCode)
+          .toList();
+      Files.deleteIfExists(dump);
+
+      assertTrue(pinned.isEmpty(), () -> "Carrier threads pinned: " + pinned);
+    }
+  }
+
+  private static void exercise(TaskService taskService, int call) {
+    CreateTaskRequest createTaskRequest = new CreateTaskRequest();
+    createTaskRequest.setTitle("Task " + call);
+    createTaskRequest.setDueDate(LocalDateTime.now().plusDays(1));
+    createTaskRequest.setTags(new String[]{"tag" + call % 10});
+
+    String id = taskService.createTask(createTaskRequest).getId();
+    taskService.getTaskById(id);
+    taskService.getTaskById(new ObjectId().toHexString());
+    taskService.getAllTasks();
+  }
+
+  private static boolean inApplicationCode(RecordedEvent event) {
+    return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+        .anyMatch(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE));
+  }
+
+  /**
+   * Repositorio que simula la latencia de la base de datos durmiendo el hilo, lo que aparca el
+   * hilo virtual como lo haría una llamada de red.
+   */
+  private static TaskRepositoryPort slowRepository() {
+    return (TaskRepositoryPort) Proxy.newProxyInstance(TaskRepositoryPort.class.getClassLoader(),
+        new Class<?>[]{TaskRepositoryPort.class}, (proxy, method, args) -> {
+          Thread.sleep(2);
+          return switch (method.getName()) {
+            case "findById" -> Optional.of(task((String) args[0]));
+            case "findAll" -> List.of(task(new ObjectId().toHexString()));
+            case "save" -> task(new ObjectId().toHexString());
+            default -> throw new UnsupportedOperationException(method.getName());
+          };
+        });
+  }
+
+  private static Task task(String id) {
+    return Task.builder()
+        .id(id)
+        .title("Task " + id)
+        .dueDate(LocalDateTime.now().plusDays(1))
+        .build();
+  }
+}
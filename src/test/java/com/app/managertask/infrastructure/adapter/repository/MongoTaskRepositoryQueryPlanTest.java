@@ -0,0 +1,178 @@
+package com.app.managertask.infrastructure.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskPageQuery;
+import com.app.managertask.domain.model.TaskSortField;
+import com.app.managertask.infrastructure.adapter.repository.TaskIndexManager.Mode;
+import com.app.managertask.infrastructure.config.TaskRepositoryProperties;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Comprueba con {@code explain} que ninguna consulta del repositorio recorre la colección completa
+ * con los índices declarados en {@link Task}. Solo se admite un {@code COLLSCAN} en las consultas
+ * sin filtro ni orden, que leen todas las tareas por diseño. Se omite si Docker no está disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MongoTaskRepositoryQueryPlanTest {
+
+  private static final Set<String> PLAN_FIELDS = Set.of("find", "filter", "sort", "projection",
+      "limit", "skip", "hint");
+
+  @Container
+  private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+  private static final List<BsonDocument> QUERIES = new CopyOnWriteArrayList<>();
+
+  private static MongoClient mongoClient;
+  private static MongoTemplate mongoTemplate;
+
+  @BeforeAll
+  static void setUp() {
+    mongoClient = MongoClients.create(MongoClientSettings.builder()
+        .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl()))
+        .addCommandListener(new CommandListener() {
+          @Override
+          public void commandStarted(CommandStartedEvent event) {
+            if ("find".equals(event.getCommandName())) {
+              QUERIES.add(event.getCommand().clone());
+            }
+          }
+        })
+        .build());
+    mongoTemplate = new MongoTemplate(mongoClient, "manager-tasks");
+  }
+
+  @AfterAll
+  static void tearDown() {
+    mongoClient.close();
+  }
+
+  @Test
+  void testRepositoryQueriesUseIndexes() {
+    assertEquals(List.of(), new TaskIndexManager(mongoTemplate, Runnable::run, Mode.CREATE, true)
+        .manageIndexes(), "All declared indexes should be created");
+
+    LocalDateTime now = LocalDateTime.now();
+    List<Task> tasks = IntStream.range(0, 100)
+        .mapToObj(i -> Task.builder()
+            .id(new ObjectId().toHexString())
+            .title("Task " + i)
+            .dueDate(now.plusHours(i - 50))
+            .tags(i % 2 == 0 ? new String[] {"work", "task-" + i} : null)
+            .build())
+        .toList();
+    mongoTemplate.insertAll(tasks);
+    Task task = tasks.get(10);
+
+    MongoTaskRepository repository = new MongoTaskRepository(null, mongoTemplate,
+        new TaskRepositoryProperties());
+    QUERIES.clear();
+
+    repository.findById(task.getId());
+    repository.findAllById(List.of(task.getId(), tasks.get(20).getId()));
+    repository.findAll();
+    repository.findAllSummaries();
+    repository.findByTags(List.of("work", "task-10"), TagMatch.ALL);
+    repository.findByTags(List.of("task-10", "task-20"), TagMatch.ANY);
+    consume(repository.streamAll());
+    consume(repository.streamAllIds());
+    consume(repository.streamIdsCreatedSince(Instant.now().minusSeconds(60)));
+    consume(repository.streamDueDates(DueDateRange.of(now, now.plusHours(6))));
+    repository.findListVersion(now);
+    for (TaskSortField sortBy : TaskSortField.values()) {
+      repository.findPage(page(sortBy, null));
+      repository.findPage(page(sortBy, task));
+      repository.findPageByDueDate(DueDateRange.of(null, now), page(sortBy, null));
+      repository.findPageByDueDate(DueDateRange.of(now, null), page(sortBy, task));
+    }
+
+    List<String> collectionScans = new ArrayList<>();
+    for (BsonDocument query : QUERIES) {
+      if (isFullRead(query)) {
+        continue;
+      }
+      BsonDocument plan = explain(query).getDocument("queryPlanner").getDocument("winningPlan");
+      if (hasStage(plan, "COLLSCAN")) {
+        collectionScans.add(query.toJson());
+      }
+    }
+
+    assertEquals(12 + 4 * TaskSortField.values().length, QUERIES.size(),
+        "Every repository query should have been captured");
+    assertEquals(List.of(), collectionScans, "These queries scan the whole collection");
+  }
+
+  private static TaskPageQuery page(TaskSortField sortBy, Task after) {
+    return TaskPageQuery.builder()
+        .sortBy(sortBy)
+        .afterId(after != null ? after.getId() : null)
+        .afterDueDate(after != null ? after.getDueDate() : null)
+        .limit(10)
+        .build();
+  }
+
+  private static <T> void consume(Stream<T> stream) {
+    try (stream) {
+      stream.forEach(item -> { });
+    }
+  }
+
+  private static boolean isFullRead(BsonDocument query) {
+    return query.getDocument("filter", new BsonDocument()).isEmpty()
+        && query.getDocument("sort", new BsonDocument()).isEmpty();
+  }
+
+  private static BsonDocument explain(BsonDocument query) {
+    BsonDocument find = new BsonDocument();
+    query.forEach((field, value) -> {
+      if (PLAN_FIELDS.contains(field)) {
+        find.append(field, value);
+      }
+    });
+
+    return mongoTemplate.getDb().runCommand(new BsonDocument("explain", find)
+        .append("verbosity", new BsonString("queryPlanner")), BsonDocument.class);
+  }
+
+  private static boolean hasStage(BsonValue plan, String stage) {
+    if (plan.isDocument()) {
+      BsonDocument document = plan.asDocument();
+      if (new BsonString(stage).equals(document.get("stage"))) {
+        return true;
+      }
+      return document.values().stream().anyMatch(value -> hasStage(value, stage));
+    }
+    if (plan.isArray()) {
+      return plan.asArray().stream().anyMatch(value -> hasStage(value, stage));
+    }
+    return false;
+  }
+}
@@ -3,22 +3,51 @@ package com.app.managertask.infrastructure.adapter.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.app.managertask.domain.model.DueDateRange;
+import com.app.managertask.domain.model.TagMatch;
 import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.model.TaskListVersion;
+import com.app.managertask.domain.model.TaskPageQuery;
+import com.app.managertask.domain.model.TaskSortField;
+import com.app.managertask.infrastructure.config.TaskRepositoryProperties;
 import com.app.managertask.infrastructure.repository.MongoTaskRepositoryInterface;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 @ExtendWith(MockitoExtension.class)
 class MongoTaskRepositoryTest {
@@ -26,11 +55,20 @@ class MongoTaskRepositoryTest {
   @Mock
   private MongoTaskRepositoryInterface mongoTaskRepositoryInterface;
 
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Mock
+  private BulkOperations bulkOperations;
+
+  @Spy
+  private TaskRepositoryProperties properties = new TaskRepositoryProperties();
+
   @InjectMocks
   private MongoTaskRepository mongoTaskRepository;
 
   private Task task;
-  private final String taskId = "1";
+  private final String taskId = "66b34f1a2c1d4e0001a5b2c3";
 
   @BeforeEach
   void setUp() {
@@ -44,27 +82,39 @@ class MongoTaskRepositoryTest {
 
   @Test
   void testFindById() {
-    when(mongoTaskRepositoryInterface.findById(taskId)).thenReturn(Optional.of(task));
+    when(mongoTemplate.findOne(any(Query.class), eq(Task.class))).thenReturn(task);
 
     Optional<Task> foundTask = mongoTaskRepository.findById(taskId);
 
     assertTrue(foundTask.isPresent(), "Task should be found");
     assertEquals(taskId, foundTask.get().getId(), "Task ID should match");
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).findOne(queryCaptor.capture(), eq(Task.class));
+    assertEquals(500L, queryCaptor.getValue().getMeta().getMaxTimeMsec(),
+        "Point reads should be bounded by the point-read timeout");
   }
 
   @Test
   void testFindById_TaskNotFound() {
-    when(mongoTaskRepositoryInterface.findById(taskId)).thenReturn(Optional.empty());
+    when(mongoTemplate.findOne(any(Query.class), eq(Task.class))).thenReturn(null);
 
     Optional<Task> foundTask = mongoTaskRepository.findById(taskId);
 
     assertFalse(foundTask.isPresent(), "Task should not be found");
   }
 
+  @Test
+  void testFindById_MalformedIdSkipsDatabase() {
+    Optional<Task> foundTask = mongoTaskRepository.findById("not-an-object-id");
+
+    assertFalse(foundTask.isPresent(), "Task should not be found");
+    verifyNoInteractions(mongoTemplate);
+  }
+
   @Test
   void testFindAll() {
     List<Task> tasks = Collections.singletonList(task);
-    when(mongoTaskRepositoryInterface.findAll()).thenReturn(tasks);
+    when(mongoTemplate.find(any(Query.class), eq(Task.class))).thenReturn(tasks);
 
     List<Task> foundTasks = mongoTaskRepository.findAll();
 
@@ -73,6 +123,17 @@ class MongoTaskRepositoryTest {
     assertEquals(taskId, foundTasks.get(0).getId(), "Task ID should match");
   }
 
+  @Test
+  void testFindAllSummaries() {
+    mongoTaskRepository.findAllSummaries();
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).find(queryCaptor.capture(), eq(Task.class));
+
+    assertEquals(new Document("_id", 1).append("title", 1).append("dueDate", 1),
+        queryCaptor.getValue().getFieldsObject(), "Description and tags should not be read");
+  }
+
   @Test
   void testSave() {
     when(mongoTaskRepositoryInterface.save(task)).thenReturn(task);
@@ -83,4 +144,226 @@ class MongoTaskRepositoryTest {
     assertEquals(taskId, savedTask.getId(), "Task ID should match");
     verify(mongoTaskRepositoryInterface).save(task);
   }
-}
\ No newline at end of file
+
+  @Test
+  void testFindPage_FirstPage() {
+    when(mongoTemplate.find(any(Query.class), eq(Task.class)))
+        .thenReturn(Collections.singletonList(task));
+
+    List<Task> page = mongoTaskRepository.findPage(TaskPageQuery.builder()
+        .sortBy(TaskSortField.ID)
+        .limit(11)
+        .build());
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).find(queryCaptor.capture(), eq(Task.class));
+    Query query = queryCaptor.getValue();
+
+    assertEquals(1, page.size(), "Page should contain one task");
+    assertTrue(query.getQueryObject().isEmpty(), "First page should not filter");
+    assertEquals(11, query.getLimit(), "Limit should be applied");
+    assertEquals(1, query.getSortObject().getInteger("_id"), "Page should be sorted by ID");
+  }
+
+  @Test
+  void testFindPage_AfterDueDate() {
+    LocalDateTime dueDate = task.getDueDate();
+
+    mongoTaskRepository.findPage(TaskPageQuery.builder()
+        .sortBy(TaskSortField.DUE_DATE)
+        .afterId(taskId)
+        .afterDueDate(dueDate)
+        .limit(5)
+        .build());
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).find(queryCaptor.capture(), eq(Task.class));
+    Query query = queryCaptor.getValue();
+
+    assertTrue(query.getQueryObject().containsKey("$or"), "Keyset should compare dueDate and ID");
+    assertEquals(1, query.getSortObject().getInteger("dueDate"), "Page should be sorted by dueDate");
+    assertEquals(1, query.getSortObject().getInteger("_id"), "Ties should be sorted by ID");
+  }
+
+  @Test
+  void testFindPageByDueDate() {
+    LocalDateTime from = LocalDateTime.now();
+    LocalDateTime to = from.plusDays(7);
+
+    mongoTaskRepository.findPageByDueDate(DueDateRange.of(from, to), TaskPageQuery.builder()
+        .sortBy(TaskSortField.DUE_DATE)
+        .limit(5)
+        .build());
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).find(queryCaptor.capture(), eq(Task.class));
+    Document dueDate = queryCaptor.getValue().getQueryObject().get("dueDate", Document.class);
+
+    assertEquals(from, dueDate.get("$gte"), "Range should include the lower bound");
+    assertEquals(to, dueDate.get("$lt"), "Range should exclude the upper bound");
+  }
+
+  @Test
+  void testStreamDueDates() {
+    LocalDateTime from = LocalDateTime.now();
+    LocalDateTime to = from.plusHours(6);
+
+    mongoTaskRepository.streamDueDates(DueDateRange.of(from, to));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).stream(queryCaptor.capture(), eq(Task.class));
+    Query query = queryCaptor.getValue();
+    Document dueDate = query.getQueryObject().get("dueDate", Document.class);
+
+    assertEquals(from, dueDate.get("$gte"), "Range should include the lower bound");
+    assertEquals(to, dueDate.get("$lt"), "Range should exclude the upper bound");
+    assertEquals(new Document("_id", 1).append("dueDate", 1), query.getFieldsObject(),
+        "Only the ID and the due date should be read");
+  }
+
+  @Test
+  void testFindListVersion() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime expiredDueDate = now.minusHours(1);
+    when(mongoTemplate.estimatedCount(Task.class)).thenReturn(2L);
+    when(mongoTemplate.findOne(any(Query.class), eq(Task.class))).thenReturn(task,
+        Task.builder().id("66b34f1a2c1d4e0001a5b2c2").dueDate(expiredDueDate).build());
+
+    TaskListVersion version = mongoTaskRepository.findListVersion(now);
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate, times(2)).findOne(queryCaptor.capture(), eq(Task.class));
+    Query lastCreated = queryCaptor.getAllValues().get(0);
+    Query lastExpired = queryCaptor.getAllValues().get(1);
+
+    assertEquals(TaskListVersion.of(2, taskId, expiredDueDate), version);
+    assertEquals(new Document("_id", -1), lastCreated.getSortObject());
+    assertEquals(new Document("dueDate", new Document("$lt", now)),
+        lastExpired.getQueryObject(), "Only expired tasks should be considered");
+    assertEquals(new Document("dueDate", -1).append("_id", -1), lastExpired.getSortObject(),
+        "The dueDate_id index should be read backwards");
+  }
+
+  @Test
+  void testFindListVersion_EmptyCollection() {
+    when(mongoTemplate.estimatedCount(Task.class)).thenReturn(0L);
+
+    assertEquals(TaskListVersion.of(0, null, null),
+        mongoTaskRepository.findListVersion(LocalDateTime.now()));
+  }
+
+  @Test
+  void testFindByTags() {
+    mongoTaskRepository.findByTags(List.of("work", "urgent"), TagMatch.ALL);
+    mongoTaskRepository.findByTags(List.of("work", "urgent"), TagMatch.ANY);
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate, times(2)).find(queryCaptor.capture(), eq(Task.class));
+    Document all = queryCaptor.getAllValues().get(0).getQueryObject().get("tags", Document.class);
+    Document any = queryCaptor.getAllValues().get(1).getQueryObject().get("tags", Document.class);
+
+    assertEquals(List.of("work", "urgent"), all.get("$all"), "ALL should use $all");
+    assertEquals(List.of("work", "urgent"), any.get("$in"), "ANY should use $in");
+  }
+
+  @Test
+  void testFindAllById() {
+    when(mongoTemplate.find(any(Query.class), eq(Task.class))).thenReturn(List.of(task));
+
+    List<Task> tasks = mongoTaskRepository.findAllById(List.of(taskId, "not-an-object-id"));
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).find(queryCaptor.capture(), eq(Task.class));
+    Document id = queryCaptor.getValue().getQueryObject().get("_id", Document.class);
+
+    assertEquals(1, tasks.size());
+    assertEquals(List.of(taskId), id.get("$in"), "Malformed IDs should be discarded");
+  }
+
+  @Test
+  void testFindAllById_OnlyMalformedIdsSkipsDatabase() {
+    assertTrue(mongoTaskRepository.findAllById(List.of("not-an-object-id")).isEmpty());
+    verifyNoInteractions(mongoTemplate);
+  }
+
+  @Test
+  void testSaveAll_InsertsInChunks() {
+    List<Task> tasks = IntStream.range(0, 2500)
+        .mapToObj(i -> Task.builder().id(new ObjectId().toHexString()).build())
+        .toList();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Task.class)).thenReturn(bulkOperations);
+    when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+    List<Task> saved = mongoTaskRepository.saveAll(tasks);
+
+    verify(bulkOperations, times(3)).execute();
+    assertEquals(tasks, saved);
+  }
+
+  @Test
+  void testSaveAll_DiscardsRejectedTasks() {
+    List<Task> tasks = IntStream.range(0, 3)
+        .mapToObj(i -> Task.builder().id(new ObjectId().toHexString()).build())
+        .toList();
+    MongoBulkWriteException rejection = new MongoBulkWriteException(
+        BulkWriteResult.unacknowledged(),
+        List.of(new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1)),
+        null, new ServerAddress(), Set.of());
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Task.class)).thenReturn(bulkOperations);
+    when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenThrow(
+        new BulkOperationException("Bulk write failed", rejection));
+
+    List<Task> saved = mongoTaskRepository.saveAll(tasks);
+
+    assertEquals(List.of(tasks.get(0), tasks.get(2)), saved);
+  }
+
+  @Test
+  void testSaveAll_DuplicateIdsAreAlreadySaved() {
+    List<Task> tasks = IntStream.range(0, 2)
+        .mapToObj(i -> Task.builder().id(new ObjectId().toHexString()).build())
+        .toList();
+    MongoBulkWriteException rejection = new MongoBulkWriteException(
+        BulkWriteResult.unacknowledged(),
+        List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0)),
+        null, new ServerAddress(), Set.of());
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Task.class)).thenReturn(bulkOperations);
+    when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenThrow(
+        new BulkOperationException("Bulk write failed", rejection));
+
+    assertEquals(tasks, mongoTaskRepository.saveAll(tasks),
+        "A task inserted by an earlier attempt should count as saved");
+  }
+
+  @Test
+  void testSaveAll_PropagatesDatabaseFailures() {
+    List<Task> tasks = List.of(Task.builder().id(new ObjectId().toHexString()).build());
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Task.class)).thenReturn(bulkOperations);
+    when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenThrow(
+        new DataAccessResourceFailureException("Connection refused"));
+
+    assertThrows(DataAccessResourceFailureException.class,
+        () -> mongoTaskRepository.saveAll(tasks),
+        "An unavailable database should not be reported as rejected tasks");
+  }
+
+  @Test
+  void testSaveAll_ReturnsSavedChunksWhenALaterChunkFails() {
+    List<Task> tasks = IntStream.range(0, 1500)
+        .mapToObj(i -> Task.builder().id(new ObjectId().toHexString()).build())
+        .toList();
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Task.class)).thenReturn(bulkOperations);
+    when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    when(bulkOperations.execute())
+        .thenReturn(BulkWriteResult.unacknowledged())
+        .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+    List<Task> saved = mongoTaskRepository.saveAll(tasks);
+
+    assertEquals(tasks.subList(0, 1000), saved,
+        "Tasks of the committed chunk should be reported as saved");
+  }
+}
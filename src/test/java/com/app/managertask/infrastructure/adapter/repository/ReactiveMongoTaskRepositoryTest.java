@@ -0,0 +1,47 @@
+package com.app.managertask.infrastructure.adapter.repository;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.infrastructure.repository.ReactiveMongoTaskRepositoryInterface;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveMongoTaskRepositoryTest {
+
+  @Mock
+  private ReactiveMongoTaskRepositoryInterface reactiveMongoTaskRepositoryInterface;
+
+  @InjectMocks
+  private ReactiveMongoTaskRepository reactiveMongoTaskRepository;
+
+  @Test
+  void testFindById_MalformedIdSkipsDatabase() {
+    StepVerifier.create(reactiveMongoTaskRepository.findById("not-an-object-id"))
+        .verifyComplete();
+
+    verifyNoInteractions(reactiveMongoTaskRepositoryInterface);
+  }
+
+  @Test
+  void testFindAll_SortedById() {
+    Sort byId = Sort.by(Sort.Direction.ASC, "_id");
+    Task task = Task.builder().id("66b34f1a2c1d4e0001a5b2c3").build();
+    when(reactiveMongoTaskRepositoryInterface.findAll(byId)).thenReturn(Flux.just(task));
+
+    StepVerifier.create(reactiveMongoTaskRepository.findAll())
+        .expectNext(task)
+        .verifyComplete();
+
+    verify(reactiveMongoTaskRepositoryInterface).findAll(byId);
+  }
+}
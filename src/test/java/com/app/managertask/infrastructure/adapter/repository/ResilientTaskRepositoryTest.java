@@ -0,0 +1,104 @@
+package com.app.managertask.infrastructure.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.domain.port.output.TaskRepositoryPort;
+import com.app.managertask.infrastructure.exception.TaskRepositoryUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientTaskRepositoryTest {
+
+  private static final String ID_TASK = "1";
+
+  @Mock
+  private TaskRepositoryPort delegate;
+
+  private CircuitBreaker circuitBreaker;
+
+  private ResilientTaskRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+        .slidingWindowSize(2)
+        .minimumNumberOfCalls(2)
+        .failureRateThreshold(50)
+        .waitDurationInOpenState(Duration.ofMinutes(1))
+        .recordExceptions(DataAccessResourceFailureException.class,
+            QueryTimeoutException.class)
+        .build());
+    repository = new ResilientTaskRepository(delegate, circuitBreaker, Bulkhead.ofDefaults("test"));
+  }
+
+  @Test
+  void testFindById_DelegatesWhenClosed() {
+    Task task = Task.builder().id(ID_TASK).build();
+    when(delegate.findById(ID_TASK)).thenReturn(Optional.of(task));
+
+    assertEquals(Optional.of(task), repository.findById(ID_TASK));
+  }
+
+  @Test
+  void testFindById_TimeoutIsTranslated() {
+    when(delegate.findById(ID_TASK)).thenThrow(new QueryTimeoutException("maxTimeMS expired"));
+
+    assertThrows(TaskRepositoryUnavailableException.class, () -> repository.findById(ID_TASK));
+  }
+
+  @Test
+  void testFindById_OpenCircuitSkipsDatabase() {
+    when(delegate.findById(ID_TASK))
+        .thenThrow(new DataAccessResourceFailureException("No server available"));
+
+    assertThrows(TaskRepositoryUnavailableException.class, () -> repository.findById(ID_TASK));
+    assertThrows(TaskRepositoryUnavailableException.class, () -> repository.findById(ID_TASK));
+    assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+    assertThrows(TaskRepositoryUnavailableException.class, () -> repository.findById(ID_TASK));
+    verify(delegate, times(2)).findById(ID_TASK);
+  }
+
+  @Test
+  void testSave_OtherErrorsDoNotOpenCircuit() {
+    Task task = Task.builder().id(ID_TASK).build();
+    when(delegate.save(task)).thenThrow(new DuplicateKeyException("Duplicate ID"));
+
+    assertThrows(DuplicateKeyException.class, () -> repository.save(task));
+    assertThrows(DuplicateKeyException.class, () -> repository.save(task));
+
+    assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+  }
+
+  @Test
+  void testFindAll_FullBulkheadIsRejected() {
+    Bulkhead bulkhead = Bulkhead.of("full", BulkheadConfig.custom()
+        .maxConcurrentCalls(1)
+        .maxWaitDuration(Duration.ZERO)
+        .build());
+    bulkhead.acquirePermission();
+    repository = new ResilientTaskRepository(delegate, circuitBreaker, bulkhead);
+
+    assertThrows(TaskRepositoryUnavailableException.class, () -> repository.findAll());
+    verifyNoInteractions(delegate);
+  }
+}
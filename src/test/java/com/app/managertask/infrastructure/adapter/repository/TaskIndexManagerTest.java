@@ -0,0 +1,121 @@
+package com.app.managertask.infrastructure.adapter.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.domain.model.Task;
+import com.app.managertask.infrastructure.adapter.repository.TaskIndexManager.Mode;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIndexManagerTest {
+
+  private static final String DUE_DATE_INDEX = "dueDate_id";
+  private static final String TAGS_INDEX = "tags";
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Mock
+  private IndexOperations indexOps;
+
+  @BeforeEach
+  void setUp() {
+    MongoMappingContext mappingContext = new MongoMappingContext();
+    mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+    when(mongoTemplate.getConverter())
+        .thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+    when(mongoTemplate.indexOps(Task.class)).thenReturn(indexOps);
+  }
+
+  @Test
+  void testCreatesMissingIndexes() {
+    when(indexOps.getIndexInfo()).thenReturn(List.of(index("_id_"), index(DUE_DATE_INDEX)));
+
+    List<String> missing = manager(Mode.CREATE).manageIndexes();
+
+    assertTrue(missing.isEmpty());
+    verify(indexOps, times(1)).ensureIndex(any());
+    verify(indexOps).ensureIndex(argThat(index -> isNamed(index, TAGS_INDEX)
+        && index.getIndexOptions().getBoolean("sparse")));
+  }
+
+  @Test
+  void testVerifyReportsMissingIndexesWithoutCreatingThem() {
+    when(indexOps.getIndexInfo()).thenReturn(List.of(index("_id_")));
+
+    List<String> missing = manager(Mode.VERIFY).manageIndexes();
+
+    assertEquals(List.of(DUE_DATE_INDEX, TAGS_INDEX), missing.stream().sorted().toList());
+    verify(indexOps, never()).ensureIndex(any());
+  }
+
+  @Test
+  void testFailedIndexDoesNotStopTheOthers() {
+    when(indexOps.getIndexInfo()).thenReturn(List.of());
+    when(indexOps.ensureIndex(argThat(index -> isNamed(index, DUE_DATE_INDEX))))
+        .thenThrow(new UncategorizedMongoDbException("Index build failed", null));
+
+    List<String> missing = manager(Mode.CREATE).manageIndexes();
+
+    assertEquals(List.of(DUE_DATE_INDEX), missing);
+    verify(indexOps, times(2)).ensureIndex(any());
+  }
+
+  @Test
+  void testUnavailableDatabaseReportsAllIndexes() {
+    when(indexOps.getIndexInfo())
+        .thenThrow(new DataAccessResourceFailureException("No server available"));
+
+    List<String> missing = manager(Mode.CREATE).manageIndexes();
+
+    assertEquals(List.of(DUE_DATE_INDEX, TAGS_INDEX), missing.stream().sorted().toList());
+  }
+
+  @Test
+  void testRunsInBackgroundUnlessBlocking() {
+    when(indexOps.getIndexInfo()).thenReturn(List.of(index(DUE_DATE_INDEX), index(TAGS_INDEX)));
+    List<Runnable> submitted = new ArrayList<>();
+
+    new TaskIndexManager(mongoTemplate, submitted::add, Mode.CREATE, false).run(null);
+    verifyNoInteractions(indexOps);
+
+    submitted.forEach(Runnable::run);
+    verify(indexOps).getIndexInfo();
+  }
+
+  private TaskIndexManager manager(Mode mode) {
+    return new TaskIndexManager(mongoTemplate, Runnable::run, mode, true);
+  }
+
+  private static boolean isNamed(IndexDefinition index, String name) {
+    return name.equals(index.getIndexOptions().getString("name"));
+  }
+
+  private static IndexInfo index(String name) {
+    return new IndexInfo(List.of(), name, false, false, null);
+  }
+}
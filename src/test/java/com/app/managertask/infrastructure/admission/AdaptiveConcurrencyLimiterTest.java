@@ -0,0 +1,99 @@
+package com.app.managertask.infrastructure.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  @Test
+  void testTryAcquire_RejectsBeyondLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+
+    limiter.release();
+    assertTrue(limiter.tryAcquire());
+    assertEquals(2, limiter.getInFlight());
+  }
+
+  @Test
+  void testRelease_FastRequestsIncreaseLimitWhileInUse() {
+    AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 10);
+
+    for (int i = 0; i < 20; i++) {
+      limiter.tryAcquire();
+      limiter.tryAcquire();
+      limiter.tryAcquire();
+      limiter.release(System.nanoTime(), false);
+      limiter.release();
+      limiter.release();
+    }
+
+    assertTrue(limiter.getLimit() > 4, "The limit should grow additively");
+  }
+
+  @Test
+  void testRelease_IdleLimitDoesNotGrow() {
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+
+    for (int i = 0; i < 100; i++) {
+      limiter.tryAcquire();
+      limiter.release(System.nanoTime(), false);
+    }
+
+    assertEquals(10, limiter.getLimit());
+  }
+
+  @Test
+  void testRelease_SlowRequestDecreasesLimit() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+    limiter.tryAcquire();
+    long admittedAt = System.nanoTime();
+
+    Thread.sleep(150);
+    limiter.release(admittedAt, false);
+
+    assertEquals(9, limiter.getLimit());
+  }
+
+  @Test
+  void testRelease_OverloadDecreasesLimitOncePerCongestion() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100);
+    Thread.sleep(1);
+    limiter.tryAcquire();
+    limiter.tryAcquire();
+    long admittedAt = System.nanoTime();
+
+    limiter.release(admittedAt, true);
+    limiter.release(admittedAt, true);
+    assertEquals(9, limiter.getLimit(),
+        "Requests admitted before the last decrease should not decrease the limit again");
+
+    limiter.tryAcquire();
+    limiter.release(System.nanoTime(), true);
+    assertEquals(8, limiter.getLimit());
+  }
+
+  @Test
+  void testRelease_LimitStaysWithinBounds() throws InterruptedException {
+    AdaptiveConcurrencyLimiter limiter = limiter(2, 2, 3);
+    Thread.sleep(1);
+
+    limiter.tryAcquire();
+    limiter.release(System.nanoTime(), true);
+
+    assertEquals(2, limiter.getLimit());
+  }
+
+  private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit,
+      int maxLimit) {
+    return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+        Duration.ofMillis(100), 0.9);
+  }
+}
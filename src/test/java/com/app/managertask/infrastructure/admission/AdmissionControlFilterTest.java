@@ -0,0 +1,134 @@
+package com.app.managertask.infrastructure.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdmissionControlFilterTest {
+
+  private static final String CLIENT_HEADER = "X-Client-Id";
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdaptiveConcurrencyLimiter readLimiter;
+  private AdaptiveConcurrencyLimiter writeLimiter;
+  private AtomicInteger calls;
+  private FilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    readLimiter = new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofSeconds(1), 0.5);
+    writeLimiter = new AdaptiveConcurrencyLimiter(1, 1, 10, Duration.ofSeconds(1), 0.5);
+    calls = new AtomicInteger();
+    chain = (request, response) -> calls.incrementAndGet();
+  }
+
+  @Test
+  void testAdmitsAndReleasesRequest() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter(0).doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"), response, chain);
+
+    assertEquals(200, response.getStatus());
+    assertEquals(1, calls.get());
+    assertEquals(0, readLimiter.getInFlight());
+  }
+
+  @Test
+  void testRejectsWhenConcurrencyLimitIsReached() throws Exception {
+    writeLimiter.tryAcquire();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter(0).doFilter(new MockHttpServletRequest("POST", "/api/tasks"), response, chain);
+
+    assertEquals(503, response.getStatus());
+    assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    assertTrue(response.getContentAsString().contains("overloaded"));
+    assertEquals(0, calls.get());
+    assertEquals(1, rejected("write", "concurrency"));
+  }
+
+  @Test
+  void testReadsAndWritesHaveSeparateLimits() throws Exception {
+    writeLimiter.tryAcquire();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter(0).doFilter(new MockHttpServletRequest("POST", "/api/tasks/lookup"), response, chain);
+
+    assertEquals(200, response.getStatus(), "The multi-get endpoint is a read");
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testRejectsClientOverItsRate() throws Exception {
+    AdmissionControlFilter filter = filter(10);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+    request.addHeader(CLIENT_HEADER, "client-a");
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    filter.doFilter(request, rejected, chain);
+
+    MockHttpServletRequest otherClient = new MockHttpServletRequest("GET", "/api/tasks");
+    otherClient.addHeader(CLIENT_HEADER, "client-b");
+    MockHttpServletResponse admitted = new MockHttpServletResponse();
+    filter.doFilter(otherClient, admitted, chain);
+
+    assertEquals(429, rejected.getStatus());
+    assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER),
+        "The client should wait until its next token");
+    assertEquals(200, admitted.getStatus());
+    assertEquals(2, calls.get());
+    assertEquals(1, rejected("read", "rate"));
+  }
+
+  @Test
+  void testOverloadedResponseDecreasesLimit() throws Exception {
+    Thread.sleep(1);
+    FilterChain unavailable = (request, response) ->
+        ((MockHttpServletResponse) response).setStatus(503);
+
+    filter(0).doFilter(new MockHttpServletRequest("GET", "/api/tasks"),
+        new MockHttpServletResponse(), unavailable);
+
+    assertEquals(1, readLimiter.getLimit());
+    assertEquals(0, readLimiter.getInFlight());
+  }
+
+  @Test
+  void testIgnoresOtherEndpoints() throws Exception {
+    readLimiter.tryAcquire();
+    readLimiter.tryAcquire();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter(0).doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, chain);
+
+    assertEquals(200, response.getStatus());
+    assertNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+    assertEquals(1, calls.get());
+  }
+
+  private AdmissionControlFilter filter(int maxClients) {
+    return new AdmissionControlFilter(true, readLimiter, writeLimiter,
+        new ClientRateLimiter(1, 0.5, maxClients), new ClientRateLimiter(1, 0.5, maxClients),
+        CLIENT_HEADER, Duration.ofSeconds(1), meterRegistry);
+  }
+
+  private double rejected(String lane, String reason) {
+    return meterRegistry.get(AdmissionControlFilter.REJECTED)
+        .tag(AdmissionControlFilter.LANE_TAG, lane)
+        .tag(AdmissionControlFilter.REASON_TAG, reason)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,61 @@
+package com.app.managertask.infrastructure.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ClientRateLimiterTest {
+
+  @Test
+  void testTryAcquire_RejectsAfterBurst() {
+    ClientRateLimiter limiter = new ClientRateLimiter(2, 1, 10);
+
+    assertEquals(0, limiter.tryAcquire("a"));
+    assertEquals(0, limiter.tryAcquire("a"));
+
+    long waitNanos = limiter.tryAcquire("a");
+    assertTrue(waitNanos > 0 && waitNanos <= Duration.ofSeconds(1).toNanos(),
+        "The client should wait about one second for the next token");
+  }
+
+  @Test
+  void testTryAcquire_ClientsHaveSeparateBuckets() {
+    ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 10);
+
+    assertEquals(0, limiter.tryAcquire("a"));
+    assertEquals(0, limiter.tryAcquire("b"));
+    assertTrue(limiter.tryAcquire("a") > 0);
+  }
+
+  @Test
+  void testTryAcquire_RefillsOverTime() throws InterruptedException {
+    ClientRateLimiter limiter = new ClientRateLimiter(1, 100, 10);
+    limiter.tryAcquire("a");
+
+    Thread.sleep(50);
+
+    assertEquals(0, limiter.tryAcquire("a"));
+  }
+
+  @Test
+  void testTryAcquire_NewClientsShareBucketWhenFull() {
+    ClientRateLimiter limiter = new ClientRateLimiter(1, 0.001, 1);
+
+    assertEquals(0, limiter.tryAcquire("a"));
+    assertEquals(0, limiter.tryAcquire("b"));
+    assertTrue(limiter.tryAcquire("c") > 0, "Clients beyond the capacity share one bucket");
+    assertEquals(1, limiter.size());
+  }
+
+  @Test
+  void testTryAcquire_ZeroClientsDisablesLimit() {
+    ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 0);
+
+    for (int i = 0; i < 10; i++) {
+      assertEquals(0, limiter.tryAcquire("a"));
+    }
+    assertEquals(0, limiter.size());
+  }
+}
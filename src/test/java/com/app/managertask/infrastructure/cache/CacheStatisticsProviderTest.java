@@ -0,0 +1,91 @@
+package com.app.managertask.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.app.managertask.application.cache.NoOpTaskIdFilter;
+import com.app.managertask.application.cache.TaskAccessCounter;
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.dto.response.CacheStatisticsResponse;
+import com.app.managertask.infrastructure.config.CacheConfig;
+import com.app.managertask.infrastructure.config.TaskCacheProperties;
+import com.app.managertask.infrastructure.config.TaskCacheProperties.CacheSpec;
+import java.time.Duration;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.jcache.JCacheCacheManager;
+
+class CacheStatisticsProviderTest {
+
+  private static final String TASKS_CACHE = "tasksCache";
+  private static final String TASK_CACHE = "taskCache";
+
+  private CacheManager jCacheManager;
+  private CacheStatisticsProvider cacheStatisticsProvider;
+
+  @BeforeEach
+  void setUp() {
+    CacheSpec spec = new CacheSpec();
+    spec.setMaxEntries(2);
+    spec.setTimeToLive(Duration.ofMinutes(5));
+
+    TaskCacheProperties properties = new TaskCacheProperties();
+    properties.getCaches().put(TASKS_CACHE, new CacheSpec());
+    properties.getCaches().put(TASK_CACHE, spec);
+    properties.getCaches().put("missingTaskCache", new CacheSpec());
+    properties.getCaches().put("staleTaskCache", new CacheSpec());
+
+    jCacheManager = new CacheConfig().jCacheManager(properties, new CacheEntryCounters());
+    cacheStatisticsProvider = new CacheStatisticsProvider(jCacheManager,
+        new TaskCache(new JCacheCacheManager(jCacheManager), new NoOpTaskIdFilter(),
+            new TaskAccessCounter(0)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    jCacheManager.close();
+  }
+
+  @Test
+  void testGetStatistics() {
+    Cache<Object, Object> cache = jCacheManager.getCache(TASK_CACHE);
+    cache.put("1", "task 1");
+    cache.get("1");
+    cache.get("2");
+
+    CacheStatisticsResponse statistics = cacheStatisticsProvider.getStatistics(TASK_CACHE);
+
+    assertEquals(TASK_CACHE, statistics.getName());
+    assertEquals(1, statistics.getHits());
+    assertEquals(1, statistics.getMisses());
+    assertEquals(1, statistics.getPuts());
+  }
+
+  @Test
+  void testGetStatistics_Evictions() {
+    Cache<Object, Object> cache = jCacheManager.getCache(TASK_CACHE);
+    for (int i = 0; i < 10; i++) {
+      cache.put(String.valueOf(i), "task " + i);
+    }
+
+    CacheStatisticsResponse statistics = cacheStatisticsProvider.getStatistics(TASK_CACHE);
+
+    assertEquals(8, statistics.getEvictions());
+  }
+
+  @Test
+  void testCacheConfig_TtlAndTtiAreExclusive() {
+    CacheSpec spec = new CacheSpec();
+    spec.setTimeToLive(Duration.ofMinutes(5));
+    spec.setTimeToIdle(Duration.ofMinutes(1));
+
+    TaskCacheProperties properties = new TaskCacheProperties();
+    properties.getCaches().put(TASK_CACHE, spec);
+
+    assertThrows(IllegalStateException.class,
+        () -> new CacheConfig().jCacheManager(properties, new CacheEntryCounters()));
+  }
+}
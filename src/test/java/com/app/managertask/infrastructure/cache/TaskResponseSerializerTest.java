@@ -0,0 +1,90 @@
+package com.app.managertask.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.infrastructure.config.CacheConfig;
+import com.app.managertask.infrastructure.config.TaskCacheProperties;
+import com.app.managertask.infrastructure.config.TaskCacheProperties.CacheSpec;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.ehcache.spi.serialization.SerializerException;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class TaskResponseSerializerTest {
+
+  private final TaskResponseSerializer serializer = new TaskResponseSerializer();
+
+  @Test
+  void testRoundTrip() {
+    GetTaskResponse task = GetTaskResponse.builder()
+        .id("66b34f1a2c1d4e0001a5b2c3")
+        .title("Reunión de equipo")
+        .description("Preparar la agenda")
+        .dueDate(LocalDateTime.of(2024, 8, 15, 12, 30, 0, 123_456_789))
+        .tags(new String[] {"meeting", null, "añadir"})
+        .build();
+
+    ByteBuffer binary = serializer.serialize(task);
+
+    assertEquals(task, serializer.read(binary.duplicate()));
+    assertTrue(serializer.equals(task, binary.duplicate()));
+  }
+
+  @Test
+  void testRoundTrip_MissingFields() {
+    GetTaskResponse task = GetTaskResponse.builder()
+        .id("1")
+        .status("Active")
+        .build();
+
+    assertEquals(task, serializer.read(serializer.serialize(task)));
+  }
+
+  @Test
+  void testSerialize_RejectsOtherTypes() {
+    assertThrows(SerializerException.class, () -> serializer.serialize("task"));
+  }
+
+  @Test
+  void testOffHeapTierKeepsEntriesEvictedFromHeap() {
+    CacheSpec spec = new CacheSpec();
+    spec.setMaxEntries(1);
+    spec.setOffHeap(DataSize.ofMegabytes(1));
+    TaskCacheProperties properties = new TaskCacheProperties();
+    properties.getCaches().put(TaskCache.TASK_CACHE, spec);
+
+    try (CacheManager jCacheManager = new CacheConfig().jCacheManager(properties,
+        new CacheEntryCounters())) {
+      Cache<Object, Object> cache = jCacheManager.getCache(TaskCache.TASK_CACHE);
+      for (int i = 0; i < 100; i++) {
+        cache.put(String.valueOf(i), GetTaskResponse.builder()
+            .id(String.valueOf(i))
+            .title("Task " + i)
+            .build());
+      }
+
+      for (int i = 0; i < 100; i++) {
+        assertEquals("Task " + i, ((GetTaskResponse) cache.get(String.valueOf(i))).getTitle(),
+            "Tasks beyond the heap capacity should be kept off-heap");
+      }
+    }
+  }
+
+  @Test
+  void testOffHeapTierRequiresCompactSerializer() {
+    CacheSpec spec = new CacheSpec();
+    spec.setOffHeap(DataSize.ofMegabytes(1));
+    TaskCacheProperties properties = new TaskCacheProperties();
+    properties.getCaches().put(TaskCache.TASKS_CACHE, spec);
+
+    assertThrows(IllegalStateException.class,
+        () -> new CacheConfig().jCacheManager(properties, new CacheEntryCounters()));
+  }
+}
@@ -0,0 +1,43 @@
+package com.app.managertask.infrastructure.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+class WebConfigTest {
+
+  private final WebConfig.ExportTimeoutInterceptor interceptor =
+      new WebConfig.ExportTimeoutInterceptor();
+
+  @Test
+  void testExportHasNoTimeout() {
+    AsyncWebRequest request = request(WebConfig.EXPORT_PATTERN);
+
+    interceptor.beforeConcurrentHandling(request, () -> null);
+
+    verify(request).setTimeout(WebConfig.NO_TIMEOUT);
+  }
+
+  @Test
+  void testOtherRequestsKeepDefaultTimeout() {
+    AsyncWebRequest request = request("/api/tasks/{id}");
+
+    interceptor.beforeConcurrentHandling(request, () -> null);
+
+    verify(request, never()).setTimeout(any());
+  }
+
+  private static AsyncWebRequest request(String pattern) {
+    AsyncWebRequest request = mock(AsyncWebRequest.class);
+    when(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+        RequestAttributes.SCOPE_REQUEST)).thenReturn(pattern);
+    return request;
+  }
+}
@@ -0,0 +1,91 @@
+package com.app.managertask.infrastructure.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.response.CreateTaskResponse;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.domain.port.input.ReactiveTaskManagementUseCase;
+import com.app.managertask.infrastructure.exception.GlobalExceptionHandler;
+import com.app.managertask.infrastructure.exception.TaskNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTaskControllerTest {
+
+  @Mock
+  private ReactiveTaskManagementUseCase reactiveTaskManagementUseCase;
+
+  private WebTestClient webTestClient;
+
+  private GetTaskResponse getTaskResponse;
+
+  @BeforeEach
+  void setUp() {
+    webTestClient = WebTestClient
+        .bindToController(new ReactiveTaskController(reactiveTaskManagementUseCase))
+        .controllerAdvice(new GlobalExceptionHandler())
+        .build();
+
+    getTaskResponse = GetTaskResponse.builder()
+        .id("12345")
+        .title("Test Task")
+        .description("Test Description")
+        .build();
+  }
+
+  @Test
+  void testCreateTask() {
+    when(reactiveTaskManagementUseCase.createTask(any(CreateTaskRequest.class))).thenReturn(
+        Mono.just(CreateTaskResponse.builder().id("12345").build()));
+
+    webTestClient.post().uri("/api/tasks")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"title\":\"Test Task\",\"dueDate\":\"15/08/2099 12:30:00\"}")
+        .exchange()
+        .expectStatus().isCreated()
+        .expectBody().jsonPath("$.id").isEqualTo("12345");
+  }
+
+  @Test
+  void testCreateTask_InvalidRequest() {
+    webTestClient.post().uri("/api/tasks")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"title\":\"Test Task\"}")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody().jsonPath("$.dueDate").isEqualTo("Date cannot be null");
+  }
+
+  @Test
+  void testGetAllTasks_Ndjson() {
+    when(reactiveTaskManagementUseCase.getAllTasks()).thenReturn(
+        Flux.just(getTaskResponse, getTaskResponse));
+
+    webTestClient.get().uri("/api/tasks")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .expectBodyList(GetTaskResponse.class).hasSize(2);
+  }
+
+  @Test
+  void testGetTaskById_TaskNotFound() {
+    when(reactiveTaskManagementUseCase.getTaskById("12345")).thenReturn(
+        Mono.error(new TaskNotFoundException("Task not found with ID: 12345")));
+
+    webTestClient.get().uri("/api/tasks/12345")
+        .exchange()
+        .expectStatus().isNotFound();
+  }
+}
@@ -1,35 +1,82 @@
 package com.app.managertask.infrastructure.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.app.managertask.application.dto.request.CreateTaskRequest;
+import com.app.managertask.application.dto.request.TaskPageRequest;
+import com.app.managertask.application.dto.response.CreateTaskBatchItemResponse;
+import com.app.managertask.application.dto.response.CreateTaskBatchResponse;
 import com.app.managertask.application.dto.response.CreateTaskResponse;
 import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.application.dto.response.TaskLookupResponse;
+import com.app.managertask.application.dto.response.TaskPageResponse;
+import com.app.managertask.application.dto.response.TaskSummaryResponse;
+import com.app.managertask.domain.model.TaskListVersion;
 import com.app.managertask.domain.port.input.TaskManagementUseCase;
+import com.app.managertask.infrastructure.cache.TaskListResponseCache;
+import com.app.managertask.infrastructure.config.TaskCacheProperties;
 import com.app.managertask.infrastructure.exception.TaskNotFoundException;
+import com.app.managertask.infrastructure.exception.TaskRepositoryUnavailableException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskControllerTest {
 
+  private static final String LAST_ID = "64f1c2a0e4b0a1b2c3d4e5f6";
+  private static final TaskListVersion VERSION = TaskListVersion.of(3, LAST_ID, null);
+
   @InjectMocks
   private TaskController taskController;
 
   @Mock
   private TaskManagementUseCase taskManagementUseCase;
 
+  @Spy
+  private ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  @Spy
+  private TaskListResponseCache taskListResponseCache = new TaskListResponseCache(
+      new ConcurrentMapCacheManager(TaskListResponseCache.TASKS_JSON_CACHE), objectMapper,
+      new TaskCacheProperties());
+
   private CreateTaskRequest createTaskRequest;
   private CreateTaskResponse createTaskResponse;
   private GetTaskResponse getTaskResponse;
@@ -48,6 +95,8 @@ public class TaskControllerTest {
         .id("12345")
         .title("Test Task")
         .description("Test Description")
+        .dueDate(LocalDateTime.now().plusDays(1))
+        .status("Active")
         .build();
   }
 
@@ -64,16 +113,249 @@ public class TaskControllerTest {
   }
 
   @Test
-  void testGetAllTasks() {
-    when(taskManagementUseCase.getAllTasks()).thenReturn(
+  void testCreateTaskAsync() {
+    when(taskManagementUseCase.createTaskAsync(createTaskRequest)).thenReturn(createTaskResponse);
+
+    ResponseEntity<CreateTaskResponse> response = taskController.createTaskAsync(
+        createTaskRequest);
+
+    assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+    assertEquals(createTaskResponse, response.getBody());
+  }
+
+  @Test
+  void testCreateTasks() {
+    CreateTaskBatchResponse batchResponse = CreateTaskBatchResponse.builder()
+        .created(1)
+        .results(List.of(CreateTaskBatchItemResponse.builder()
+            .index(0)
+            .id("12345")
+            .message("Task created successfully")
+            .build()))
+        .build();
+    when(taskManagementUseCase.createTasks(List.of(createTaskRequest))).thenReturn(batchResponse);
+
+    ResponseEntity<CreateTaskBatchResponse> response = taskController.createTasks(
+        List.of(createTaskRequest));
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(batchResponse, response.getBody());
+  }
+
+  @Test
+  void testGetTasksByTags() {
+    when(taskManagementUseCase.getTasksByTags(List.of("work", "urgent"), "any")).thenReturn(
         Collections.singletonList(getTaskResponse));
 
-    ResponseEntity<List<GetTaskResponse>> response = taskController.getAllTasks();
+    ResponseEntity<List<GetTaskResponse>> response = taskController.getTasksByTags(
+        List.of("work", "urgent"), "any");
 
     assertEquals(HttpStatus.OK, response.getStatusCode());
-    assertEquals(1, response.getBody().size());
-    assertEquals(getTaskResponse, response.getBody().get(0));
-    verify(taskManagementUseCase).getAllTasks();
+    assertEquals(List.of(getTaskResponse), response.getBody());
+  }
+
+  @Test
+  void testGetTaskSummaries() {
+    TaskSummaryResponse summary = TaskSummaryResponse.builder()
+        .id("12345")
+        .title("Test Task")
+        .dueDate(getTaskResponse.getDueDate())
+        .status("Active")
+        .build();
+    when(taskManagementUseCase.getTaskSummaries()).thenReturn(List.of(summary));
+
+    ResponseEntity<List<TaskSummaryResponse>> response = taskController.getTaskSummaries();
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(List.of(summary), response.getBody());
+  }
+
+  @Test
+  void testGetAllTasks() throws Exception {
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION);
+    when(taskManagementUseCase.getAllTasks(VERSION)).thenReturn(
+        Collections.singletonList(getTaskResponse));
+
+    ResponseEntity<byte[]> response = taskController.getAllTasks(webRequest(null), null);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    assertEquals("\"tasks-3-" + LAST_ID + "-none\"", response.getHeaders().getETag());
+    JsonNode tasks = objectMapper.readTree(response.getBody());
+    assertEquals(1, tasks.size());
+    assertEquals(getTaskResponse.getId(), tasks.get(0).get("id").asText());
+    assertEquals("Active", tasks.get(0).get("status").asText());
+    verify(taskManagementUseCase).getAllTasks(VERSION);
+  }
+
+  @Test
+  void testGetAllTasks_ReusesSerializedListWhileVersionIsUnchanged() {
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION);
+    when(taskManagementUseCase.getAllTasks(VERSION)).thenReturn(
+        Collections.singletonList(getTaskResponse));
+
+    byte[] first = taskController.getAllTasks(webRequest(null), null).getBody();
+    byte[] second = taskController.getAllTasks(webRequest(null), null).getBody();
+
+    assertSame(first, second);
+    verify(taskManagementUseCase, times(1)).getAllTasks(VERSION);
+  }
+
+  @Test
+  void testGetAllTasks_NotModifiedWithoutLoadingTheList() {
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION);
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/tasks");
+    servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH,
+        taskListResponseCache.etagOf(VERSION, false));
+
+    ResponseEntity<byte[]> response = taskController.getAllTasks(
+        new ServletWebRequest(servletRequest, servletResponse), null);
+
+    assertNull(response);
+    assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+    verify(taskManagementUseCase, never()).getAllTasks(any(TaskListVersion.class));
+  }
+
+  @Test
+  void testGetAllTasks_EtagDoesNotDependOnTheInstance() {
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION);
+    when(taskManagementUseCase.getAllTasks(VERSION)).thenReturn(
+        Collections.singletonList(getTaskResponse));
+    TaskController otherInstance = new TaskController(taskManagementUseCase, objectMapper,
+        new TaskListResponseCache(
+            new ConcurrentMapCacheManager(TaskListResponseCache.TASKS_JSON_CACHE), objectMapper,
+            new TaskCacheProperties()));
+
+    String etag = taskController.getAllTasks(webRequest(null), null).getHeaders().getETag();
+
+    assertNull(otherInstance.getAllTasks(webRequest(etag), null));
+  }
+
+  @Test
+  void testGetAllTasks_ModifiedAfterTaskCreation() {
+    TaskListVersion created = TaskListVersion.of(4, "64f1c2a0e4b0a1b2c3d4e5f7", null);
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION, created);
+    when(taskManagementUseCase.getAllTasks(any(TaskListVersion.class))).thenReturn(
+        Collections.singletonList(getTaskResponse));
+    String etag = taskController.getAllTasks(webRequest(null), null).getHeaders().getETag();
+
+    ResponseEntity<byte[]> response = taskController.getAllTasks(webRequest(etag), null);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotEquals(etag, response.getHeaders().getETag());
+    verify(taskManagementUseCase).getAllTasks(created);
+  }
+
+  @Test
+  void testGetAllTasks_ModifiedAfterTaskExpires() throws Exception {
+    LocalDateTime dueDate = LocalDateTime.of(2030, 8, 15, 12, 30);
+    TaskListVersion expired = TaskListVersion.of(3, LAST_ID, dueDate);
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION, expired);
+    when(taskManagementUseCase.getAllTasks(VERSION)).thenReturn(List.of(getTaskResponse));
+    when(taskManagementUseCase.getAllTasks(expired)).thenReturn(
+        List.of(getTaskResponse.toBuilder().status("Expired").build()));
+    String etag = taskController.getAllTasks(webRequest(null), null).getHeaders().getETag();
+
+    ResponseEntity<byte[]> response = taskController.getAllTasks(webRequest(etag), null);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("\"tasks-3-" + LAST_ID + "-"
+            + Long.toHexString(dueDate.toInstant(ZoneOffset.UTC).toEpochMilli()) + "\"",
+        response.getHeaders().getETag());
+    assertEquals("Expired",
+        objectMapper.readTree(response.getBody()).get(0).get("status").asText());
+  }
+
+  @Test
+  void testGetAllTasks_ServesLastListWhileDatabaseIsUnavailable() {
+    TaskRepositoryUnavailableException unavailable = new TaskRepositoryUnavailableException(
+        "The task database is unavailable, please retry later", null);
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION).thenThrow(unavailable);
+    when(taskManagementUseCase.getAllTasks(VERSION)).thenReturn(
+        Collections.singletonList(getTaskResponse));
+    byte[] last = taskController.getAllTasks(webRequest(null), null).getBody();
+
+    ResponseEntity<byte[]> response = taskController.getAllTasks(webRequest(null), null);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getHeaders().getFirst(HttpHeaders.WARNING));
+    assertSame(last, response.getBody());
+  }
+
+  @Test
+  void testGetAllTasks_DatabaseUnavailableWithoutPreviousList() {
+    TaskRepositoryUnavailableException unavailable = new TaskRepositoryUnavailableException(
+        "The task database is unavailable, please retry later", null);
+    when(taskManagementUseCase.getTasksVersion()).thenThrow(unavailable);
+
+    assertSame(unavailable, assertThrows(TaskRepositoryUnavailableException.class,
+        () -> taskController.getAllTasks(webRequest(null), null)));
+  }
+
+  @Test
+  void testGetAllTasks_Gzip() throws Exception {
+    when(taskManagementUseCase.getTasksVersion()).thenReturn(VERSION);
+    when(taskManagementUseCase.getAllTasks(VERSION)).thenReturn(
+        Collections.singletonList(getTaskResponse));
+
+    ResponseEntity<byte[]> response = taskController.getAllTasks(webRequest(null),
+        "deflate, gzip;q=0.8");
+
+    assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    assertTrue(response.getHeaders().getETag().endsWith("-gzip\""));
+    try (GZIPInputStream gzip = new GZIPInputStream(
+        new ByteArrayInputStream(response.getBody()))) {
+      assertEquals(getTaskResponse.getId(),
+          objectMapper.readTree(gzip.readAllBytes()).get(0).get("id").asText());
+    }
+
+    ResponseEntity<byte[]> refused = taskController.getAllTasks(webRequest(null), "gzip;q=0");
+    assertNull(refused.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  void testExportTasks() throws Exception {
+    GetTaskResponse datedTask = GetTaskResponse.builder()
+        .id("67890")
+        .title("Dated Task")
+        .dueDate(LocalDateTime.of(2030, 8, 15, 12, 30))
+        .build();
+    when(taskManagementUseCase.streamAllTasks()).thenReturn(Stream.of(getTaskResponse, datedTask));
+
+    ResponseEntity<StreamingResponseBody> response = taskController.exportTasks();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    response.getBody().writeTo(output);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+    assertEquals(objectMapper.writeValueAsString(getTaskResponse) + "\n"
+            + objectMapper.writeValueAsString(datedTask) + "\n",
+        output.toString(StandardCharsets.UTF_8),
+        "Each task should be on its own line without separators");
+    assertTrue(output.toString(StandardCharsets.UTF_8)
+        .contains("\"dueDate\":\"15/08/2030 12:30:00\""));
+  }
+
+  @Test
+  void testGetTasksPage() {
+    TaskPageRequest pageRequest = TaskPageRequest.builder()
+        .sort("dueDate")
+        .cursor("cursor")
+        .limit(10)
+        .build();
+    TaskPageResponse pageResponse = TaskPageResponse.builder()
+        .tasks(Collections.singletonList(getTaskResponse))
+        .nextCursor("next")
+        .build();
+    when(taskManagementUseCase.getTasksPage(pageRequest)).thenReturn(pageResponse);
+
+    ResponseEntity<TaskPageResponse> response = taskController.getTasksPage("dueDate", "cursor",
+        10, null, null, null);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(pageResponse, response.getBody());
+    verify(taskManagementUseCase).getTasksPage(pageRequest);
   }
 
   @Test
@@ -87,6 +369,22 @@ public class TaskControllerTest {
     verify(taskManagementUseCase).getTaskById("12345");
   }
 
+  @Test
+  void testGetTasksByIds() {
+    TaskLookupResponse lookupResponse = TaskLookupResponse.builder()
+        .tasks(List.of(getTaskResponse))
+        .missingIds(List.of("67890"))
+        .build();
+    when(taskManagementUseCase.getTasksByIds(List.of("12345", "67890")))
+        .thenReturn(lookupResponse);
+
+    ResponseEntity<TaskLookupResponse> response = taskController.getTasksByIds(
+        List.of("12345", "67890"));
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(lookupResponse, response.getBody());
+  }
+
   @Test
   void testGetTaskById_TaskNotFound() {
 
@@ -99,4 +397,12 @@ public class TaskControllerTest {
 
     assertEquals("Task not found", thrownException.getMessage());
   }
-}
\ No newline at end of file
+
+  private static ServletWebRequest webRequest(String ifNoneMatch) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+    if (ifNoneMatch != null) {
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    return new ServletWebRequest(request, new MockHttpServletResponse());
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
 import java.time.DateTimeException;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,12 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @ExtendWith(MockitoExtension.class)
 class GlobalExceptionHandlerTest {
@@ -96,6 +99,68 @@ class GlobalExceptionHandlerTest {
     assertEquals("Task not found", response.getBody());
   }
 
+  @Test
+  void testHandleInvalidTaskQueryException() {
+
+    InvalidTaskQueryException ex = new InvalidTaskQueryException("Invalid continuation token");
+
+    ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleInvalidTaskQueryException(
+        ex);
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("Invalid continuation token", response.getBody().get("error"));
+  }
+
+  @Test
+  void testHandleInvalidTaskBatchException() {
+
+    InvalidTaskBatchException ex = new InvalidTaskBatchException("Empty batch");
+
+    ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleInvalidTaskBatchException(
+        ex);
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("Empty batch", response.getBody().get("error"));
+  }
+
+  @Test
+  void testHandleTaskIngestRejectedException() {
+
+    TaskIngestRejectedException ex = new TaskIngestRejectedException("Queue full");
+
+    ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleTaskIngestRejectedException(
+        ex);
+
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertEquals("Queue full", response.getBody().get("error"));
+  }
+
+  @Test
+  void testHandleTaskIngestDisabledException() {
+
+    TaskIngestDisabledException ex = new TaskIngestDisabledException("Disabled");
+
+    ResponseEntity<Map<String, String>> response =
+        globalExceptionHandler.handleTaskIngestDisabledException(ex);
+
+    assertEquals(HttpStatus.NOT_IMPLEMENTED, response.getStatusCode());
+    assertEquals("Disabled", response.getBody().get("error"));
+  }
+
+  @Test
+  void testHandleMethodArgumentTypeMismatchException() {
+
+    MethodArgumentTypeMismatchException ex = new MethodArgumentTypeMismatchException("2024-08-15",
+        LocalDateTime.class, "dueFrom", null, null);
+
+    ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleMethodArgumentTypeMismatchException(
+        ex);
+
+    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    assertEquals("Invalid value: 2024-08-15", response.getBody().get("dueFrom"));
+  }
+
   @Test
   void testHandleGeneralException() {
 
@@ -0,0 +1,89 @@
+package com.app.managertask.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.app.managertask.application.cache.NoOpTaskIdFilter;
+import com.app.managertask.application.cache.TaskAccessCounter;
+import com.app.managertask.application.cache.TaskCache;
+import com.app.managertask.application.dto.response.GetTaskResponse;
+import com.app.managertask.infrastructure.cache.CacheEntryCounters;
+import com.app.managertask.infrastructure.config.CacheConfig;
+import com.app.managertask.infrastructure.config.TaskCacheProperties;
+import com.app.managertask.infrastructure.config.TaskCacheProperties.CacheSpec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.jcache.JCacheCacheManager;
+
+class TaskCacheMetricsTest {
+
+  private CacheManager jCacheManager;
+  private TaskCache taskCache;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    CacheSpec spec = new CacheSpec();
+    spec.setMaxEntries(3);
+
+    TaskCacheProperties properties = new TaskCacheProperties();
+    properties.getCaches().put(TaskCache.TASKS_CACHE, new CacheSpec());
+    properties.getCaches().put(TaskCache.TASK_CACHE, spec);
+    properties.getCaches().put(TaskCache.MISSING_TASK_CACHE, new CacheSpec());
+    properties.getCaches().put(TaskCache.STALE_TASK_CACHE, new CacheSpec());
+
+    CacheEntryCounters entryCounters = new CacheEntryCounters();
+    jCacheManager = new CacheConfig().jCacheManager(properties, entryCounters);
+    taskCache = new TaskCache(new JCacheCacheManager(jCacheManager), new NoOpTaskIdFilter(),
+        new TaskAccessCounter(0));
+
+    meterRegistry = new SimpleMeterRegistry();
+    new TaskCacheMetrics(entryCounters, taskCache).bindTo(meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jCacheManager.close();
+  }
+
+  @Test
+  void testCacheSizeFollowsPutsRemovalsAndEvictions() {
+    Cache<Object, Object> cache = jCacheManager.getCache(TaskCache.TASK_CACHE);
+    cache.put("1", "task 1");
+    cache.put("1", "task 1 updated");
+    cache.put("2", "task 2");
+    assertEquals(2, cacheSize(TaskCache.TASK_CACHE));
+
+    cache.remove("2");
+    assertEquals(1, cacheSize(TaskCache.TASK_CACHE));
+
+    for (int i = 0; i < 10; i++) {
+      cache.put("task-" + i, "task " + i);
+    }
+    assertEquals(3, cacheSize(TaskCache.TASK_CACHE));
+  }
+
+  @Test
+  void testCacheLoads() {
+    GetTaskResponse task = GetTaskResponse.builder().id("1").build();
+    taskCache.getTask("1", () -> Optional.of(task));
+    taskCache.getTask("1", () -> Optional.of(task));
+
+    assertEquals(1, meterRegistry.get(TaskCacheMetrics.CACHE_LOADS)
+        .tag(TaskCacheMetrics.CACHE_TAG, TaskCache.TASK_CACHE)
+        .functionCounter()
+        .count());
+    assertEquals(1, cacheSize(TaskCache.TASK_CACHE));
+  }
+
+  private double cacheSize(String cacheName) {
+    return meterRegistry.get(TaskCacheMetrics.CACHE_SIZE)
+        .tag(TaskCacheMetrics.CACHE_TAG, cacheName)
+        .gauge()
+        .value();
+  }
+}
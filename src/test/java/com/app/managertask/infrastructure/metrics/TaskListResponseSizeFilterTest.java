@@ -0,0 +1,87 @@
+package com.app.managertask.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TaskListResponseSizeFilterTest {
+
+  private static final byte[] BODY = "[{\"id\":\"1\"}]".getBytes(StandardCharsets.UTF_8);
+
+  private SimpleMeterRegistry meterRegistry;
+  private TaskListResponseSizeFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    filter = new TaskListResponseSizeFilter(meterRegistry);
+  }
+
+  @Test
+  void testRecordsBytesWrittenToOutputStream() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    FilterChain chain = (request, servletResponse) ->
+        servletResponse.getOutputStream().write(BODY);
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), response, chain);
+
+    DistributionSummary sizes = responseSize("all");
+    assertEquals(1, sizes.count());
+    assertEquals(BODY.length, sizes.totalAmount());
+    assertEquals(BODY.length, response.getContentAsByteArray().length);
+  }
+
+  @Test
+  void testRecordsBytesWrittenToWriter() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+    request.addParameter("tag", "work");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    response.setCharacterEncoding("UTF-8");
+    FilterChain chain = (servletRequest, servletResponse) ->
+        servletResponse.getWriter().write("[\"añadir\"]");
+
+    filter.doFilter(request, response, chain);
+
+    assertEquals("[\"añadir\"]", response.getContentAsString());
+    assertEquals(11, responseSize("tag").totalAmount());
+  }
+
+  @Test
+  void testRecordsSummarySeparately() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+    request.addParameter("view", "summary");
+    FilterChain chain = (servletRequest, servletResponse) ->
+        servletResponse.getOutputStream().write(BODY);
+
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    assertEquals(BODY.length, responseSize("summary").totalAmount());
+    assertEquals(0, responseSize("all").count());
+  }
+
+  @Test
+  void testIgnoresOtherEndpoints() throws Exception {
+    FilterChain chain = (request, servletResponse) ->
+        servletResponse.getOutputStream().write(BODY);
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"),
+        new MockHttpServletResponse(), chain);
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/tasks"),
+        new MockHttpServletResponse(), chain);
+
+    assertEquals(0, responseSize("all").count());
+  }
+
+  private DistributionSummary responseSize(String query) {
+    return meterRegistry.get(TaskListResponseSizeFilter.RESPONSE_SIZE)
+        .tag(TaskListResponseSizeFilter.QUERY_TAG, query)
+        .summary();
+  }
+}